@@ -1,3 +0,0 @@
-public class Principal {
-    
-}
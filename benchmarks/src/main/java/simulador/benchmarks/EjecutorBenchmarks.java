@@ -0,0 +1,31 @@
+package simulador.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de los benchmarks.
+ * Acepta las mismas opciones que JMH (por ejemplo -p tamanoCola=1000) y añade
+ * siempre el perfilador GC para informar la tasa de asignación de memoria.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public final class EjecutorBenchmarks {
+    
+    private EjecutorBenchmarks() {
+    }
+    
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options opciones = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opciones).run();
+    }
+}
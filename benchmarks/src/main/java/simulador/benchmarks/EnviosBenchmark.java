@@ -0,0 +1,72 @@
+package simulador.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simulador.Proceso;
+import simulador.ReceptorEnvios;
+
+/**
+ * Benchmark de los envíos concurrentes: cuatro productores envían sin parar
+ * mientras un consumidor drena, como el hilo dueño del planificador.
+ * Mide envíos por microsegundo con cada política de admisión; las que
+ * bloquean quedan fuera para que el final de cada iteración no se detenga.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnviosBenchmark {
+    
+    @Param({"RECHAZAR", "EJECUTAR_EN_LLAMADOR"})
+    public ReceptorEnvios.Admision admision;
+    
+    @Param({"4096"})
+    public int capacidad;
+    
+    private ReceptorEnvios receptor;
+    private Proceso proceso;
+    private final List<Proceso> lote = new ArrayList<>();
+    
+    @Setup(Level.Iteration)
+    public void preparar() {
+        receptor = new ReceptorEnvios(capacidad, admision, Proceso::ejecutar);
+        proceso = new ProcesoSinEspera(0);
+    }
+    
+    @Benchmark
+    @Group("envios")
+    @GroupThreads(4)
+    public boolean enviar() {
+        return receptor.enviar(proceso);
+    }
+    
+    @Benchmark
+    @Group("envios")
+    @GroupThreads(1)
+    public int drenar() {
+        lote.clear();
+        return receptor.drenar(lote);
+    }
+}
@@ -0,0 +1,121 @@
+package simulador.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import simulador.PlanificadorProcesos;
+import simulador.Proceso;
+
+/**
+ * Benchmarks de los caminos críticos de PlanificadorProcesos.
+ * Cada benchmark se mide para colas de 10 a 10 millones de procesos; los
+ * procesos no duermen (ver {@link ProcesoSinEspera}).
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class PlanificadorBenchmark {
+    
+    @Param({"10", "1000", "100000", "10000000"})
+    public int tamanoCola;
+    
+    private Proceso[] procesos;
+    private PlanificadorProcesos planificador;
+    private PrintStream salidaOriginal;
+    private final StringBuilder pagina = new StringBuilder(100 * 80);
+    
+    @Setup(Level.Trial)
+    public void prepararProcesos() {
+        Proceso.configurarRangoPID(0, Integer.MAX_VALUE - 1);
+        procesos = new Proceso[tamanoCola];
+        for (int i = 0; i < tamanoCola; i++) {
+            procesos[i] = new ProcesoSinEspera(i);
+        }
+        planificador = new PlanificadorProcesos();
+        for (Proceso proceso : procesos) {
+            planificador.agregarProceso(proceso);
+        }
+        
+        // listarProcesos escribe en System.out: se descarta la salida
+        salidaOriginal = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+            
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+    }
+    
+    @TearDown(Level.Trial)
+    public void restaurarSalida() {
+        System.setOut(salidaOriginal);
+    }
+    
+    /**
+     * Llena un planificador vacío con toda la cola.
+     */
+    @Benchmark
+    public PlanificadorProcesos agregarProceso() {
+        PlanificadorProcesos nuevo = new PlanificadorProcesos();
+        for (Proceso proceso : procesos) {
+            nuevo.agregarProceso(proceso);
+        }
+        return nuevo;
+    }
+    
+    @Benchmark
+    public Object getColaProcesos() {
+        return planificador.getColaProcesos();
+    }
+    
+    @Benchmark
+    public int obtenerTiempoPromedioCola() {
+        return planificador.obtenerTiempoPromedioCola();
+    }
+    
+    @Benchmark
+    public void listarProcesos() {
+        planificador.listarProcesos();
+    }
+    
+    /**
+     * Escribe la última página de 100 procesos sobre un búfer reutilizado.
+     */
+    @Benchmark
+    public int listarPagina() throws IOException {
+        pagina.setLength(0);
+        return planificador.listarProcesos(pagina, Math.max(0, tamanoCola - 100), 100);
+    }
+    
+    @Benchmark
+    public void ejecutarTodosProcesos(Blackhole blackhole) {
+        planificador.ejecutarTodosProcesos();
+        blackhole.consume(planificador.getContadorEjecuciones());
+    }
+}
@@ -0,0 +1,52 @@
+package simulador.benchmarks;
+
+import simulador.Proceso;
+import simulador.ProcesoCPU;
+import simulador.ProcesoDemonio;
+import simulador.ProcesoES;
+
+/**
+ * Proceso sin esperas para benchmarks.
+ * Reproduce la forma de un proceso real (tipo, tiempo estimado, unidades de
+ * trabajo) pero su ejecución no duerme el hilo, de modo que los benchmarks
+ * miden solo el coste del planificador.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ProcesoSinEspera extends Proceso {
+    private static final String[] TIPOS = {ProcesoCPU.TIPO, ProcesoES.TIPO, ProcesoDemonio.TIPO};
+    
+    private final int tipo;
+    private final int tiempoEstimado;
+    private int ejecuciones;
+    
+    /**
+     * Constructor completo.
+     * @param indice Posición del proceso; determina su tipo y tiempo estimado
+     */
+    public ProcesoSinEspera(int indice) {
+        super("Benchmark-" + indice);
+        this.tipo = indice % TIPOS.length;
+        this.tiempoEstimado = 200 + (indice * 37) % 2000;
+    }
+    
+    @Override
+    public void ejecutar() {
+        ejecuciones++; // Sin Thread.sleep: solo se mide el planificador
+    }
+    
+    @Override
+    public String obtenerTipoProceso() {
+        return TIPOS[tipo];
+    }
+    
+    @Override
+    public int obtenerTiempoEjecucion() {
+        return tiempoEstimado;
+    }
+    
+    public int getEjecuciones() {
+        return ejecuciones;
+    }
+}
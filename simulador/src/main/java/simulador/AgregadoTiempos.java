@@ -0,0 +1,84 @@
+package simulador;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Agregado de Tiempos - Conteo, suma, mínimo y máximo de una serie de tiempos.
+ * Se actualiza de forma incremental en O(1) y es seguro entre hilos.
+ * La suma usa long para no desbordar con colas muy grandes.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class AgregadoTiempos {
+    private final AtomicLong cantidad = new AtomicLong();
+    private final AtomicLong suma = new AtomicLong();
+    private final AtomicLong minimo = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maximo = new AtomicLong(Long.MIN_VALUE);
+    
+    /**
+     * Registra un tiempo en el agregado.
+     * @param tiempo Tiempo en milisegundos
+     */
+    public void registrar(long tiempo) {
+        cantidad.incrementAndGet();
+        suma.addAndGet(tiempo);
+        minimo.accumulateAndGet(tiempo, Math::min);
+        maximo.accumulateAndGet(tiempo, Math::max);
+    }
+    
+    /**
+     * Registra de una vez un conjunto de tiempos ya resumido.
+     * @param cantidadLote Número de tiempos
+     * @param sumaLote Suma de los tiempos
+     * @param minimoLote Menor de los tiempos
+     * @param maximoLote Mayor de los tiempos
+     */
+    public void registrarLote(long cantidadLote, long sumaLote, long minimoLote, long maximoLote) {
+        if (cantidadLote <= 0) {
+            return;
+        }
+        cantidad.addAndGet(cantidadLote);
+        suma.addAndGet(sumaLote);
+        minimo.accumulateAndGet(minimoLote, Math::min);
+        maximo.accumulateAndGet(maximoLote, Math::max);
+    }
+    
+    /**
+     * Vuelve el agregado a su estado inicial.
+     */
+    public void reiniciar() {
+        cantidad.set(0);
+        suma.set(0);
+        minimo.set(Long.MAX_VALUE);
+        maximo.set(Long.MIN_VALUE);
+    }
+    
+    // Getters
+    public long getCantidad() {
+        return cantidad.get();
+    }
+    
+    public long getSuma() {
+        return suma.get();
+    }
+    
+    public long getMinimo() {
+        return cantidad.get() > 0 ? minimo.get() : 0;
+    }
+    
+    public long getMaximo() {
+        return cantidad.get() > 0 ? maximo.get() : 0;
+    }
+    
+    public double getPromedio() {
+        long total = cantidad.get();
+        return total > 0 ? (double) suma.get() / total : 0;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("n=%d, promedio=%.1f ms, min=%d ms, max=%d ms",
+                           getCantidad(), getPromedio(), getMinimo(), getMaximo());
+    }
+}
@@ -0,0 +1,223 @@
+package simulador;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Asignador de PID - Reparte identificadores de proceso sin bloqueos.
+ * Los PID nuevos salen de un contador atómico dentro de un rango configurable;
+ * los PID liberados se marcan en un mapa de bits y se reutilizan cuando el
+ * contador agota el rango, igual que hace un sistema Unix al dar la vuelta.
+ * El mapa de bits se divide en segmentos que se crean al liberar el primer PID
+ * de cada uno, así un rango grande no reserva memoria que no se usa.
+ * 
+ * Es seguro usarlo desde varios hilos: asignar un PID nuevo es un CAS sobre
+ * el contador, que nunca pasa de pidMaximo + 1, y la búsqueda de PID reciclados empieza en una posición
+ * distinta para cada hilo, de modo que los hilos no compiten por la misma palabra.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class AsignadorPID {
+    public static final int PID_MINIMO_POR_DEFECTO = 1000;
+    public static final int PID_MAXIMO_POR_DEFECTO = 4_194_304; // pid_max de Linux
+    
+    private static final int BITS_POR_SEGMENTO = 1 << 16;
+    private static final int PALABRAS_POR_SEGMENTO = BITS_POR_SEGMENTO / 64;
+    
+    private final int pidMinimo;
+    private final int pidMaximo;
+    private final AtomicInteger siguientePID;
+    private final AtomicReferenceArray<AtomicLongArray> liberados; // Un bit por PID del rango
+    private final AtomicInteger totalLiberados;
+    
+    /**
+     * Constructor con rango por defecto.
+     */
+    public AsignadorPID() {
+        this(PID_MINIMO_POR_DEFECTO, PID_MAXIMO_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param pidMinimo Primer PID asignable (incluido)
+     * @param pidMaximo Último PID asignable (incluido)
+     * @throws IllegalArgumentException si el rango es inválido
+     */
+    public AsignadorPID(int pidMinimo, int pidMaximo) {
+        this(pidMinimo, pidMaximo, pidMinimo);
+    }
+    
+    /**
+     * Constructor que continúa un contador existente, por ejemplo al restaurar
+     * un punto de control. Los PID anteriores al contador se consideran en uso.
+     * @param pidMinimo Primer PID asignable (incluido)
+     * @param pidMaximo Último PID asignable (incluido)
+     * @param siguientePID Próximo PID nuevo; pidMaximo + 1 si el rango ya se agotó
+     * @throws IllegalArgumentException si el rango o el contador son inválidos
+     */
+    public AsignadorPID(int pidMinimo, int pidMaximo, int siguientePID) {
+        if (pidMinimo < 0 || pidMaximo < pidMinimo || pidMaximo == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Rango de PID inválido: " + pidMinimo + "-" + pidMaximo);
+        }
+        if (siguientePID < pidMinimo || siguientePID > pidMaximo + 1) {
+            throw new IllegalArgumentException("Contador de PID fuera de rango: " + siguientePID);
+        }
+        this.pidMinimo = pidMinimo;
+        this.pidMaximo = pidMaximo;
+        this.siguientePID = new AtomicInteger(siguientePID);
+        this.liberados = new AtomicReferenceArray<>(
+                (int) (((long) pidMaximo - pidMinimo) / BITS_POR_SEGMENTO) + 1);
+        this.totalLiberados = new AtomicInteger();
+    }
+    
+    /**
+     * Asigna un PID libre.
+     * @return PID asignado
+     * @throws IllegalStateException si no queda ningún PID libre en el rango
+     */
+    public int asignar() {
+        // Camino rápido: PID nunca usado. El CAS solo avanza el contador dentro del rango
+        int pid = siguientePID.get();
+        while (pid <= pidMaximo) {
+            if (siguientePID.compareAndSet(pid, pid + 1)) {
+                return pid;
+            }
+            pid = siguientePID.get();
+        }
+        
+        // Rango agotado: reutilizar un PID liberado
+        while (totalLiberados.get() > 0) {
+            pid = tomarLiberado();
+            if (pid >= 0) {
+                totalLiberados.decrementAndGet();
+                return pid;
+            }
+        }
+        throw new IllegalStateException("No quedan PID libres en el rango " + pidMinimo + "-" + pidMaximo);
+    }
+    
+    /**
+     * Devuelve un PID al asignador para que pueda reutilizarse.
+     * @param pid PID a liberar
+     * @return true si se liberó, false si estaba fuera de rango o ya estaba libre
+     */
+    public boolean liberar(int pid) {
+        if (pid < pidMinimo || pid > pidMaximo || pid >= siguientePID.get()) {
+            return false;
+        }
+        int desplazamiento = pid - pidMinimo;
+        AtomicLongArray segmento = obtenerSegmento(desplazamiento / BITS_POR_SEGMENTO);
+        int palabra = (desplazamiento % BITS_POR_SEGMENTO) >>> 6;
+        long mascara = 1L << (desplazamiento & 63);
+        long actual;
+        do {
+            actual = segmento.get(palabra);
+            if ((actual & mascara) != 0) {
+                return false; // Doble liberación
+            }
+        } while (!segmento.compareAndSet(palabra, actual, actual | mascara));
+        totalLiberados.incrementAndGet();
+        return true;
+    }
+    
+    /**
+     * Busca y marca como ocupado un PID del mapa de bits.
+     * Cada hilo empieza a buscar en una palabra distinta para repartir la contención.
+     * @return PID tomado, o -1 si no se encontró ninguno en esta pasada
+     */
+    private int tomarLiberado() {
+        int segmentos = liberados.length();
+        int dispersion = (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 33);
+        int primerSegmento = dispersion % segmentos;
+        int primeraPalabra = dispersion % PALABRAS_POR_SEGMENTO;
+        for (int s = 0; s < segmentos; s++) {
+            int indiceSegmento = (primerSegmento + s) % segmentos;
+            AtomicLongArray segmento = liberados.get(indiceSegmento);
+            if (segmento == null) {
+                continue;
+            }
+            for (int n = 0; n < PALABRAS_POR_SEGMENTO; n++) {
+                int palabra = (primeraPalabra + n) % PALABRAS_POR_SEGMENTO;
+                long actual = segmento.get(palabra);
+                while (actual != 0) {
+                    long bit = Long.lowestOneBit(actual);
+                    if (segmento.compareAndSet(palabra, actual, actual & ~bit)) {
+                        return pidMinimo + indiceSegmento * BITS_POR_SEGMENTO
+                               + (palabra << 6) + Long.numberOfTrailingZeros(bit);
+                    }
+                    actual = segmento.get(palabra);
+                }
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Crea un asignador con el mismo contador y los mismos PID liberados pero
+     * un rango mayor, para cargas que no caben en el actual. Este asignador no
+     * debe usarse mientras se copia ni después.
+     * @param nuevoMaximo Último PID asignable del nuevo rango
+     * @return Asignador ampliado
+     * @throws IllegalArgumentException si el nuevo máximo no amplía el rango o es inválido
+     */
+    public AsignadorPID ampliar(int nuevoMaximo) {
+        if (nuevoMaximo < pidMaximo) {
+            throw new IllegalArgumentException("El rango solo puede ampliarse: " + nuevoMaximo);
+        }
+        AsignadorPID ampliado = new AsignadorPID(pidMinimo, nuevoMaximo, getSiguientePID());
+        for (int i = 0; i < liberados.length(); i++) {
+            AtomicLongArray segmento = liberados.get(i);
+            if (segmento != null) {
+                AtomicLongArray copia = ampliado.obtenerSegmento(i);
+                for (int palabra = 0; palabra < PALABRAS_POR_SEGMENTO; palabra++) {
+                    copia.set(palabra, segmento.get(palabra));
+                }
+            }
+        }
+        ampliado.totalLiberados.set(totalLiberados.get());
+        return ampliado;
+    }
+    
+    /**
+     * Obtiene un segmento del mapa de bits, creándolo si todavía no existe.
+     */
+    private AtomicLongArray obtenerSegmento(int indice) {
+        AtomicLongArray segmento = liberados.get(indice);
+        if (segmento == null) {
+            liberados.compareAndSet(indice, null, new AtomicLongArray(PALABRAS_POR_SEGMENTO));
+            segmento = liberados.get(indice);
+        }
+        return segmento;
+    }
+    
+    /**
+     * Número de PID que pueden asignarse todavía (nuevos más liberados).
+     */
+    public int getPIDsDisponibles() {
+        int nuevos = Math.max(0, pidMaximo - Math.min(siguientePID.get(), pidMaximo + 1) + 1);
+        return nuevos + totalLiberados.get();
+    }
+    
+    /**
+     * Próximo PID nuevo que se asignaría; pidMaximo + 1 si el rango está agotado.
+     */
+    public int getSiguientePID() {
+        return Math.min(siguientePID.get(), pidMaximo + 1);
+    }
+    
+    public int getPidMinimo() {
+        return pidMinimo;
+    }
+    
+    public int getPidMaximo() {
+        return pidMaximo;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("AsignadorPID{rango=%d-%d, disponibles=%d}",
+                           pidMinimo, pidMaximo, getPIDsDisponibles());
+    }
+}
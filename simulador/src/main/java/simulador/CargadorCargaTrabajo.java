@@ -0,0 +1,482 @@
+package simulador;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cargador de Carga de Trabajo - Lee definiciones de procesos desde archivo.
+ * Recorre el archivo con un FileChannel mapeado en memoria por ventanas, de
+ * modo que el contenido nunca se copia completo al heap, y entrega los
+ * procesos al planificador en lotes. Si el archivo puede traer más procesos
+ * de los que caben en el rango de PID actual, el rango se amplía antes de
+ * crear el primero.
+ * 
+ * Formatos admitidos (se detectan por la cabecera):
+ * - CSV: una línea por proceso con "tipo,nombre,descriptor,parametro", donde
+ *   tipo es CPU, ES o DEMONIO. Se ignoran líneas vacías, líneas que empiezan
+ *   con '#' y una cabecera opcional cuyo primer campo sea "tipo".
+ * - Binario: cabecera de 16 bytes (magia "CARG", versión, reservado y número
+ *   de registros) seguida de registros con tipo (1 byte), parámetro (4 bytes),
+ *   nombre y descriptor (2 bytes de longitud + UTF-8 cada uno), en big-endian.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class CargadorCargaTrabajo {
+    public static final int MAGIA_BINARIO = 0x43415247; // "CARG"
+    public static final short VERSION_BINARIO = 1;
+    public static final int TAMANO_LOTE_POR_DEFECTO = 4096;
+    public static final int TAMANO_VENTANA_POR_DEFECTO = 64 * 1024 * 1024;
+    
+    private static final int TAMANO_CABECERA = 16;
+    private static final int TAMANO_MINIMO_REGISTRO = 9;
+    private static final int TAMANO_MINIMO_LINEA = 7; // "ES,,,1" y el salto de línea
+    private static final int TAMANO_CACHE_DESCRIPTORES = 256;
+    
+    private final int tamanoLote;
+    private final int tamanoVentana;
+    
+    // Búfer auxiliar para decodificar textos y caché de descriptores repetidos
+    private byte[] auxiliar = new byte[256];
+    private final byte[][] bytesDescriptores = new byte[TAMANO_CACHE_DESCRIPTORES][];
+    private final String[] textosDescriptores = new String[TAMANO_CACHE_DESCRIPTORES];
+    
+    /**
+     * Formato de un archivo de carga de trabajo.
+     */
+    public enum Formato {
+        CSV, BINARIO
+    }
+    
+    /**
+     * Receptor de cada definición de proceso leída del archivo.
+     */
+    private interface Receptor {
+        void recibir(byte tipo, String nombre, String descriptor, int parametro);
+    }
+    
+    /**
+     * Constructor por defecto.
+     */
+    public CargadorCargaTrabajo() {
+        this(TAMANO_LOTE_POR_DEFECTO, TAMANO_VENTANA_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param tamanoLote Procesos entregados al planificador en cada lote
+     * @param tamanoVentana Bytes mapeados a la vez; debe superar la línea o registro más largo
+     */
+    public CargadorCargaTrabajo(int tamanoLote, int tamanoVentana) {
+        if (tamanoLote < 1 || tamanoVentana < TAMANO_CABECERA) {
+            throw new IllegalArgumentException("Tamaño de lote o de ventana inválido");
+        }
+        this.tamanoLote = tamanoLote;
+        this.tamanoVentana = tamanoVentana;
+    }
+    
+    /**
+     * Carga los procesos del archivo en el planificador, en lotes.
+     * @param archivo Archivo CSV o binario
+     * @param planificador Planificador que recibe los procesos
+     * @return Número de procesos cargados
+     * @throws IOException si el archivo no puede leerse o está mal formado
+     */
+    public long cargar(Path archivo, final PlanificadorProcesos planificador) throws IOException {
+        final List<Proceso> lote = new ArrayList<>(tamanoLote);
+        long total = recorrer(archivo, new Receptor() {
+            @Override
+            public void recibir(byte tipo, String nombre, String descriptor, int parametro) {
+                lote.add(crearProceso(tipo, nombre, descriptor, parametro));
+                if (lote.size() == tamanoLote) {
+                    planificador.agregarProcesos(lote);
+                    lote.clear();
+                }
+            }
+        });
+        planificador.agregarProcesos(lote);
+        return total;
+    }
+    
+    /**
+     * Carga los procesos del archivo directamente en columnas, sin crear objetos Proceso.
+     * @param archivo Archivo CSV o binario
+     * @param tabla Tabla que recibe las filas
+     * @return Número de procesos cargados
+     * @throws IOException si el archivo no puede leerse o está mal formado
+     */
+    public long cargarEnTabla(Path archivo, final TablaProcesos tabla) throws IOException {
+        return recorrer(archivo, new Receptor() {
+            @Override
+            public void recibir(byte tipo, String nombre, String descriptor, int parametro) {
+                tabla.agregarNuevo(tipo, nombre, descriptor, parametro);
+            }
+        });
+    }
+    
+    /**
+     * Escribe el contenido de una tabla en formato binario.
+     * @param tabla Tabla de procesos a guardar
+     * @param archivo Archivo de destino (se sobrescribe)
+     * @throws IOException si no se puede escribir
+     */
+    public static void escribirBinario(TablaProcesos tabla, Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+            buffer.putInt(MAGIA_BINARIO).putShort(VERSION_BINARIO).putShort((short) 0)
+                  .putLong(tabla.getTamano());
+            for (int fila = 0; fila < tabla.getTamano(); fila++) {
+                byte[] nombre = codificar(tabla.getNombre(fila));
+                byte[] descriptor = codificar(tabla.getDescriptor(fila));
+                int longitud = TAMANO_MINIMO_REGISTRO + nombre.length + descriptor.length;
+                if (buffer.remaining() < longitud) {
+                    vaciar(canal, buffer);
+                }
+                buffer.put(tabla.getTipo(fila)).putInt(tabla.getParametro(fila));
+                buffer.putShort((short) nombre.length).put(nombre);
+                buffer.putShort((short) descriptor.length).put(descriptor);
+            }
+            vaciar(canal, buffer);
+        }
+    }
+    
+    /**
+     * Detecta el formato del archivo leyendo su cabecera.
+     * @param archivo Archivo a inspeccionar
+     * @return BINARIO si empieza con la magia del formato binario, CSV en otro caso
+     * @throws IOException si el archivo no puede leerse
+     */
+    public static Formato detectarFormato(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecera = ByteBuffer.allocate(4);
+            while (cabecera.hasRemaining() && canal.read(cabecera) >= 0) {
+                // Leer hasta completar la magia o llegar al final
+            }
+            return !cabecera.hasRemaining() && cabecera.getInt(0) == MAGIA_BINARIO
+                    ? Formato.BINARIO : Formato.CSV;
+        }
+    }
+    
+    private long recorrer(Path archivo, Receptor receptor) throws IOException {
+        Formato formato = detectarFormato(archivo);
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            return formato == Formato.BINARIO ? recorrerBinario(canal, receptor)
+                                              : recorrerCSV(canal, receptor);
+        }
+    }
+    
+    /**
+     * Amplía el rango de PID si la carga puede no caber en él.
+     * @param maximoProcesos Cota superior de los procesos del archivo
+     */
+    private static void reservarPIDs(long maximoProcesos) throws IOException {
+        try {
+            Proceso.reservarPIDs(maximoProcesos);
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Mapea la ventana que empieza en la posición indicada.
+     */
+    private MappedByteBuffer mapear(FileChannel canal, long inicio, long tamanoArchivo) throws IOException {
+        int longitud = (int) Math.min(tamanoVentana, tamanoArchivo - inicio);
+        return canal.map(FileChannel.MapMode.READ_ONLY, inicio, longitud);
+    }
+    
+    // ==================== CSV ====================
+    
+    private long recorrerCSV(FileChannel canal, Receptor receptor) throws IOException {
+        long tamanoArchivo = canal.size();
+        reservarPIDs((tamanoArchivo + 1) / TAMANO_MINIMO_LINEA);
+        long inicioVentana = 0;
+        long registros = 0;
+        long linea = 0;
+        while (inicioVentana < tamanoArchivo) {
+            MappedByteBuffer ventana = mapear(canal, inicioVentana, tamanoArchivo);
+            int longitud = ventana.limit();
+            boolean ultimaVentana = inicioVentana + longitud == tamanoArchivo;
+            int posicion = 0;
+            while (posicion < longitud) {
+                int fin = posicion;
+                while (fin < longitud && ventana.get(fin) != '\n') {
+                    fin++;
+                }
+                if (fin == longitud && !ultimaVentana) {
+                    break; // Línea incompleta: se vuelve a mapear desde su inicio
+                }
+                linea++;
+                if (procesarLinea(ventana, posicion, fin, linea, receptor)) {
+                    registros++;
+                }
+                posicion = fin + 1;
+            }
+            if (posicion == 0) {
+                throw new IOException("Línea " + (linea + 1) + ": más larga que la ventana de lectura");
+            }
+            inicioVentana += Math.min(posicion, longitud);
+        }
+        return registros;
+    }
+    
+    /**
+     * Procesa una línea CSV entre inicio (incluido) y fin (excluido).
+     * @return true si la línea contenía un proceso
+     */
+    private boolean procesarLinea(ByteBuffer ventana, int inicio, int fin, long linea,
+                                  Receptor receptor) throws IOException {
+        if (fin > inicio && ventana.get(fin - 1) == '\r') {
+            fin--;
+        }
+        inicio = saltarEspacios(ventana, inicio, fin);
+        if (inicio == fin || ventana.get(inicio) == '#') {
+            return false;
+        }
+        
+        int[] campos = separarCampos(ventana, inicio, fin, linea);
+        int inicioTipo = saltarEspacios(ventana, inicio, campos[0]);
+        int finTipo = recortarEspacios(ventana, inicioTipo, campos[0]);
+        if (linea == 1 && coincide(ventana, inicioTipo, finTipo, "tipo")) {
+            return false; // Cabecera
+        }
+        byte tipo = leerTipo(ventana, inicioTipo, finTipo, linea);
+        String nombre = leerCampo(ventana, campos[0] + 1, campos[1], false);
+        String descriptor = leerCampo(ventana, campos[1] + 1, campos[2], true);
+        int parametro = leerEntero(ventana, campos[2] + 1, fin, linea);
+        receptor.recibir(tipo, nombre, descriptor, parametro);
+        return true;
+    }
+    
+    /**
+     * Localiza las tres comas de la línea.
+     */
+    private static int[] separarCampos(ByteBuffer ventana, int inicio, int fin, long linea) throws IOException {
+        int[] comas = new int[3];
+        int encontradas = 0;
+        for (int i = inicio; i < fin; i++) {
+            if (ventana.get(i) == ',') {
+                if (encontradas == 3) {
+                    throw new IOException("Línea " + linea + ": se esperaban 4 campos");
+                }
+                comas[encontradas++] = i;
+            }
+        }
+        if (encontradas != 3) {
+            throw new IOException("Línea " + linea + ": se esperaban 4 campos");
+        }
+        return comas;
+    }
+    
+    private String leerCampo(ByteBuffer ventana, int inicio, int fin, boolean esDescriptor) {
+        inicio = saltarEspacios(ventana, inicio, fin);
+        return leerTexto(ventana, inicio, recortarEspacios(ventana, inicio, fin), esDescriptor);
+    }
+    
+    private static byte leerTipo(ByteBuffer ventana, int inicio, int fin, long linea) throws IOException {
+        if (coincide(ventana, inicio, fin, "CPU")) {
+            return TablaProcesos.TIPO_CPU;
+        }
+        if (coincide(ventana, inicio, fin, "ES") || coincide(ventana, inicio, fin, "E/S")) {
+            return TablaProcesos.TIPO_ES;
+        }
+        if (coincide(ventana, inicio, fin, "DEMONIO")) {
+            return TablaProcesos.TIPO_DEMONIO;
+        }
+        throw new IOException("Línea " + linea + ": tipo de proceso desconocido");
+    }
+    
+    private static int leerEntero(ByteBuffer ventana, int inicio, int fin, long linea) throws IOException {
+        inicio = saltarEspacios(ventana, inicio, fin);
+        fin = recortarEspacios(ventana, inicio, fin);
+        boolean negativo = inicio < fin && ventana.get(inicio) == '-';
+        if (negativo) {
+            inicio++;
+        }
+        if (inicio == fin || fin - inicio > 9) {
+            throw new IOException("Línea " + linea + ": parámetro inválido");
+        }
+        int valor = 0;
+        for (int i = inicio; i < fin; i++) {
+            int digito = ventana.get(i) - '0';
+            if (digito < 0 || digito > 9) {
+                throw new IOException("Línea " + linea + ": parámetro inválido");
+            }
+            valor = valor * 10 + digito;
+        }
+        return negativo ? -valor : valor;
+    }
+    
+    private static boolean coincide(ByteBuffer ventana, int inicio, int fin, String texto) {
+        if (fin - inicio != texto.length()) {
+            return false;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (Character.toUpperCase((char) ventana.get(inicio + i)) != Character.toUpperCase(texto.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int saltarEspacios(ByteBuffer ventana, int inicio, int fin) {
+        while (inicio < fin && (ventana.get(inicio) == ' ' || ventana.get(inicio) == '\t')) {
+            inicio++;
+        }
+        return inicio;
+    }
+    
+    private static int recortarEspacios(ByteBuffer ventana, int inicio, int fin) {
+        while (fin > inicio && (ventana.get(fin - 1) == ' ' || ventana.get(fin - 1) == '\t')) {
+            fin--;
+        }
+        return fin;
+    }
+    
+    // ==================== Binario ====================
+    
+    private long recorrerBinario(FileChannel canal, Receptor receptor) throws IOException {
+        long tamanoArchivo = canal.size();
+        if (tamanoArchivo < TAMANO_CABECERA) {
+            throw new IOException("Archivo binario truncado: falta la cabecera");
+        }
+        ByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANO_CABECERA);
+        short version = cabecera.getShort(4);
+        if (version != VERSION_BINARIO) {
+            throw new IOException("Versión de formato binario no soportada: " + version);
+        }
+        long esperados = cabecera.getLong(8);
+        reservarPIDs(Math.min(esperados, (tamanoArchivo - TAMANO_CABECERA) / TAMANO_MINIMO_REGISTRO));
+        
+        long registros = 0;
+        long inicioVentana = TAMANO_CABECERA;
+        while (registros < esperados) {
+            if (inicioVentana >= tamanoArchivo) {
+                throw new IOException("Archivo binario truncado: " + registros + " de " + esperados + " registros");
+            }
+            MappedByteBuffer ventana = mapear(canal, inicioVentana, tamanoArchivo);
+            int longitud = ventana.limit();
+            boolean ultimaVentana = inicioVentana + longitud == tamanoArchivo;
+            int posicion = 0;
+            while (registros < esperados) {
+                int finRegistro = finRegistro(ventana, posicion, longitud);
+                if (finRegistro < 0) {
+                    break; // Registro incompleto: se vuelve a mapear desde su inicio
+                }
+                byte tipo = ventana.get(posicion);
+                int parametro = ventana.getInt(posicion + 1);
+                int longitudNombre = ventana.getShort(posicion + 5) & 0xFFFF;
+                int inicioNombre = posicion + 7;
+                String nombre = leerTexto(ventana, inicioNombre, inicioNombre + longitudNombre, false);
+                int inicioDescriptor = inicioNombre + longitudNombre + 2;
+                String descriptor = leerTexto(ventana, inicioDescriptor, finRegistro, true);
+                if (tipo < TablaProcesos.TIPO_CPU || tipo > TablaProcesos.TIPO_DEMONIO) {
+                    throw new IOException("Registro " + (registros + 1) + ": tipo de proceso desconocido");
+                }
+                receptor.recibir(tipo, nombre, descriptor, parametro);
+                registros++;
+                posicion = finRegistro;
+            }
+            if (posicion == 0 && registros < esperados) {
+                throw new IOException(ultimaVentana
+                        ? "Archivo binario truncado: " + registros + " de " + esperados + " registros"
+                        : "Registro " + (registros + 1) + ": más largo que la ventana de lectura");
+            }
+            inicioVentana += posicion;
+        }
+        return registros;
+    }
+    
+    /**
+     * Calcula dónde termina el registro que empieza en la posición indicada.
+     * @return Posición siguiente al registro, o -1 si no cabe completo en la ventana
+     */
+    private static int finRegistro(ByteBuffer ventana, int posicion, int longitud) {
+        if (longitud - posicion < TAMANO_MINIMO_REGISTRO) {
+            return -1;
+        }
+        int finNombre = posicion + 7 + (ventana.getShort(posicion + 5) & 0xFFFF);
+        if (finNombre + 2 > longitud) {
+            return -1;
+        }
+        int fin = finNombre + 2 + (ventana.getShort(finNombre) & 0xFFFF);
+        return fin <= longitud ? fin : -1;
+    }
+    
+    // ==================== Comunes ====================
+    
+    /**
+     * Decodifica un texto UTF-8 de la ventana.
+     * Los descriptores se repiten mucho, así que se reutiliza la misma
+     * instancia de String cuando los bytes coinciden con uno ya visto.
+     */
+    private String leerTexto(ByteBuffer ventana, int inicio, int fin, boolean esDescriptor) {
+        int longitud = fin - inicio;
+        if (auxiliar.length < longitud) {
+            auxiliar = new byte[Math.max(longitud, auxiliar.length * 2)];
+        }
+        int hash = 0;
+        for (int i = 0; i < longitud; i++) {
+            byte b = ventana.get(inicio + i);
+            auxiliar[i] = b;
+            hash = 31 * hash + b;
+        }
+        if (!esDescriptor) {
+            return new String(auxiliar, 0, longitud, StandardCharsets.UTF_8);
+        }
+        int ranura = (hash ^ (hash >>> 16)) & (TAMANO_CACHE_DESCRIPTORES - 1);
+        byte[] conocido = bytesDescriptores[ranura];
+        if (conocido != null && conocido.length == longitud && igualesPrefijo(conocido, auxiliar, longitud)) {
+            return textosDescriptores[ranura];
+        }
+        String texto = new String(auxiliar, 0, longitud, StandardCharsets.UTF_8);
+        bytesDescriptores[ranura] = Arrays.copyOf(auxiliar, longitud);
+        textosDescriptores[ranura] = texto;
+        return texto;
+    }
+    
+    private static boolean igualesPrefijo(byte[] a, byte[] b, int longitud) {
+        for (int i = 0; i < longitud; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Proceso crearProceso(byte tipo, String nombre, String descriptor, int parametro) {
+        switch (tipo) {
+            case TablaProcesos.TIPO_CPU:
+                return new ProcesoCPU(nombre, descriptor, parametro);
+            case TablaProcesos.TIPO_ES:
+                return new ProcesoES(nombre, descriptor, parametro);
+            default:
+                return new ProcesoDemonio(nombre, descriptor, parametro);
+        }
+    }
+    
+    private static byte[] codificar(String texto) {
+        byte[] bytes = (texto != null ? texto : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Texto demasiado largo para el formato binario");
+        }
+        return bytes;
+    }
+    
+    private static void vaciar(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+}
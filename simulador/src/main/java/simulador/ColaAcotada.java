@@ -0,0 +1,134 @@
+package simulador;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cola Acotada - Cola FIFO de capacidad fija para varios productores y
+ * varios consumidores, sin cerrojos.
+ * Es un arreglo circular donde cada posición lleva un número de secuencia
+ * (algoritmo de Dmitry Vyukov): la secuencia indica si la posición está libre
+ * para la vuelta actual del productor o lista para el consumidor. Encolar y
+ * desencolar cuestan un CAS sobre el contador de cola o de cabeza, y nunca
+ * crean objetos.
+ * 
+ * Los contadores de cabeza y cola viven en posiciones separadas de un mismo
+ * arreglo atómico, a más de una línea de caché de distancia, para que
+ * productores y consumidores no se invaliden la caché entre sí.
+ * 
+ * @param <E> Tipo de los elementos
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ColaAcotada<E> {
+    private static final int CABEZA = 7;
+    private static final int COLA = 23; // 128 bytes después de CABEZA
+    
+    private final Object[] elementos;
+    private final AtomicLongArray secuencias;
+    private final AtomicLongArray contadores = new AtomicLongArray(COLA + 8);
+    private final int mascara;
+    
+    /**
+     * Constructor.
+     * @param capacidad Elementos que caben; se redondea a potencia de dos
+     */
+    public ColaAcotada(int capacidad) {
+        if (capacidad < 1 || capacidad > 1 << 30) {
+            throw new IllegalArgumentException("Capacidad fuera de rango: " + capacidad);
+        }
+        int tamano = capacidad == 1 ? 1 : Integer.highestOneBit(capacidad - 1) << 1;
+        this.elementos = new Object[tamano];
+        this.secuencias = new AtomicLongArray(tamano);
+        for (int i = 0; i < tamano; i++) {
+            secuencias.set(i, i);
+        }
+        this.mascara = tamano - 1;
+    }
+    
+    /**
+     * Encola un elemento si hay espacio. Puede llamarse desde cualquier hilo.
+     * @param elemento Elemento no nulo
+     * @return false si la cola está llena
+     */
+    public boolean ofrecer(E elemento) {
+        if (elemento == null) {
+            throw new NullPointerException("Elemento nulo");
+        }
+        long posicion = contadores.get(COLA);
+        while (true) {
+            int indice = (int) posicion & mascara;
+            long diferencia = secuencias.get(indice) - posicion;
+            if (diferencia == 0) {
+                if (contadores.compareAndSet(COLA, posicion, posicion + 1)) {
+                    elementos[indice] = elemento;
+                    secuencias.lazySet(indice, posicion + 1); // Publica el elemento
+                    return true;
+                }
+                posicion = contadores.get(COLA);
+            } else if (diferencia < 0) {
+                return false; // La posición aún guarda un elemento de la vuelta anterior
+            } else {
+                posicion = contadores.get(COLA); // Otro productor se adelantó
+            }
+        }
+    }
+    
+    /**
+     * Desencola el elemento más antiguo. Puede llamarse desde cualquier hilo.
+     * @return Elemento, o null si la cola está vacía
+     */
+    @SuppressWarnings("unchecked")
+    public E extraer() {
+        long posicion = contadores.get(CABEZA);
+        while (true) {
+            int indice = (int) posicion & mascara;
+            long diferencia = secuencias.get(indice) - (posicion + 1);
+            if (diferencia == 0) {
+                if (contadores.compareAndSet(CABEZA, posicion, posicion + 1)) {
+                    E elemento = (E) elementos[indice];
+                    elementos[indice] = null;
+                    secuencias.lazySet(indice, posicion + mascara + 1); // Libre para la vuelta siguiente
+                    return elemento;
+                }
+                posicion = contadores.get(CABEZA);
+            } else if (diferencia < 0) {
+                return null;
+            } else {
+                posicion = contadores.get(CABEZA);
+            }
+        }
+    }
+    
+    /**
+     * Desencola hasta la cantidad indicada de elementos, en orden.
+     * @param destino Colección que recibe los elementos
+     * @param maximo Elementos como máximo
+     * @return Elementos desencolados
+     */
+    public int drenar(Collection<? super E> destino, int maximo) {
+        int drenados = 0;
+        E elemento;
+        while (drenados < maximo && (elemento = extraer()) != null) {
+            destino.add(elemento);
+            drenados++;
+        }
+        return drenados;
+    }
+    
+    public int getCapacidad() {
+        return elementos.length;
+    }
+    
+    /**
+     * Elementos en cola; con productores o consumidores activos es aproximado.
+     */
+    public int getTamanoAproximado() {
+        long tamano = contadores.get(COLA) - contadores.get(CABEZA);
+        return (int) Math.max(0, Math.min(tamano, elementos.length));
+    }
+    
+    public boolean estaVacia() {
+        return getTamanoAproximado() == 0;
+    }
+}
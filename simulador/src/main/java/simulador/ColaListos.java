@@ -0,0 +1,305 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cola de Listos - Montículo binario de procesos ordenado por la política activa.
+ * Inserción y extracción del siguiente proceso en O(log n).
+ * Las claves y secuencias se guardan en arreglos primitivos paralelos para
+ * que las comparaciones no accedan a los objetos Proceso.
+ * 
+ * La clave de cada proceso se calcula al insertarlo. Si cambia un dato del que
+ * depende (por ejemplo la prioridad), hay que avisar con reubicar() para que
+ * el proceso ocupe su nueva posición.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ColaListos {
+    private static final int CAPACIDAD_INICIAL = 16;
+    
+    private PoliticaPlanificacion politica;
+    private Proceso[] procesos;
+    private long[] claves;
+    private long[] secuencias;
+    private int tamano;
+    private long siguienteSecuencia;
+    
+    /**
+     * Constructor completo.
+     * @param politica Política que determina el orden de extracción
+     */
+    public ColaListos(PoliticaPlanificacion politica) {
+        this.politica = politica != null ? politica : new PoliticaFCFS();
+        this.procesos = new Proceso[CAPACIDAD_INICIAL];
+        this.claves = new long[CAPACIDAD_INICIAL];
+        this.secuencias = new long[CAPACIDAD_INICIAL];
+        this.tamano = 0;
+        this.siguienteSecuencia = 0;
+    }
+    
+    /**
+     * Constructor de copia. Copia los arreglos del montículo sin reordenar.
+     * @param otra Cola a copiar
+     */
+    public ColaListos(ColaListos otra) {
+        this.politica = otra.politica;
+        this.procesos = Arrays.copyOf(otra.procesos, Math.max(otra.tamano, CAPACIDAD_INICIAL));
+        this.claves = Arrays.copyOf(otra.claves, procesos.length);
+        this.secuencias = Arrays.copyOf(otra.secuencias, procesos.length);
+        this.tamano = otra.tamano;
+        this.siguienteSecuencia = otra.siguienteSecuencia;
+    }
+    
+    /**
+     * Inserta un proceso en la cola en O(log n).
+     * @param proceso Proceso a insertar
+     */
+    public void insertar(Proceso proceso) {
+        if (proceso == null) {
+            return;
+        }
+        if (tamano == procesos.length) {
+            crecer();
+        }
+        long secuencia = siguienteSecuencia++;
+        procesos[tamano] = proceso;
+        claves[tamano] = politica.calcularClave(proceso, secuencia);
+        secuencias[tamano] = secuencia;
+        subir(tamano++);
+    }
+    
+    /**
+     * Inserta un lote de procesos. Si el lote es mayor que la cola actual,
+     * reconstruye el montículo completo en O(n) en lugar de subir cada elemento.
+     * @param lote Procesos a insertar; los null se ignoran
+     * @return Número de procesos insertados
+     */
+    public int insertarTodos(Collection<? extends Proceso> lote) {
+        int anterior = tamano;
+        while (procesos.length < tamano + lote.size()) {
+            crecer();
+        }
+        for (Proceso proceso : lote) {
+            if (proceso == null) {
+                continue;
+            }
+            long secuencia = siguienteSecuencia++;
+            procesos[tamano] = proceso;
+            claves[tamano] = politica.calcularClave(proceso, secuencia);
+            secuencias[tamano] = secuencia;
+            tamano++;
+        }
+        int insertados = tamano - anterior;
+        if (insertados > anterior) {
+            monticulizar();
+        } else {
+            for (int i = anterior; i < tamano; i++) {
+                subir(i);
+            }
+        }
+        return insertados;
+    }
+    
+    /**
+     * Extrae el siguiente proceso a ejecutar según la política en O(log n).
+     * @return Siguiente proceso, o null si la cola está vacía
+     */
+    public Proceso extraerSiguiente() {
+        if (tamano == 0) {
+            return null;
+        }
+        Proceso siguiente = procesos[0];
+        tamano--;
+        mover(tamano, 0);
+        procesos[tamano] = null;
+        if (tamano > 0) {
+            bajar(0);
+        }
+        return siguiente;
+    }
+    
+    /**
+     * Consulta el siguiente proceso sin extraerlo.
+     * @return Siguiente proceso, o null si la cola está vacía
+     */
+    public Proceso verSiguiente() {
+        return tamano > 0 ? procesos[0] : null;
+    }
+    
+    /**
+     * Vacía la cola en orden de extracción sin modificar esta instancia.
+     * @return Procesos en el orden en que la política los ejecutaría
+     */
+    public List<Proceso> obtenerOrdenEjecucion() {
+        ColaListos copia = new ColaListos(this);
+        List<Proceso> orden = new ArrayList<>(tamano);
+        while (!copia.estaVacia()) {
+            orden.add(copia.extraerSiguiente());
+        }
+        return orden;
+    }
+    
+    /**
+     * Cambia la política y reconstruye el montículo en O(n).
+     * Se conserva el orden de llegada original de cada proceso.
+     * @param politica Nueva política
+     */
+    public void setPolitica(PoliticaPlanificacion politica) {
+        if (politica == null) {
+            return;
+        }
+        this.politica = politica;
+        recalcularClaves();
+    }
+    
+    /**
+     * Vuelve a calcular la clave de cada proceso con la política actual y
+     * reconstruye el montículo en O(n). Se usa cuando la clave depende de
+     * datos que cambian, como los tiempos aprendidos por el predictor.
+     */
+    public void recalcularClaves() {
+        for (int i = 0; i < tamano; i++) {
+            claves[i] = politica.calcularClave(procesos[i], secuencias[i]);
+        }
+        monticulizar();
+    }
+    
+    /**
+     * Recalcula la clave de un proceso ya encolado y lo mueve a su nueva
+     * posición. Localizarlo cuesta O(n); moverlo, O(log n).
+     * @param proceso Proceso cuya clave cambió
+     * @return true si el proceso estaba en la cola
+     */
+    public boolean reubicar(Proceso proceso) {
+        for (int i = 0; i < tamano; i++) {
+            if (procesos[i] == proceso) {
+                claves[i] = politica.calcularClave(proceso, secuencias[i]);
+                subir(i);
+                if (procesos[i] == proceso) {
+                    bajar(i);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Quita de la cola los procesos indicados y reconstruye el montículo en
+     * O(n). Los demás conservan su clave y su orden de llegada.
+     * @param retirados Procesos a quitar
+     * @return Número de procesos quitados
+     */
+    public int retirar(Set<Proceso> retirados) {
+        int conservados = 0;
+        for (int i = 0; i < tamano; i++) {
+            if (!retirados.contains(procesos[i])) {
+                mover(i, conservados++);
+            }
+        }
+        int quitados = tamano - conservados;
+        Arrays.fill(procesos, conservados, tamano, null);
+        tamano = conservados;
+        if (quitados > 0) {
+            monticulizar();
+        }
+        return quitados;
+    }
+    
+    /**
+     * Elimina todos los procesos de la cola.
+     */
+    public void limpiar() {
+        Arrays.fill(procesos, 0, tamano, null);
+        tamano = 0;
+        siguienteSecuencia = 0;
+    }
+    
+    public PoliticaPlanificacion getPolitica() {
+        return politica;
+    }
+    
+    public int getTamano() {
+        return tamano;
+    }
+    
+    public boolean estaVacia() {
+        return tamano == 0;
+    }
+    
+    // Operaciones internas del montículo
+    
+    private boolean menor(int a, int b) {
+        return claves[a] < claves[b] || (claves[a] == claves[b] && secuencias[a] < secuencias[b]);
+    }
+    
+    private void subir(int i) {
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            if (!menor(i, padre)) {
+                break;
+            }
+            intercambiar(i, padre);
+            i = padre;
+        }
+    }
+    
+    private void bajar(int i) {
+        int mitad = tamano >>> 1;
+        while (i < mitad) {
+            int hijo = 2 * i + 1;
+            if (hijo + 1 < tamano && menor(hijo + 1, hijo)) {
+                hijo++;
+            }
+            if (!menor(hijo, i)) {
+                break;
+            }
+            intercambiar(i, hijo);
+            i = hijo;
+        }
+    }
+    
+    private void intercambiar(int a, int b) {
+        Proceso proceso = procesos[a];
+        procesos[a] = procesos[b];
+        procesos[b] = proceso;
+        long clave = claves[a];
+        claves[a] = claves[b];
+        claves[b] = clave;
+        long secuencia = secuencias[a];
+        secuencias[a] = secuencias[b];
+        secuencias[b] = secuencia;
+    }
+    
+    private void mover(int desde, int hasta) {
+        procesos[hasta] = procesos[desde];
+        claves[hasta] = claves[desde];
+        secuencias[hasta] = secuencias[desde];
+    }
+    
+    /**
+     * Restablece la propiedad de montículo sobre todos los elementos en O(n).
+     */
+    private void monticulizar() {
+        for (int i = (tamano >>> 1) - 1; i >= 0; i--) {
+            bajar(i);
+        }
+    }
+    
+    private void crecer() {
+        int nuevaCapacidad = procesos.length + (procesos.length >> 1) + 1;
+        procesos = Arrays.copyOf(procesos, nuevaCapacidad);
+        claves = Arrays.copyOf(claves, nuevaCapacidad);
+        secuencias = Arrays.copyOf(secuencias, nuevaCapacidad);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ColaListos{politica=%s, procesos=%d}", politica.getNombre(), tamano);
+    }
+}
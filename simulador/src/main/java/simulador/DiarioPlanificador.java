@@ -0,0 +1,796 @@
+package simulador;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Diario del Planificador - Registro de escritura anticipada de la cola.
+ * Cada proceso agregado, completado o retirado, cada cambio de prioridad y
+ * cada limpieza de la cola se anota al final del archivo antes de aplicarse;
+ * tras reiniciar la JVM,
+ * {@link #reproducir(PlanificadorProcesos)} reconstruye la cola a partir del
+ * diario (o de un punto de control más el diario escrito después).
+ * 
+ * Escritura con confirmación en grupo: las operaciones se codifican en un
+ * búfer en memoria y un único hilo escritor vuelca todo lo acumulado con una
+ * sola llamada a write y a force. Mientras el disco sincroniza un grupo, las
+ * operaciones siguientes forman el próximo, así el coste de cada fsync se
+ * reparte entre todas las que llegaron a la vez.
+ * 
+ * Formato: cabecera de 8 bytes (magia "DIAR", versión y reservado) seguida
+ * de entradas con longitud (4 bytes), CRC32 del contenido (4 bytes) y el
+ * contenido, que empieza por el tipo de entrada. Una entrada incompleta o con
+ * CRC incorrecto marca el final del diario (escritura interrumpida) y se
+ * descarta junto con lo que la sigue.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class DiarioPlanificador {
+    public static final int MAGIA = 0x44494152; // "DIAR"
+    public static final short VERSION = 3; // La 2 añade los cambios de prioridad; la 3, la afinidad
+    public static final long INTERVALO_AGRUPADO_POR_DEFECTO_MS = 10;
+    
+    private static final int TAMANO_CABECERA = 8;
+    private static final int TAMANO_CABECERA_ENTRADA = 8;
+    private static final int TAMANO_FIJO_AGREGAR = 27;
+    private static final int TAMANO_MAXIMO_ENTRADA = TAMANO_FIJO_AGREGAR + 2 * 0xFFFF;
+    private static final int TAMANO_VENTANA = 64 * 1024 * 1024;
+    private static final int TAMANO_INICIAL_BUFER = 64 * 1024;
+    private static final int MAXIMO_PENDIENTE = 8 * 1024 * 1024;
+    
+    private static final byte ENTRADA_AGREGAR = 1;
+    private static final byte ENTRADA_COMPLETAR = 2;
+    private static final byte ENTRADA_LIMPIAR = 3;
+    private static final byte ENTRADA_RETIRAR = 4;
+    private static final byte ENTRADA_PRIORIDAD = 5;
+    
+    /**
+     * Cuándo se considera escrita una operación.
+     */
+    public enum Durabilidad {
+        INMEDIATA,  // Cada operación espera a que su grupo llegue al disco
+        AGRUPADA    // Las operaciones vuelven enseguida; el disco se sincroniza cada intervalo
+    }
+    
+    private final FileChannel canal;
+    private final Durabilidad durabilidad;
+    private final long intervaloNanos;
+    private final Object cerrojo = new Object();
+    private final CRC32 crc = new CRC32(); // Solo se usa con el cerrojo tomado
+    
+    // Estado protegido por el cerrojo
+    private ByteBuffer pendiente = ByteBuffer.allocate(TAMANO_INICIAL_BUFER);
+    private ByteBuffer enEscritura = ByteBuffer.allocate(TAMANO_INICIAL_BUFER);
+    private long finAgregado; // Posición del archivo tras la última entrada agregada
+    private long finDurable;  // Posición hasta la que el archivo está sincronizado
+    private boolean preparado; // Ya se localizó el final válido del archivo
+    private boolean abierto = true;
+    private boolean urgente;
+    private IOException error;
+    private Thread escritor;
+    private long gruposEscritos;
+    private long entradasEscritas;
+    private long bytesDescartados;
+    
+    /**
+     * Abre (o crea) el diario con confirmación en grupo inmediata.
+     * @param archivo Archivo del diario
+     * @throws IOException si no se puede abrir o no es un diario
+     */
+    public DiarioPlanificador(Path archivo) throws IOException {
+        this(archivo, Durabilidad.INMEDIATA, INTERVALO_AGRUPADO_POR_DEFECTO_MS);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param archivo Archivo del diario
+     * @param durabilidad Si cada operación espera a su fsync o no
+     * @param intervaloMs En modo AGRUPADA, tiempo máximo entre dos sincronizaciones
+     * @throws IOException si no se puede abrir o no es un diario
+     */
+    public DiarioPlanificador(Path archivo, Durabilidad durabilidad, long intervaloMs) throws IOException {
+        this.durabilidad = durabilidad != null ? durabilidad : Durabilidad.INMEDIATA;
+        this.intervaloNanos = Math.max(0, intervaloMs) * 1_000_000L;
+        this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                      StandardOpenOption.WRITE);
+        try {
+            if (canal.size() == 0) {
+                ByteBuffer cabecera = ByteBuffer.allocate(TAMANO_CABECERA);
+                cabecera.putInt(MAGIA).putShort(VERSION).putShort((short) 0).flip();
+                while (cabecera.hasRemaining()) {
+                    canal.write(cabecera, cabecera.position());
+                }
+                canal.force(true);
+            } else {
+                verificarCabecera();
+            }
+        } catch (IOException e) {
+            canal.close();
+            throw e;
+        }
+    }
+    
+    private void verificarCabecera() throws IOException {
+        if (canal.size() < TAMANO_CABECERA) {
+            throw new IOException("Diario truncado: falta la cabecera");
+        }
+        ByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANO_CABECERA);
+        if (cabecera.getInt(0) != MAGIA) {
+            throw new IOException("El archivo no es un diario del planificador");
+        }
+        short version = cabecera.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Versión de diario no soportada: " + version);
+        }
+    }
+    
+    // ==================== Reproducción ====================
+    
+    /**
+     * Aplica al planificador las operaciones anotadas en el diario.
+     * Debe llamarse antes de asociar el diario al planificador y antes de
+     * escribir en él. Las entradas dañadas al final del archivo se descartan.
+     * @param planificador Planificador a reconstruir
+     * @return Número de entradas reproducidas
+     * @throws IOException si el archivo no puede leerse
+     * @throws IllegalStateException si el diario ya tiene escrituras o ya está asociado al planificador
+     */
+    public long reproducir(PlanificadorProcesos planificador) throws IOException {
+        if (planificador.getDiario() != null) {
+            throw new IllegalStateException("Reproduzca el diario antes de asociarlo al planificador");
+        }
+        synchronized (cerrojo) {
+            if (preparado) {
+                throw new IllegalStateException("El diario ya se reprodujo o tiene escrituras");
+            }
+            Reproduccion reproduccion = new Reproduccion();
+            long entradas = recorrer(reproduccion);
+            reproduccion.aplicar(planificador);
+            return entradas;
+        }
+    }
+    
+    /**
+     * Estado reconstruido durante la reproducción. Se aplica al planificador
+     * de una vez al final, así un millón de procesos se agrega en un solo lote.
+     */
+    private static final class Reproduccion {
+        private final Map<Integer, Proceso> agregados = new LinkedHashMap<>();
+        private final Map<String, String> textos = new HashMap<>(); // Descriptores compartidos
+        private int[] pidsCompletados = new int[16];
+        private long[] tiemposCompletados = new long[16];
+        private int completados;
+        private final List<Integer> retiradosExistentes = new ArrayList<>(); // Ya estaban en la cola
+        private final Map<Integer, Integer> prioridadesExistentes = new LinkedHashMap<>(); // Ídem
+        private boolean limpiar;
+        private int pidMaximo = -1;
+        
+        void agregar(Proceso proceso) {
+            agregados.put(proceso.getPid(), proceso);
+            pidMaximo = Math.max(pidMaximo, proceso.getPid());
+        }
+        
+        void completar(int pid, long tiempoMs) {
+            if (completados == pidsCompletados.length) {
+                pidsCompletados = Arrays.copyOf(pidsCompletados, completados * 2);
+                tiemposCompletados = Arrays.copyOf(tiemposCompletados, completados * 2);
+            }
+            pidsCompletados[completados] = pid;
+            tiemposCompletados[completados++] = tiempoMs;
+        }
+        
+        void retirar(int pid) {
+            if (agregados.remove(pid) == null) {
+                retiradosExistentes.add(pid);
+                prioridadesExistentes.remove(pid);
+            }
+        }
+        
+        void cambiarPrioridad(int pid, int prioridad) {
+            Proceso proceso = agregados.get(pid);
+            if (proceso != null) {
+                proceso.setPrioridad(prioridad);
+            } else {
+                prioridadesExistentes.put(pid, prioridad);
+            }
+        }
+        
+        void limpiar() {
+            agregados.clear();
+            completados = 0;
+            retiradosExistentes.clear();
+            prioridadesExistentes.clear();
+            limpiar = true;
+        }
+        
+        String compartir(String texto) {
+            String conocido = textos.putIfAbsent(texto, texto);
+            return conocido != null ? conocido : texto;
+        }
+        
+        void aplicar(PlanificadorProcesos planificador) {
+            if (limpiar) {
+                planificador.limpiarCola();
+            }
+            // Los procesos que siguen en la cola pueden haberse completado después
+            Map<Integer, Proceso> existentes = null;
+            if ((completados > 0 || !retiradosExistentes.isEmpty()) && planificador.getTamanoCola() > 0) {
+                existentes = new HashMap<>();
+                for (Proceso proceso : planificador.getInstantaneaCola()) {
+                    existentes.put(proceso.getPid(), proceso);
+                }
+                List<Proceso> retirados = new ArrayList<>(retiradosExistentes.size());
+                for (Integer pid : retiradosExistentes) {
+                    Proceso proceso = existentes.get(pid);
+                    if (proceso != null) {
+                        retirados.add(proceso);
+                    }
+                }
+                planificador.retirarProcesos(retirados);
+            }
+            // Los cambios de prioridad son operaciones sueltas: basta con buscar cada proceso
+            for (Map.Entry<Integer, Integer> cambio : prioridadesExistentes.entrySet()) {
+                planificador.cambiarPrioridad(cambio.getKey(), cambio.getValue());
+            }
+            planificador.agregarProcesos(agregados.values());
+            for (int i = 0; i < completados; i++) {
+                Proceso proceso = agregados.get(pidsCompletados[i]);
+                if (proceso == null && existentes != null) {
+                    proceso = existentes.get(pidsCompletados[i]);
+                }
+                if (proceso != null) {
+                    planificador.getEstadisticas().registrarMedido(proceso, tiemposCompletados[i]);
+                }
+            }
+            // Los PID reproducidos no deben volver a asignarse
+            AsignadorPID asignador = Proceso.getAsignadorPID();
+            if (pidMaximo > asignador.getPidMaximo()) {
+                asignador = asignador.ampliar(pidMaximo); // El diario se escribió con un rango ampliado
+                Proceso.configurarAsignadorPID(asignador);
+            }
+            if (pidMaximo >= asignador.getSiguientePID()) {
+                Proceso.configurarAsignadorPID(new AsignadorPID(asignador.getPidMinimo(),
+                        asignador.getPidMaximo(), pidMaximo + 1));
+            }
+        }
+    }
+    
+    /**
+     * Recorre las entradas válidas por ventanas mapeadas, descarta el final
+     * dañado y deja el diario listo para escribir a continuación.
+     * Se llama con el cerrojo tomado.
+     * @param reproduccion Destino de las entradas, o null para solo localizar el final
+     * @return Número de entradas válidas
+     */
+    private long recorrer(Reproduccion reproduccion) throws IOException {
+        long tamanoArchivo = canal.size();
+        long inicioVentana = TAMANO_CABECERA;
+        long entradas = 0;
+        byte[] contenido = new byte[256];
+        boolean valido = true;
+        while (valido && inicioVentana < tamanoArchivo) {
+            int longitud = (int) Math.min(TAMANO_VENTANA, tamanoArchivo - inicioVentana);
+            MappedByteBuffer ventana = canal.map(FileChannel.MapMode.READ_ONLY, inicioVentana, longitud);
+            int posicion = 0;
+            while (longitud - posicion >= TAMANO_CABECERA_ENTRADA) {
+                int longitudEntrada = ventana.getInt(posicion);
+                if (longitudEntrada < 1 || longitudEntrada > TAMANO_MAXIMO_ENTRADA) {
+                    valido = false;
+                    break;
+                }
+                if (posicion + TAMANO_CABECERA_ENTRADA + longitudEntrada > longitud) {
+                    break; // Incompleta en esta ventana: se vuelve a mapear desde su inicio
+                }
+                if (contenido.length < longitudEntrada) {
+                    contenido = new byte[Math.max(longitudEntrada, contenido.length * 2)];
+                }
+                ventana.position(posicion + TAMANO_CABECERA_ENTRADA);
+                ventana.get(contenido, 0, longitudEntrada);
+                crc.reset();
+                crc.update(contenido, 0, longitudEntrada);
+                if ((int) crc.getValue() != ventana.getInt(posicion + 4)
+                        || !aplicarEntrada(ByteBuffer.wrap(contenido, 0, longitudEntrada), reproduccion)) {
+                    valido = false;
+                    break;
+                }
+                entradas++;
+                posicion += TAMANO_CABECERA_ENTRADA + longitudEntrada;
+            }
+            if (posicion == 0) {
+                break; // Entrada dañada o incompleta al final del archivo
+            }
+            inicioVentana += posicion;
+        }
+        
+        // Lo que sigue a la última entrada válida es una escritura interrumpida
+        bytesDescartados = tamanoArchivo - inicioVentana;
+        if (bytesDescartados > 0) {
+            canal.truncate(inicioVentana);
+            canal.force(true);
+        }
+        canal.position(inicioVentana);
+        finAgregado = inicioVentana;
+        finDurable = inicioVentana;
+        preparado = true;
+        return entradas;
+    }
+    
+    /**
+     * Interpreta una entrada.
+     * @return false si el contenido no es una entrada conocida
+     */
+    private static boolean aplicarEntrada(ByteBuffer entrada, Reproduccion reproduccion) {
+        byte tipo = entrada.get(0);
+        switch (tipo) {
+            case ENTRADA_AGREGAR:
+                // tipo, tipo de proceso, prioridad, PID, parámetro, presupuesto, afinidad,
+                // descriptor y nombre
+                if (entrada.limit() < TAMANO_FIJO_AGREGAR) {
+                    return false;
+                }
+                int longitudDescriptor = entrada.getShort(23) & 0xFFFF;
+                int inicioNombre = 25 + longitudDescriptor + 2;
+                if (inicioNombre > entrada.limit()
+                        || inicioNombre + (entrada.getShort(inicioNombre - 2) & 0xFFFF) != entrada.limit()) {
+                    return false;
+                }
+                byte tipoProceso = entrada.get(1);
+                if (tipoProceso < TablaProcesos.TIPO_CPU || tipoProceso > TablaProcesos.TIPO_DEMONIO) {
+                    return false;
+                }
+                if (reproduccion != null) {
+                    byte[] bytes = entrada.array();
+                    String descriptor = reproduccion.compartir(
+                            new String(bytes, 25, longitudDescriptor, StandardCharsets.UTF_8));
+                    String nombre = new String(bytes, inicioNombre, entrada.limit() - inicioNombre,
+                                               StandardCharsets.UTF_8);
+                    Proceso proceso = TablaProcesos.crearProceso(tipoProceso, entrada.getInt(3), nombre,
+                                                                 descriptor, entrada.getInt(7));
+                    proceso.setPrioridad(entrada.get(2));
+                    proceso.setPresupuestoMs(entrada.getLong(11));
+                    proceso.setAfinidad(entrada.getInt(19));
+                    reproduccion.agregar(proceso);
+                }
+                return true;
+            case ENTRADA_COMPLETAR:
+                if (entrada.limit() != 13) {
+                    return false;
+                }
+                if (reproduccion != null) {
+                    reproduccion.completar(entrada.getInt(1), entrada.getLong(5));
+                }
+                return true;
+            case ENTRADA_RETIRAR:
+                if (entrada.limit() != 5) {
+                    return false;
+                }
+                if (reproduccion != null) {
+                    reproduccion.retirar(entrada.getInt(1));
+                }
+                return true;
+            case ENTRADA_PRIORIDAD:
+                if (entrada.limit() != 6) {
+                    return false;
+                }
+                if (reproduccion != null) {
+                    reproduccion.cambiarPrioridad(entrada.getInt(1), entrada.get(5));
+                }
+                return true;
+            case ENTRADA_LIMPIAR:
+                if (reproduccion != null) {
+                    reproduccion.limpiar();
+                }
+                return entrada.limit() == 1;
+            default:
+                return false;
+        }
+    }
+    
+    // ==================== Escritura ====================
+    
+    /**
+     * Anota un proceso agregado a la cola.
+     * @throws IllegalArgumentException si el tipo de proceso no puede anotarse
+     * @throws UncheckedIOException si el diario dejó de poder escribirse
+     */
+    void registrarAgregado(Proceso proceso) {
+        long fin;
+        synchronized (cerrojo) {
+            prepararEscritura(TAMANO_MAXIMO_ENTRADA);
+            fin = codificarAgregado(proceso);
+            cerrojo.notifyAll(); // Despierta al escritor
+        }
+        esperarSiInmediata(fin);
+    }
+    
+    /**
+     * Anota un lote de procesos agregados. El lote entero se codifica sin
+     * soltar el cerrojo ni frenar a mitad, así que el escritor lo vuelca en
+     * un solo grupo: en modo INMEDIATA cuesta un único fsync y una sola espera.
+     */
+    void registrarAgregados(Collection<? extends Proceso> procesos) {
+        long fin = 0;
+        synchronized (cerrojo) {
+            prepararEscritura(TAMANO_MAXIMO_ENTRADA);
+            for (Proceso proceso : procesos) {
+                if (proceso != null) {
+                    fin = codificarAgregado(proceso);
+                }
+            }
+            cerrojo.notifyAll(); // Despierta al escritor
+        }
+        esperarSiInmediata(fin);
+    }
+    
+    /**
+     * Anota un proceso completado. No espera al disco: la entrada se confirma
+     * con el siguiente grupo o con {@link #sincronizar()}.
+     */
+    void registrarCompletado(Proceso proceso, long tiempoMs) {
+        synchronized (cerrojo) {
+            prepararEscritura(TAMANO_CABECERA_ENTRADA + 13);
+            int inicio = iniciarEntrada(ENTRADA_COMPLETAR, 13);
+            pendiente.putInt(proceso.getPid()).putLong(tiempoMs);
+            terminarEntrada(inicio);
+            cerrojo.notifyAll(); // Despierta al escritor
+        }
+    }
+    
+    /**
+     * Anota los procesos que salieron de la cola al completarse. Como los
+     * completados, no espera al disco.
+     */
+    void registrarRetirados(Collection<? extends Proceso> procesos) {
+        synchronized (cerrojo) {
+            prepararEscritura(TAMANO_CABECERA_ENTRADA + 5);
+            for (Proceso proceso : procesos) {
+                int inicio = iniciarEntrada(ENTRADA_RETIRAR, 5);
+                pendiente.putInt(proceso.getPid());
+                terminarEntrada(inicio);
+            }
+            cerrojo.notifyAll(); // Despierta al escritor
+        }
+    }
+    
+    /**
+     * Fin de un lote de ejecución: en modo INMEDIATA espera a que los
+     * completados del lote lleguen al disco, con una sola espera por lote.
+     */
+    void terminarLote() {
+        if (durabilidad == Durabilidad.INMEDIATA) {
+            sincronizar();
+        }
+    }
+    
+    /**
+     * Anota un cambio de prioridad de un proceso de la cola.
+     */
+    void registrarPrioridad(int pid, int prioridad) {
+        long fin;
+        synchronized (cerrojo) {
+            prepararEscritura(TAMANO_CABECERA_ENTRADA + 6);
+            int inicio = iniciarEntrada(ENTRADA_PRIORIDAD, 6);
+            pendiente.putInt(pid).put((byte) prioridad);
+            fin = terminarEntrada(inicio);
+            cerrojo.notifyAll(); // Despierta al escritor
+        }
+        esperarSiInmediata(fin);
+    }
+    
+    /**
+     * Anota que la cola se vació.
+     */
+    void registrarLimpieza() {
+        long fin;
+        synchronized (cerrojo) {
+            prepararEscritura(TAMANO_CABECERA_ENTRADA + 1);
+            fin = terminarEntrada(iniciarEntrada(ENTRADA_LIMPIAR, 1));
+            cerrojo.notifyAll(); // Despierta al escritor
+        }
+        esperarSiInmediata(fin);
+    }
+    
+    private long codificarAgregado(Proceso proceso) {
+        byte tipo = TablaProcesos.tipoDe(proceso);
+        byte[] descriptor = codificar(TablaProcesos.descriptorDe(proceso));
+        byte[] nombre = codificar(proceso.getNombre());
+        int inicio = iniciarEntrada(ENTRADA_AGREGAR, TAMANO_FIJO_AGREGAR + descriptor.length + nombre.length);
+        pendiente.put(tipo).put((byte) proceso.getPrioridad()).putInt(proceso.getPid())
+                 .putInt(TablaProcesos.parametroDe(proceso)).putLong(proceso.getPresupuestoMs())
+                 .putInt(proceso.getAfinidad())
+                 .putShort((short) descriptor.length).put(descriptor)
+                 .putShort((short) nombre.length).put(nombre);
+        return terminarEntrada(inicio);
+    }
+    
+    /**
+     * Reserva espacio para una entrada y escribe su tipo tras la cabecera.
+     * @param tamano Longitud del contenido, tipo incluido
+     * @return Posición del búfer donde empieza la entrada
+     */
+    private int iniciarEntrada(byte tipo, int tamano) {
+        asegurarEspacio(TAMANO_CABECERA_ENTRADA + tamano);
+        int inicio = pendiente.position();
+        pendiente.position(inicio + TAMANO_CABECERA_ENTRADA);
+        pendiente.put(tipo);
+        return inicio;
+    }
+    
+    /**
+     * Completa la cabecera de la entrada que empieza en inicio.
+     * @return Posición del archivo tras la entrada
+     */
+    private long terminarEntrada(int inicio) {
+        int longitud = pendiente.position() - inicio - TAMANO_CABECERA_ENTRADA;
+        crc.reset();
+        crc.update(pendiente.array(), inicio + TAMANO_CABECERA_ENTRADA, longitud);
+        pendiente.putInt(inicio, longitud).putInt(inicio + 4, (int) crc.getValue());
+        finAgregado += TAMANO_CABECERA_ENTRADA + longitud;
+        entradasEscritas++;
+        return finAgregado;
+    }
+    
+    /**
+     * Comprueba que se puede escribir, localiza el final del archivo la primera
+     * vez, arranca el escritor y frena al llamador si el escritor va atrasado.
+     * Se llama con el cerrojo tomado.
+     */
+    private void prepararEscritura(int tamanoEntrada) {
+        if (!abierto) {
+            throw new IllegalStateException("El diario está cerrado");
+        }
+        if (error != null) {
+            throw new UncheckedIOException("El diario no pudo escribirse", error);
+        }
+        if (!preparado) {
+            try {
+                recorrer(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo abrir el diario para escribir", e);
+            }
+        }
+        if (escritor == null) {
+            escritor = new Thread(this::escribirGrupos, "diario-planificador");
+            escritor.setDaemon(true);
+            escritor.start();
+        }
+        boolean interrumpido = false;
+        while (pendiente.position() > 0 && pendiente.position() + tamanoEntrada > MAXIMO_PENDIENTE
+               && error == null) {
+            urgente = true;
+            try {
+                cerrojo.wait();
+            } catch (InterruptedException e) {
+                interrumpido = true;
+            }
+        }
+        if (interrumpido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void asegurarEspacio(int tamano) {
+        if (pendiente.remaining() < tamano) {
+            ByteBuffer mayor = ByteBuffer.allocate(Math.max(pendiente.capacity() * 2, pendiente.position() + tamano));
+            pendiente.flip();
+            mayor.put(pendiente);
+            pendiente = mayor;
+        }
+    }
+    
+    /**
+     * Bucle del hilo escritor: toma todo lo pendiente como un grupo, lo
+     * escribe y sincroniza el disco una vez.
+     */
+    private void escribirGrupos() {
+        while (true) {
+            ByteBuffer grupo;
+            long fin;
+            synchronized (cerrojo) {
+                while (pendiente.position() == 0 && abierto) {
+                    esperarSinInterrupcion(0);
+                }
+                if (pendiente.position() == 0) {
+                    return; // Cerrado y sin nada pendiente
+                }
+                if (durabilidad == Durabilidad.AGRUPADA) {
+                    long limite = System.nanoTime() + intervaloNanos;
+                    long restante;
+                    while (abierto && !urgente && (restante = limite - System.nanoTime()) > 0) {
+                        esperarSinInterrupcion(Math.max(1, restante / 1_000_000L));
+                    }
+                }
+                urgente = false;
+                grupo = pendiente;
+                pendiente = enEscritura;
+                pendiente.clear();
+                enEscritura = grupo;
+                fin = finAgregado;
+                cerrojo.notifyAll(); // Libera a los llamadores frenados por el búfer lleno
+            }
+            try {
+                grupo.flip();
+                while (grupo.hasRemaining()) {
+                    canal.write(grupo);
+                }
+                canal.force(false);
+            } catch (IOException e) {
+                synchronized (cerrojo) {
+                    error = e;
+                    cerrojo.notifyAll();
+                }
+                return;
+            }
+            synchronized (cerrojo) {
+                finDurable = fin;
+                gruposEscritos++;
+                cerrojo.notifyAll();
+            }
+        }
+    }
+    
+    private void esperarSinInterrupcion(long milisegundos) {
+        try {
+            cerrojo.wait(milisegundos);
+        } catch (InterruptedException e) {
+            // El escritor solo termina al cerrar el diario
+        }
+    }
+    
+    private void esperarSiInmediata(long fin) {
+        if (durabilidad == Durabilidad.INMEDIATA && fin > 0) {
+            esperarDurable(fin);
+        }
+    }
+    
+    /**
+     * Espera a que el archivo esté sincronizado hasta la posición indicada.
+     * Una interrupción no corta la espera (el fsync termina en poco tiempo)
+     * pero se conserva el flag.
+     */
+    private void esperarDurable(long fin) {
+        boolean interrumpido = false;
+        synchronized (cerrojo) {
+            while (finDurable < fin && error == null) {
+                try {
+                    cerrojo.wait();
+                } catch (InterruptedException e) {
+                    interrumpido = true;
+                }
+            }
+            if (finDurable < fin) {
+                throw new UncheckedIOException("El diario no pudo escribirse", error);
+            }
+        }
+        if (interrumpido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Espera a que todas las operaciones anotadas hasta ahora estén en disco.
+     * @throws UncheckedIOException si el diario dejó de poder escribirse
+     */
+    public void sincronizar() {
+        long fin;
+        synchronized (cerrojo) {
+            if (!preparado) {
+                return; // Nada escrito todavía
+            }
+            fin = finAgregado;
+            urgente = true;
+            cerrojo.notifyAll();
+        }
+        esperarDurable(fin);
+    }
+    
+    /**
+     * Vacía el diario, por ejemplo justo después de guardar un punto de control
+     * que ya incluye todo lo anotado. No debe haber operaciones en curso.
+     * @throws IOException si no se puede truncar el archivo
+     */
+    public void reiniciar() throws IOException {
+        sincronizar();
+        synchronized (cerrojo) {
+            canal.truncate(TAMANO_CABECERA);
+            canal.force(true);
+            canal.position(TAMANO_CABECERA);
+            finAgregado = TAMANO_CABECERA;
+            finDurable = TAMANO_CABECERA;
+            preparado = true;
+        }
+    }
+    
+    /**
+     * Sincroniza lo pendiente, detiene el escritor y cierra el archivo.
+     * Las llamadas repetidas no tienen efecto.
+     */
+    public void cerrar() throws IOException {
+        Thread hilo;
+        synchronized (cerrojo) {
+            if (!abierto) {
+                return;
+            }
+            abierto = false;
+            cerrojo.notifyAll();
+            hilo = escritor;
+        }
+        if (hilo != null) {
+            boolean interrumpido = false;
+            while (hilo.isAlive()) {
+                try {
+                    hilo.join();
+                } catch (InterruptedException e) {
+                    interrumpido = true;
+                }
+            }
+            if (interrumpido) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        canal.close();
+        if (error != null) {
+            throw error;
+        }
+    }
+    
+    private static byte[] codificar(String texto) {
+        byte[] bytes = (texto != null ? texto : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Texto demasiado largo para el diario");
+        }
+        return bytes;
+    }
+    
+    // Getters
+    public Durabilidad getDurabilidad() {
+        return durabilidad;
+    }
+    
+    /**
+     * Grupos escritos; entradas / grupos da el tamaño medio de cada confirmación.
+     */
+    public long getGruposEscritos() {
+        synchronized (cerrojo) {
+            return gruposEscritos;
+        }
+    }
+    
+    public long getEntradasEscritas() {
+        synchronized (cerrojo) {
+            return entradasEscritas;
+        }
+    }
+    
+    /**
+     * Bytes dañados que se descartaron del final del archivo al abrirlo.
+     */
+    public long getBytesDescartados() {
+        synchronized (cerrojo) {
+            return bytesDescartados;
+        }
+    }
+    
+    @Override
+    public String toString() {
+        synchronized (cerrojo) {
+            return String.format("DiarioPlanificador{durabilidad=%s, entradas=%d, grupos=%d}",
+                               durabilidad, entradasEscritas, gruposEscritos);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package simulador;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dispositivo de E/S - Cola de operaciones de un dispositivo compartido.
+ * Los procesos encolan sus operaciones y esperan; cada canal del dispositivo
+ * toma de una vez todas las pendientes (hasta el tamaño máximo de lote) y las
+ * atiende en un único servicio. Así los procesos que usan el mismo dispositivo
+ * comparten la latencia de acceso en lugar de pagarla cada uno.
+ * 
+ * El tiempo de un servicio es la latencia de acceso más el tiempo de
+ * transferencia de cada operación del lote, según el ancho de banda.
+ * Los canales son hilos demonio que se crean con la primera operación.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class DispositivoES {
+    public static final int CANALES_POR_DEFECTO = 1;
+    public static final long LATENCIA_POR_DEFECTO_MS = 400;
+    public static final int LOTE_MAXIMO_POR_DEFECTO = 32;
+    
+    private final String nombre;
+    private final int canales;
+    private final long latenciaMs;
+    private final int operacionesPorSegundo; // 0 = transferencia instantánea
+    private final int loteMaximo;
+    
+    private final ReentrantLock cerrojo = new ReentrantLock();
+    private final Condition hayPendientes = cerrojo.newCondition();
+    private final ArrayDeque<Solicitud> pendientes = new ArrayDeque<>();
+    private Thread[] hilosCanales;
+    private boolean cerrado;
+    
+    // Estadísticas, protegidas por el cerrojo salvo el histograma
+    private final HistogramaLog esperasMicros = new HistogramaLog();
+    private long solicitudes;
+    private long sumaProfundidad;
+    private int profundidadMaxima;
+    private long operacionesAtendidas;
+    private long lotesAtendidos;
+    private long abandonadas;
+    private long tomadas; // Operaciones que un canal sacó de la cola
+    private long sumaEsperaNanos;
+    private long ocupadoNanos;
+    private long inicioNanos;
+    
+    /**
+     * Operación pendiente de un proceso.
+     */
+    private static final class Solicitud {
+        private final long encoladaNanos = System.nanoTime();
+        private final CountDownLatch atendida = new CountDownLatch(1);
+    }
+    
+    /**
+     * Constructor con la configuración por defecto: un canal, 400 ms de
+     * latencia y transferencia instantánea.
+     * @param nombre Nombre del dispositivo
+     */
+    public DispositivoES(String nombre) {
+        this(nombre, CANALES_POR_DEFECTO, LATENCIA_POR_DEFECTO_MS, 0, LOTE_MAXIMO_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param nombre Nombre del dispositivo
+     * @param canales Servicios que el dispositivo atiende a la vez
+     * @param latenciaMs Tiempo de acceso de cada servicio
+     * @param operacionesPorSegundo Ancho de banda; 0 = sin límite
+     * @param loteMaximo Operaciones que se agrupan como máximo en un servicio
+     */
+    public DispositivoES(String nombre, int canales, long latenciaMs, int operacionesPorSegundo,
+                         int loteMaximo) {
+        if (canales < 1 || loteMaximo < 1) {
+            throw new IllegalArgumentException("Los canales y el lote máximo deben ser positivos");
+        }
+        this.nombre = nombre;
+        this.canales = canales;
+        this.latenciaMs = Math.max(0, latenciaMs);
+        this.operacionesPorSegundo = Math.max(0, operacionesPorSegundo);
+        this.loteMaximo = loteMaximo;
+    }
+    
+    /**
+     * Realiza una operación: la encola y bloquea el hilo hasta que un canal
+     * la atiende. Si el hilo se interrumpe mientras espera, la operación se
+     * retira de la cola (o se abandona si ya estaba en servicio).
+     * @throws InterruptedException si el hilo se interrumpe durante la espera
+     * @throws IllegalStateException si el dispositivo está cerrado
+     */
+    public void operar() throws InterruptedException {
+        Solicitud solicitud = new Solicitud();
+        cerrojo.lock();
+        try {
+            if (cerrado) {
+                throw new IllegalStateException("Dispositivo cerrado: " + nombre);
+            }
+            if (hilosCanales == null) {
+                iniciarCanales();
+            }
+            pendientes.addLast(solicitud);
+            int profundidad = pendientes.size();
+            solicitudes++;
+            sumaProfundidad += profundidad;
+            profundidadMaxima = Math.max(profundidadMaxima, profundidad);
+            hayPendientes.signal();
+        } finally {
+            cerrojo.unlock();
+        }
+        
+        try {
+            solicitud.atendida.await();
+        } catch (InterruptedException e) {
+            cerrojo.lock();
+            try {
+                // En cola se retira; en servicio el canal la atiende igual, pero nadie la espera
+                if (pendientes.remove(solicitud) || solicitud.atendida.getCount() > 0) {
+                    abandonadas++;
+                }
+            } finally {
+                cerrojo.unlock();
+            }
+            throw e;
+        }
+    }
+    
+    private void iniciarCanales() {
+        inicioNanos = System.nanoTime();
+        hilosCanales = new Thread[canales];
+        for (int i = 0; i < canales; i++) {
+            hilosCanales[i] = new Thread(this::atender, "es-" + nombre + "-" + i);
+            hilosCanales[i].setDaemon(true);
+            hilosCanales[i].start();
+        }
+    }
+    
+    /**
+     * Bucle de un canal: toma un lote de operaciones pendientes, espera el
+     * tiempo de servicio y despierta a todos los procesos del lote.
+     * Tras cerrar el dispositivo termina de atender lo que quedaba en cola.
+     */
+    private void atender() {
+        Solicitud[] lote = new Solicitud[loteMaximo];
+        while (true) {
+            int tamano = 0;
+            long esperaNanos = 0;
+            cerrojo.lock();
+            try {
+                while (pendientes.isEmpty() && !cerrado) {
+                    hayPendientes.awaitUninterruptibly();
+                }
+                if (pendientes.isEmpty()) {
+                    return;
+                }
+                long ahora = System.nanoTime();
+                while (tamano < loteMaximo && !pendientes.isEmpty()) {
+                    Solicitud solicitud = pendientes.pollFirst();
+                    long espera = ahora - solicitud.encoladaNanos;
+                    esperaNanos += espera;
+                    esperasMicros.registrar(espera / 1000);
+                    lote[tamano++] = solicitud;
+                }
+                tomadas += tamano;
+                sumaEsperaNanos += esperaNanos;
+            } finally {
+                cerrojo.unlock();
+            }
+        
+            long servicioNanos = calcularServicioNanos(tamano);
+            try {
+                TimeUnit.NANOSECONDS.sleep(servicioNanos);
+            } catch (InterruptedException e) {
+                // Los canales solo se interrumpen desde fuera; el lote se da por atendido
+            }
+            cerrojo.lock();
+            try {
+                operacionesAtendidas += tamano;
+                lotesAtendidos++;
+                ocupadoNanos += servicioNanos;
+            } finally {
+                cerrojo.unlock();
+            }
+            for (int i = 0; i < tamano; i++) {
+                lote[i].atendida.countDown();
+                lote[i] = null;
+            }
+        }
+    }
+    
+    private long calcularServicioNanos(int operaciones) {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(latenciaMs);
+        if (operacionesPorSegundo > 0) {
+            nanos += operaciones * TimeUnit.SECONDS.toNanos(1) / operacionesPorSegundo;
+        }
+        return nanos;
+    }
+    
+    /**
+     * Rechaza nuevas operaciones. Los canales atienden las que ya estaban en
+     * cola y terminan.
+     */
+    public void cerrar() {
+        cerrojo.lock();
+        try {
+            cerrado = true;
+            hayPendientes.signalAll();
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    // Configuración
+    
+    public String getNombre() {
+        return nombre;
+    }
+    
+    public int getCanales() {
+        return canales;
+    }
+    
+    public long getLatenciaMs() {
+        return latenciaMs;
+    }
+    
+    public int getOperacionesPorSegundo() {
+        return operacionesPorSegundo;
+    }
+    
+    public int getLoteMaximo() {
+        return loteMaximo;
+    }
+    
+    // Estadísticas
+    
+    /**
+     * Operaciones que esperan en cola en este momento.
+     */
+    public int getProfundidadCola() {
+        cerrojo.lock();
+        try {
+            return pendientes.size();
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    public int getProfundidadMaxima() {
+        cerrojo.lock();
+        try {
+            return profundidadMaxima;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    /**
+     * Profundidad media de la cola vista por cada operación al encolarse,
+     * contándose a sí misma.
+     */
+    public double getProfundidadPromedio() {
+        cerrojo.lock();
+        try {
+            return solicitudes > 0 ? (double) sumaProfundidad / solicitudes : 0;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    public long getOperacionesAtendidas() {
+        cerrojo.lock();
+        try {
+            return operacionesAtendidas;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    public long getLotesAtendidos() {
+        cerrojo.lock();
+        try {
+            return lotesAtendidos;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    /**
+     * Operaciones agrupadas en cada servicio, en promedio.
+     */
+    public double getTamanoLotePromedio() {
+        cerrojo.lock();
+        try {
+            return lotesAtendidos > 0 ? (double) operacionesAtendidas / lotesAtendidos : 0;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    /**
+     * Operaciones abandonadas porque su proceso fue interrumpido, tanto las
+     * retiradas de la cola como las que ya estaban en servicio.
+     */
+    public long getAbandonadas() {
+        cerrojo.lock();
+        try {
+            return abandonadas;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    /**
+     * Tiempo medio en cola desde que se encola una operación hasta que un
+     * canal empieza a atenderla.
+     */
+    public double getEsperaPromedioMs() {
+        cerrojo.lock();
+        try {
+            return tomadas > 0 ? sumaEsperaNanos / 1_000_000.0 / tomadas : 0;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    /**
+     * Percentil del tiempo en cola.
+     * @param fraccion Percentil entre 0 y 1
+     */
+    public double getEsperaPercentilMs(double fraccion) {
+        return esperasMicros.obtenerPercentil(fraccion) / 1000.0;
+    }
+    
+    /**
+     * Fracción del tiempo, desde la primera operación, en que los canales
+     * estuvieron atendiendo (0-1).
+     */
+    public double getUtilizacion() {
+        cerrojo.lock();
+        try {
+            if (hilosCanales == null) {
+                return 0;
+            }
+            long transcurrido = System.nanoTime() - inicioNanos;
+            return transcurrido > 0 ? Math.min(1.0, (double) ocupadoNanos / transcurrido / canales) : 0;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("DispositivoES{%s, canales=%d, latencia=%d ms, ops/s=%s, lote<=%d, "
+                           + "atendidas=%d, lotes=%d, profundidad.max=%d, espera=%.1f ms}",
+                           nombre, canales, latenciaMs,
+                           operacionesPorSegundo > 0 ? String.valueOf(operacionesPorSegundo) : "sin límite",
+                           loteMaximo, getOperacionesAtendidas(), getLotesAtendidos(),
+                           getProfundidadMaxima(), getEsperaPromedioMs());
+    }
+}
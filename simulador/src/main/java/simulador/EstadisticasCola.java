@@ -0,0 +1,168 @@
+package simulador;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estadísticas de Cola - Agregados incrementales de la cola del planificador.
+ * Mantiene, en total y por tipo de proceso, el conteo, suma, mínimo y máximo
+ * de los tiempos estimados (al agregar) y medidos (al ejecutar), además de un
+ * histograma de cada serie para consultar percentiles en tiempo constante.
+ * Ninguna consulta recorre la cola; los estimados se reconstruyen aparte
+ * cuando cambian las predicciones o salen procesos de la cola.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class EstadisticasCola {
+    private final AgregadoTiempos estimados;
+    private final AgregadoTiempos medidos;
+    private final Map<String, AgregadoTiempos> estimadosPorTipo;
+    private final Map<String, AgregadoTiempos> medidosPorTipo;
+    private final HistogramaLog histogramaEstimados;
+    private final HistogramaLog histogramaMedidos;
+    
+    /**
+     * Constructor por defecto.
+     */
+    public EstadisticasCola() {
+        this.estimados = new AgregadoTiempos();
+        this.medidos = new AgregadoTiempos();
+        this.estimadosPorTipo = new ConcurrentHashMap<>();
+        this.medidosPorTipo = new ConcurrentHashMap<>();
+        this.histogramaEstimados = new HistogramaLog();
+        this.histogramaMedidos = new HistogramaLog();
+    }
+    
+    /**
+     * Registra el tiempo estimado de un proceso que entra en la cola.
+     * @param proceso Proceso agregado
+     */
+    public void registrarEstimado(Proceso proceso) {
+        long tiempo = proceso.obtenerTiempoEstimado();
+        estimados.registrar(tiempo);
+        agregadoDeTipo(estimadosPorTipo, proceso.obtenerTipoProceso()).registrar(tiempo);
+        histogramaEstimados.registrar(tiempo);
+    }
+    
+    /**
+     * Registra los tiempos estimados de un lote de procesos.
+     * Resume el lote en variables locales y publica cada agregado una sola
+     * vez, en lugar de hacer varias operaciones atómicas por proceso.
+     * @param procesos Procesos agregados; los null se ignoran
+     */
+    public void registrarEstimados(Collection<? extends Proceso> procesos) {
+        long[] conteos = new long[HistogramaLog.TOTAL_CUBETAS];
+        long[] total = {0, 0, Long.MAX_VALUE, Long.MIN_VALUE}; // cantidad, suma, mínimo, máximo
+        Map<String, long[]> porTipo = new HashMap<>();
+        String ultimoTipo = null;
+        long[] resumenTipo = null;
+        for (Proceso proceso : procesos) {
+            if (proceso == null) {
+                continue;
+            }
+            long tiempo = proceso.obtenerTiempoEstimado();
+            String tipo = proceso.obtenerTipoProceso();
+            if (tipo != ultimoTipo) {
+                resumenTipo = porTipo.get(tipo);
+                if (resumenTipo == null) {
+                    resumenTipo = new long[] {0, 0, Long.MAX_VALUE, Long.MIN_VALUE};
+                    porTipo.put(tipo, resumenTipo);
+                }
+                ultimoTipo = tipo;
+            }
+            resumir(total, tiempo);
+            resumir(resumenTipo, tiempo);
+            conteos[HistogramaLog.indiceCubeta(Math.max(0, tiempo))]++;
+        }
+        estimados.registrarLote(total[0], total[1], total[2], total[3]);
+        for (Map.Entry<String, long[]> tipo : porTipo.entrySet()) {
+            long[] resumen = tipo.getValue();
+            agregadoDeTipo(estimadosPorTipo, tipo.getKey()).registrarLote(resumen[0], resumen[1], resumen[2], resumen[3]);
+        }
+        histogramaEstimados.registrarConteos(conteos);
+    }
+    
+    private static void resumir(long[] resumen, long tiempo) {
+        resumen[0]++;
+        resumen[1] += tiempo;
+        resumen[2] = Math.min(resumen[2], tiempo);
+        resumen[3] = Math.max(resumen[3], tiempo);
+    }
+    
+    /**
+     * Registra el tiempo real que tardó en ejecutarse un proceso.
+     * @param proceso Proceso ejecutado
+     * @param tiempoMs Tiempo medido en milisegundos
+     */
+    public void registrarMedido(Proceso proceso, long tiempoMs) {
+        medidos.registrar(tiempoMs);
+        agregadoDeTipo(medidosPorTipo, proceso.obtenerTipoProceso()).registrar(tiempoMs);
+        histogramaMedidos.registrar(tiempoMs);
+    }
+    
+    /**
+     * Vuelve a calcular los agregados de estimados a partir de los procesos que
+     * siguen en la cola, por ejemplo tras retirar algunos o cuando el predictor
+     * aprendió tiempos nuevos. Los medidos no
+     * cambian. El mínimo y el máximo no pueden deshacerse por resta, así que
+     * se reconstruyen en O(n) en lugar de descontar los que salen.
+     * @param cola Procesos que quedan en la cola
+     */
+    public void reconstruirEstimados(Collection<? extends Proceso> cola) {
+        estimados.reiniciar();
+        estimadosPorTipo.clear();
+        histogramaEstimados.reiniciar();
+        registrarEstimados(cola);
+    }
+    
+    /**
+     * Elimina todos los registros (se usa al limpiar la cola).
+     */
+    public void reiniciar() {
+        estimados.reiniciar();
+        medidos.reiniciar();
+        estimadosPorTipo.clear();
+        medidosPorTipo.clear();
+        histogramaEstimados.reiniciar();
+        histogramaMedidos.reiniciar();
+    }
+    
+    private static AgregadoTiempos agregadoDeTipo(Map<String, AgregadoTiempos> mapa, String tipo) {
+        AgregadoTiempos agregado = mapa.get(tipo);
+        return agregado != null ? agregado : mapa.computeIfAbsent(tipo, t -> new AgregadoTiempos());
+    }
+    
+    // Getters
+    public AgregadoTiempos getEstimados() {
+        return estimados;
+    }
+    
+    public AgregadoTiempos getMedidos() {
+        return medidos;
+    }
+    
+    public Map<String, AgregadoTiempos> getEstimadosPorTipo() {
+        return Collections.unmodifiableMap(estimadosPorTipo);
+    }
+    
+    public Map<String, AgregadoTiempos> getMedidosPorTipo() {
+        return Collections.unmodifiableMap(medidosPorTipo);
+    }
+    
+    public HistogramaLog getHistogramaEstimados() {
+        return histogramaEstimados;
+    }
+    
+    public HistogramaLog getHistogramaMedidos() {
+        return histogramaMedidos;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("EstadisticasCola{estimados=[%s], medidos=[%s]}", estimados, medidos);
+    }
+}
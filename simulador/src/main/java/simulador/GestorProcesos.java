@@ -0,0 +1,671 @@
+package simulador;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * Gestor de Procesos - Controlador principal implementando patrón MVC.
+ * Coordina entre el modelo (procesos) y la vista (interfaz de usuario).
+ * Maneja toda la interacción con el usuario según las buenas prácticas.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class GestorProcesos {
+    // Propiedad del sistema con la ruta del diario de la cola (opcional)
+    public static final String PROPIEDAD_DIARIO = "simulador.diario";
+    private static final int PROCESOS_POR_PAGINA = 20;
+    
+    private PlanificadorProcesos planificador;
+    private Scanner scanner;
+    private boolean ejecutandose;
+    
+    /**
+     * Constructor del gestor.
+     * Inicializa el planificador y el scanner para entrada de usuario.
+     */
+    public GestorProcesos() {
+        this.planificador = new PlanificadorProcesos();
+        this.planificador.registrarMBean(); // Visible en JConsole mientras corre el gestor
+        this.scanner = new Scanner(System.in);
+        this.ejecutandose = false;
+    }
+    
+    /**
+     * Inicia el gestor de procesos.
+     * Método principal que maneja el flujo de la aplicación.
+     */
+    public void iniciar() {
+        mostrarBienvenida();
+        abrirDiario();
+        ejecutandose = true;
+        
+        // Evitar while(true) con break - usar variable de control
+        while (ejecutandose) {
+            mostrarMenu();
+            int opcion = obtenerOpcion();
+            procesarOpcion(opcion);
+            
+            if (ejecutandose) {
+                pausarParaContinuar();
+            }
+        }
+        
+        finalizarSistema();
+    }
+    
+    /**
+     * Si la propiedad del sistema simulador.diario indica un archivo, reconstruye
+     * la cola reproduciéndolo y anota en él los cambios siguientes.
+     */
+    private void abrirDiario() {
+        String ruta = System.getProperty(PROPIEDAD_DIARIO);
+        if (ruta == null || ruta.trim().isEmpty()) {
+            return;
+        }
+        DiarioPlanificador diario = null;
+        try {
+            diario = new DiarioPlanificador(Paths.get(ruta.trim()));
+            long reproducidas = diario.reproducir(planificador);
+            planificador.setDiario(diario);
+            System.out.println("📓 Diario " + ruta.trim() + ": " + reproducidas + " operación(es) reproducidas, "
+                               + planificador.getTamanoCola() + " proceso(s) en cola");
+        } catch (IOException | InvalidPathException e) {
+            System.out.println("❌ No se pudo abrir el diario: " + e.getMessage());
+            if (diario != null) {
+                try {
+                    diario.cerrar();
+                } catch (IOException ignorada) {
+                    // Ya se informó del error original
+                }
+            }
+        }
+    }
+    
+    /**
+     * Muestra mensaje de bienvenida al usuario.
+     */
+    private void mostrarBienvenida() {
+        System.out.println(repetirCaracter("=", 60));
+        System.out.println("    SIMULADOR DE PROCESOS - PROGRAMACIÓN ORIENTADA A OBJETOS");
+        System.out.println(repetirCaracter("=", 60));
+        System.out.println("Demuestra: Herencia, Polimorfismo, Encapsulación");
+        System.out.println();
+    }
+    
+    /**
+     * Muestra el menú principal de opciones.
+     */
+    private void mostrarMenu() {
+        System.out.println("\n" + repetirCaracter("=", 40));
+        System.out.println("           MENÚ PRINCIPAL");
+        System.out.println(repetirCaracter("=", 40));
+        System.out.println("1. Crear Proceso");
+        System.out.println("2. Listar Procesos en Cola");
+        System.out.println("3. Ejecutar Todos los Procesos");
+        System.out.println("4. Información de Tipos de Proceso");
+        System.out.println("5. Estadísticas del Sistema");
+        System.out.println("6. Limpiar Cola de Procesos");
+        System.out.println("7. Ejecutar Procesos en Paralelo");
+        System.out.println("8. Cambiar Política de Planificación");
+        System.out.println("9. Simular Ejecución (Reloj Virtual)");
+        System.out.println("10. Cargar Procesos desde Archivo");
+        System.out.println("11. Guardar Punto de Control");
+        System.out.println("12. Restaurar Punto de Control");
+        System.out.println("13. Simular en Varios Núcleos");
+        System.out.println("0. Salir del Sistema");
+        System.out.println(repetirCaracter("=", 40));
+        System.out.print("Seleccione una opción: ");
+    }
+    
+    /**
+     * Obtiene y valida la opción del usuario.
+     * @return Opción válida seleccionada por el usuario
+     */
+    private int obtenerOpcion() {
+        try {
+            int opcion = scanner.nextInt();
+            scanner.nextLine(); // Consumir salto de línea
+            return opcion;
+        } catch (Exception e) {
+            scanner.nextLine(); // Limpiar entrada inválida
+            System.out.println("❌ Entrada inválida. Por favor ingrese un número.");
+            return -1;
+        }
+    }
+    
+    /**
+     * Procesa la opción seleccionada por el usuario.
+     * @param opcion Opción a procesar
+     */
+    private void procesarOpcion(int opcion) {
+        switch (opcion) {
+            case 1: 
+                crearProceso(); 
+                break;
+            case 2: 
+                listarProcesos(); 
+                break;
+            case 3: 
+                ejecutarTodosLosProcesos(); 
+                break;
+            case 4: 
+                mostrarInformacionTipos(); 
+                break;
+            case 5: 
+                mostrarEstadisticas(); 
+                break;
+            case 6: 
+                limpiarCola(); 
+                break;
+            case 7: 
+                ejecutarProcesosEnParalelo(); 
+                break;
+            case 8: 
+                cambiarPolitica(); 
+                break;
+            case 9: 
+                simularEjecucion(); 
+                break;
+            case 10: 
+                cargarProcesos(); 
+                break;
+            case 11: 
+                guardarPuntoControl(); 
+                break;
+            case 12: 
+                restaurarPuntoControl(); 
+                break;
+            case 13: 
+                simularMulticore(); 
+                break;
+            case 0: 
+                ejecutandose = false; 
+                break;
+            default: 
+                System.out.println("❌ Opción inválida. Intente nuevamente.");
+        }
+    }
+    
+    /**
+     * Permite al usuario crear un nuevo proceso.
+     * Demuestra polimorfismo en la creación de diferentes tipos.
+     */
+    private void crearProceso() {
+        System.out.println("\n--- CREAR NUEVO PROCESO ---");
+        System.out.println("Tipos disponibles:");
+        System.out.println("1. Proceso CPU (Cálculo intensivo)");
+        System.out.println("2. Proceso E/S (Entrada/Salida)");
+        System.out.println("3. Proceso Demonio (Servicio de sistema)");
+        System.out.print("Seleccione tipo: ");
+        
+        int tipo = obtenerOpcion();
+        System.out.print("Ingrese nombre del proceso: ");
+        String nombre = scanner.nextLine();
+        
+        Proceso proceso = null;
+        
+        // Polimorfismo: diferentes tipos implementan la misma interfaz
+        switch (tipo) {
+            case 1:
+                proceso = crearProcesoCPU(nombre);
+                break;
+            case 2:
+                proceso = crearProcesoES(nombre);
+                break;
+            case 3:
+                proceso = crearProcesoDemonio(nombre);
+                break;
+            default:
+                System.out.println("❌ Tipo de proceso inválido.");
+                return;
+        }
+        
+        if (proceso != null && planificador.agregarProceso(proceso)) {
+            System.out.println("✅ Proceso creado exitosamente:");
+            System.out.println("   " + proceso.toString());
+        } else {
+            System.out.println("❌ Error al crear el proceso.");
+        }
+    }
+    
+    /**
+     * Crea un proceso CPU con parámetros específicos.
+     */
+    private Proceso crearProcesoCPU(String nombre) {
+        System.out.print("Tipo de tarea: ");
+        String tarea = scanner.nextLine();
+        System.out.print("Intensidad (1-5): ");
+        int intensidad = obtenerOpcion();
+        return new ProcesoCPU(nombre, tarea, intensidad);
+    }
+    
+    /**
+     * Crea un proceso E/S con parámetros específicos.
+     */
+    private Proceso crearProcesoES(String nombre) {
+        System.out.print("Tipo de dispositivo: ");
+        String dispositivo = scanner.nextLine();
+        System.out.print("Número de operaciones: ");
+        int operaciones = obtenerOpcion();
+        return new ProcesoES(nombre, dispositivo, operaciones);
+    }
+    
+    /**
+     * Crea un proceso demonio con parámetros específicos.
+     */
+    private Proceso crearProcesoDemonio(String nombre) {
+        System.out.print("Tipo de servicio: ");
+        String servicio = scanner.nextLine();
+        System.out.print("Número de ciclos: ");
+        int ciclos = obtenerOpcion();
+        return new ProcesoDemonio(nombre, servicio, ciclos);
+    }
+    
+    /**
+     * Lista todos los procesos en la cola.
+     * Demuestra polimorfismo en la representación toString().
+     */
+    private void listarProcesos() {
+        System.out.println("\n--- PROCESOS EN COLA ---");
+        if (planificador.getTamanoCola() == 0) {
+            System.out.println("📭 No hay procesos en la cola.");
+            return;
+        }
+        
+        System.out.println("Total de procesos: " + planificador.getTamanoCola());
+        System.out.println();
+        if (planificador.getTamanoCola() <= PROCESOS_POR_PAGINA) {
+            planificador.listarProcesos(); // Método que no imprime mensajes de usuario
+            return;
+        }
+        
+        // Colas grandes: se muestran por páginas sobre un mismo búfer
+        StringBuilder pagina = new StringBuilder(PROCESOS_POR_PAGINA * 80);
+        int desplazamiento = 0;
+        while (true) {
+            pagina.setLength(0);
+            int escritos;
+            try {
+                escritos = planificador.listarProcesos(pagina, desplazamiento, PROCESOS_POR_PAGINA);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // Un StringBuilder no lanza IOException
+            }
+            System.out.print(pagina);
+            desplazamiento += escritos;
+            if (escritos < PROCESOS_POR_PAGINA || desplazamiento >= planificador.getTamanoCola()) {
+                return;
+            }
+            System.out.print("-- " + desplazamiento + "/" + planificador.getTamanoCola()
+                    + " -- Enter para continuar, 0 para volver: ");
+            if (scanner.nextLine().trim().equals("0")) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Ejecuta todos los procesos en la cola.
+     * Demuestra polimorfismo en la ejecución.
+     */
+    private void ejecutarTodosLosProcesos() {
+        System.out.println("\n--- EJECUTANDO PROCESOS ---");
+        if (planificador.getTamanoCola() == 0) {
+            System.out.println("📭 No hay procesos para ejecutar.");
+            return;
+        }
+        
+        System.out.println("🚀 Iniciando ejecución de " + planificador.getTamanoCola() + " proceso(s)...");
+        System.out.println();
+        
+        long tiempoInicio = System.currentTimeMillis();
+        planificador.ejecutarTodosProcesos(); // Polimorfismo en acción
+        long tiempoFin = System.currentTimeMillis();
+        
+        System.out.println();
+        System.out.println("✅ Ejecución completada en " + (tiempoFin - tiempoInicio) + " ms");
+        System.out.println("📈 " + planificador.getMetricas());
+    }
+    
+    /**
+     * Ejecuta todos los procesos en la cola usando varios hilos.
+     * Muestra el resultado individual de cada proceso.
+     */
+    private void ejecutarProcesosEnParalelo() {
+        System.out.println("\n--- EJECUCIÓN PARALELA ---");
+        if (planificador.getTamanoCola() == 0) {
+            System.out.println("📭 No hay procesos para ejecutar.");
+            return;
+        }
+        
+        System.out.print("Número de hilos (0 = uno por núcleo, -1 = hilos virtuales): ");
+        int hilos = obtenerOpcion();
+        
+        System.out.println("🚀 Iniciando ejecución paralela de " + planificador.getTamanoCola() + " proceso(s)...");
+        System.out.println();
+        
+        long tiempoInicio = System.currentTimeMillis();
+        int quantum = planificador.getPolitica().getQuantum();
+        List<ResultadoEjecucion> resultados;
+        if (hilos < 0) {
+            resultados = planificador.ejecutarTodosProcesosConHilosVirtuales();
+        } else if (quantum > 0) {
+            resultados = planificador.ejecutarTodosProcesosPorTurnos(quantum, hilos); // Round-Robin con desalojo
+        } else {
+            resultados = planificador.ejecutarTodosProcesosEnParalelo(hilos);
+        }
+        long tiempoFin = System.currentTimeMillis();
+        
+        int completados = 0;
+        System.out.println();
+        for (ResultadoEjecucion resultado : resultados) {
+            System.out.println("   " + resultado.toString());
+            if (resultado.isCompletado()) {
+                completados++;
+            }
+        }
+        System.out.println();
+        System.out.println("✅ " + completados + "/" + resultados.size()
+                + " proceso(s) completados en " + (tiempoFin - tiempoInicio) + " ms");
+        System.out.println("📈 Máximo de procesos simultáneos: " + planificador.getMaximoProcesosEnVuelo());
+    }
+    
+    /**
+     * Simula la ejecución de la cola sin esperar tiempo real.
+     * Muestra los tiempos promedio calculados con la política actual.
+     */
+    private void simularEjecucion() {
+        System.out.println("\n--- SIMULACIÓN CON RELOJ VIRTUAL ---");
+        if (planificador.getTamanoCola() == 0) {
+            System.out.println("📭 No hay procesos para simular.");
+            return;
+        }
+        
+        ResultadoSimulacion resultado = planificador.simularTodosProcesos();
+        System.out.println("🏷️  Política: " + resultado.getPolitica());
+        System.out.println("⏱️  Tiempo total virtual: " + resultado.getTiempoTotal() + " ms");
+        System.out.println(String.format("🔁 Retorno promedio: %.1f ms", resultado.getTiempoRetornoPromedio()));
+        System.out.println(String.format("⏳ Espera promedio: %.1f ms", resultado.getTiempoEsperaPromedio()));
+        System.out.println(String.format("⚡ Respuesta promedio: %.1f ms", resultado.getTiempoRespuestaPromedio()));
+        System.out.println(String.format("🖥️  Utilización de CPU: %.1f%%", resultado.getUtilizacionCPU() * 100));
+    }
+    
+    /**
+     * Simula la cola en varios núcleos con colas propias y robo de trabajo.
+     * Muestra la utilización de cada núcleo y el desequilibrio de carga.
+     */
+    private void simularMulticore() {
+        System.out.println("\n--- SIMULACIÓN MULTINÚCLEO ---");
+        if (planificador.getTamanoCola() == 0) {
+            System.out.println("📭 No hay procesos para simular.");
+            return;
+        }
+        
+        System.out.print("Número de núcleos: ");
+        int nucleos = obtenerOpcion();
+        if (nucleos < 1) {
+            System.out.println("❌ Se requiere al menos un núcleo.");
+            return;
+        }
+        SimuladorMulticore.EstrategiaRobo[] estrategias = SimuladorMulticore.EstrategiaRobo.values();
+        for (int i = 0; i < estrategias.length; i++) {
+            System.out.println((i + 1) + ". " + estrategias[i]);
+        }
+        System.out.print("Estrategia de robo: ");
+        int estrategia = obtenerOpcion();
+        if (estrategia < 1 || estrategia > estrategias.length) {
+            System.out.println("❌ Estrategia inválida.");
+            return;
+        }
+        
+        ResultadoSimulacionMulticore resultado = planificador.simularTodosProcesosMulticore(
+                nucleos, estrategias[estrategia - 1], 0);
+        System.out.println("🏷️  Política: " + resultado.getPolitica() + " en " + nucleos + " núcleo(s)");
+        System.out.println("⏱️  Tiempo total virtual: " + resultado.getTiempoTotal() + " ms");
+        System.out.println(String.format("🔁 Retorno promedio: %.1f ms", resultado.getTiempoRetornoPromedio()));
+        System.out.println(String.format("⏳ Espera promedio: %.1f ms", resultado.getTiempoEsperaPromedio()));
+        System.out.println(String.format("🖥️  Utilización media: %.1f%%", resultado.getUtilizacionCPU() * 100));
+        System.out.println(String.format("⚖️  Desequilibrio: %.3f", resultado.getDesequilibrio()));
+        System.out.println("🔀 Robos: " + resultado.getRobos() + " (" + resultado.getProcesosRobados()
+                + " procesos, " + resultado.getRobosFallidos() + " fallidos), migraciones: "
+                + resultado.getMigraciones());
+        for (int i = 0; i < resultado.getNumeroNucleos(); i++) {
+            System.out.println(String.format("   Núcleo %d: %.1f%% ocupado, %d ráfagas", i,
+                    resultado.getUtilizacionNucleo(i) * 100, resultado.getDespachos(i)));
+        }
+    }
+    
+    /**
+     * Permite al usuario elegir el algoritmo de planificación.
+     * Demuestra el patrón Strategy: el planificador no cambia, solo su política.
+     */
+    private void cambiarPolitica() {
+        System.out.println("\n--- POLÍTICA DE PLANIFICACIÓN ---");
+        System.out.println("Política actual: " + planificador.getPolitica());
+        System.out.println("1. FCFS (Orden de llegada)");
+        System.out.println("2. SJF (Trabajo más corto primero)");
+        System.out.println("3. Prioridad estática");
+        System.out.println("4. Round-Robin");
+        System.out.print("Seleccione política: ");
+        
+        PoliticaPlanificacion politica = null;
+        switch (obtenerOpcion()) {
+            case 1:
+                politica = new PoliticaFCFS();
+                break;
+            case 2:
+                politica = new PoliticaSJF();
+                break;
+            case 3:
+                politica = new PoliticaPrioridad();
+                break;
+            case 4:
+                System.out.print("Quantum en ms: ");
+                politica = new PoliticaRoundRobin(obtenerOpcion());
+                break;
+            default:
+                System.out.println("❌ Política inválida.");
+                return;
+        }
+        
+        planificador.setPolitica(politica);
+        System.out.println("✅ Política cambiada a: " + politica);
+    }
+    
+    /**
+     * Muestra información detallada sobre los tipos de proceso.
+     */
+    private void mostrarInformacionTipos() {
+        System.out.println("\n" + repetirCaracter("=", 50));
+        System.out.println("         INFORMACIÓN DE TIPOS DE PROCESO");
+        System.out.println(repetirCaracter("=", 50));
+        
+        System.out.println("\n🖥️  PROCESOS CPU:");
+        System.out.println("   • Tareas computacionalmente intensivas");
+        System.out.println("   • Ejemplos: Codificación de video, cálculos, renderizado");
+        System.out.println("   • Características: Alto uso de CPU, poco I/O");
+        
+        System.out.println("\n💾  PROCESOS E/S:");
+        System.out.println("   • Operaciones de entrada/salida con dispositivos");
+        System.out.println("   • Ejemplos: Lectura de archivos, consultas DB, red");
+        System.out.println("   • Características: Frecuentes bloqueos por I/O");
+        
+        System.out.println("\n👻  PROCESOS DEMONIO:");
+        System.out.println("   • Servicios de sistema en segundo plano");
+        System.out.println("   • Ejemplos: Monitoreo, logging, antivirus");
+        System.out.println("   • Características: Ejecución continua, baja prioridad");
+    }
+    
+    /**
+     * Muestra estadísticas del sistema.
+     */
+    private void mostrarEstadisticas() {
+        System.out.println("\n--- ESTADÍSTICAS DEL SISTEMA ---");
+        System.out.println("📊 Procesos en cola: " + planificador.getTamanoCola());
+        System.out.println("🔄 Ejecuciones realizadas: " + planificador.getContadorEjecuciones());
+        System.out.println("⏱️  Tiempo promedio estimado: " + planificador.obtenerTiempoPromedioCola() + " ms");
+        
+        EstadisticasCola estadisticas = planificador.getEstadisticas();
+        for (Map.Entry<String, AgregadoTiempos> tipo : estadisticas.getEstimadosPorTipo().entrySet()) {
+            System.out.println("   • " + tipo.getKey() + ": " + tipo.getValue());
+        }
+        mostrarPercentiles("📐 Estimados", estadisticas.getHistogramaEstimados());
+        mostrarPercentiles("📏 Medidos  ", estadisticas.getHistogramaMedidos());
+        System.out.println("📈 Métricas: " + planificador.getMetricas());
+        System.out.println("🔮 Predictor: " + Proceso.getPredictorTiempos());
+        for (DispositivoES dispositivo : ProcesoES.getSubsistemaES().getDispositivos()) {
+            System.out.println(String.format("💽 %s: %d op. en %d lote(s), cola %d (máx. %d), "
+                    + "espera %.1f ms (p99 %.1f ms), utilización %.1f%%",
+                    dispositivo.getNombre(), dispositivo.getOperacionesAtendidas(),
+                    dispositivo.getLotesAtendidos(), dispositivo.getProfundidadCola(),
+                    dispositivo.getProfundidadMaxima(), dispositivo.getEsperaPromedioMs(),
+                    dispositivo.getEsperaPercentilMs(0.99), dispositivo.getUtilizacion() * 100));
+        }
+        System.out.println("🏷️  Planificador: " + planificador.toString());
+    }
+    
+    /**
+     * Muestra los percentiles principales de un histograma de tiempos.
+     */
+    private void mostrarPercentiles(String titulo, HistogramaLog histograma) {
+        if (histograma.getTotal() == 0) {
+            return;
+        }
+        System.out.println(String.format("%s: p50=%d ms, p99=%d ms, p999=%d ms",
+                titulo, histograma.obtenerPercentil(0.5), histograma.obtenerPercentil(0.99),
+                histograma.obtenerPercentil(0.999)));
+    }
+    
+    /**
+     * Carga procesos desde un archivo de carga de trabajo (CSV o binario).
+     */
+    private void cargarProcesos() {
+        System.out.println("\n--- CARGAR PROCESOS DESDE ARCHIVO ---");
+        System.out.println("CSV: tipo,nombre,descriptor,parametro (tipo: CPU, ES o DEMONIO)");
+        System.out.print("Ruta del archivo: ");
+        String ruta = scanner.nextLine().trim();
+        
+        long tiempoInicio = System.currentTimeMillis();
+        try {
+            long cargados = new CargadorCargaTrabajo().cargar(Paths.get(ruta), planificador);
+            long tiempoFin = System.currentTimeMillis();
+            System.out.println("✅ " + cargados + " proceso(s) cargados en " + (tiempoFin - tiempoInicio) + " ms");
+        } catch (IOException | InvalidPathException e) {
+            System.out.println("❌ Error al cargar el archivo: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Guarda la cola y el contador de PID en un punto de control binario.
+     */
+    private void guardarPuntoControl() {
+        System.out.println("\n--- GUARDAR PUNTO DE CONTROL ---");
+        System.out.print("Ruta del archivo: ");
+        String ruta = scanner.nextLine().trim();
+        
+        long tiempoInicio = System.currentTimeMillis();
+        try {
+            long guardados = PuntoControl.guardar(planificador, Paths.get(ruta));
+            long tiempoFin = System.currentTimeMillis();
+            System.out.println("✅ " + guardados + " proceso(s) guardados en " + (tiempoFin - tiempoInicio) + " ms");
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("❌ Error al guardar el punto de control: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Sustituye la cola por la de un punto de control guardado antes.
+     */
+    private void restaurarPuntoControl() {
+        System.out.println("\n--- RESTAURAR PUNTO DE CONTROL ---");
+        if (planificador.getTamanoCola() > 0) {
+            System.out.print("La cola actual se reemplazará. ¿Continuar? (s/n): ");
+            String confirmacion = scanner.nextLine().toLowerCase();
+            if (!confirmacion.equals("s") && !confirmacion.equals("si")) {
+                System.out.println("❌ Operación cancelada.");
+                return;
+            }
+        }
+        System.out.print("Ruta del archivo: ");
+        String ruta = scanner.nextLine().trim();
+        
+        long tiempoInicio = System.currentTimeMillis();
+        try {
+            long restaurados = new PuntoControl().restaurar(Paths.get(ruta), planificador);
+            long tiempoFin = System.currentTimeMillis();
+            System.out.println("✅ " + restaurados + " proceso(s) restaurados en " + (tiempoFin - tiempoInicio) + " ms");
+        } catch (IOException | InvalidPathException e) {
+            System.out.println("❌ Error al restaurar el punto de control: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Limpia la cola de procesos.
+     */
+    private void limpiarCola() {
+        System.out.println("\n--- LIMPIAR COLA ---");
+        if (planificador.getTamanoCola() == 0) {
+            System.out.println("📭 La cola ya está vacía.");
+            return;
+        }
+        
+        System.out.print("¿Está seguro de eliminar todos los procesos? (s/n): ");
+        String confirmacion = scanner.nextLine().toLowerCase();
+        
+        if (confirmacion.equals("s") || confirmacion.equals("si")) {
+            planificador.limpiarCola();
+            System.out.println("✅ Cola limpiada exitosamente.");
+        } else {
+            System.out.println("❌ Operación cancelada.");
+        }
+    }
+    
+    /**
+     * Pausa la ejecución para que el usuario pueda leer los resultados.
+     */
+    private void pausarParaContinuar() {
+        System.out.println("\n" + repetirCaracter("-", 40));
+        System.out.print("Presione Enter para continuar...");
+        scanner.nextLine();
+    }
+    
+    /**
+     * Finaliza el sistema liberando recursos.
+     */
+    private void finalizarSistema() {
+        System.out.println("\n" + repetirCaracter("=", 40));
+        System.out.println("🔚 Finalizando Simulador de Procesos...");
+        planificador.finalizar();
+        Proceso.getRegistroEventos().cerrar();
+        scanner.close();
+        System.out.println("✅ Sistema finalizado correctamente.");
+        System.out.println("¡Gracias por usar el simulador!");
+        System.out.println(repetirCaracter("=", 40));
+    }
+    
+    /**
+     * Método utilitario para repetir un carácter n veces.
+     * Reemplaza String.repeat() para compatibilidad con Java < 11
+     */
+    private String repetirCaracter(String caracter, int veces) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < veces; i++) {
+            sb.append(caracter);
+        }
+        return sb.toString();
+    }
+    
+    // Getters para encapsulación
+    public PlanificadorProcesos getPlanificador() {
+        return planificador;
+    }
+    
+    public boolean isEjecutandose() {
+        return ejecutandose;
+    }
+}
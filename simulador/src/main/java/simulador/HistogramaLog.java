@@ -0,0 +1,120 @@
+package simulador;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma Logarítmico - Distribución de tiempos en memoria fija.
+ * Divide cada potencia de dos en 16 sub-intervalos, de modo que cualquier
+ * percentil se obtiene con un error relativo menor al 7% recorriendo un
+ * número fijo de contadores, sin importar cuántos valores se hayan registrado.
+ * Los contadores son atómicos: se puede registrar desde varios hilos a la vez.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class HistogramaLog {
+    private static final int BITS_SUBINTERVALO = 4;
+    private static final int SUBINTERVALOS = 1 << BITS_SUBINTERVALO;
+    static final int TOTAL_CUBETAS = (64 - BITS_SUBINTERVALO + 1) * SUBINTERVALOS;
+    
+    private final AtomicLongArray cubetas;
+    
+    /**
+     * Constructor por defecto. Reserva siempre el mismo número de cubetas.
+     */
+    public HistogramaLog() {
+        this.cubetas = new AtomicLongArray(TOTAL_CUBETAS);
+    }
+    
+    /**
+     * Registra un valor. Los valores negativos se registran como 0.
+     * @param valor Valor a registrar (por ejemplo, milisegundos)
+     */
+    public void registrar(long valor) {
+        cubetas.incrementAndGet(indiceCubeta(Math.max(0, valor)));
+    }
+    
+    /**
+     * Suma conteos acumulados fuera del histograma, con una operación atómica
+     * por cubeta no vacía en lugar de una por valor.
+     * @param conteos Conteo por cubeta, de longitud TOTAL_CUBETAS (ver indiceCubeta)
+     */
+    void registrarConteos(long[] conteos) {
+        for (int i = 0; i < TOTAL_CUBETAS; i++) {
+            if (conteos[i] != 0) {
+                cubetas.addAndGet(i, conteos[i]);
+            }
+        }
+    }
+    
+    /**
+     * Obtiene el valor por debajo del cual queda la fracción indicada de registros.
+     * @param fraccion Fracción entre 0 y 1 (0.5 = mediana, 0.99 = p99)
+     * @return Límite superior de la cubeta que contiene el percentil, 0 si no hay datos
+     */
+    public long obtenerPercentil(double fraccion) {
+        long total = getTotal();
+        if (total == 0) {
+            return 0;
+        }
+        long objetivo = (long) Math.ceil(Math.max(0, Math.min(1, fraccion)) * total);
+        long acumulado = 0;
+        for (int i = 0; i < TOTAL_CUBETAS; i++) {
+            acumulado += cubetas.get(i);
+            if (acumulado >= Math.max(1, objetivo)) {
+                return limiteSuperior(i);
+            }
+        }
+        return limiteSuperior(TOTAL_CUBETAS - 1);
+    }
+    
+    /**
+     * Número total de valores registrados.
+     */
+    public long getTotal() {
+        long total = 0;
+        for (int i = 0; i < TOTAL_CUBETAS; i++) {
+            total += cubetas.get(i);
+        }
+        return total;
+    }
+    
+    /**
+     * Elimina todos los registros.
+     */
+    public void reiniciar() {
+        for (int i = 0; i < TOTAL_CUBETAS; i++) {
+            cubetas.set(i, 0);
+        }
+    }
+    
+    // Cálculo de cubetas: los valores menores que 16 tienen cubeta propia;
+    // el resto se agrupa por potencia de dos y por sus 4 bits más significativos
+    
+    static int indiceCubeta(long valor) {
+        if (valor < SUBINTERVALOS) {
+            return (int) valor;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(valor);
+        int subintervalo = (int) (valor >>> (exponente - BITS_SUBINTERVALO)) & (SUBINTERVALOS - 1);
+        return (exponente - BITS_SUBINTERVALO + 1) * SUBINTERVALOS + subintervalo;
+    }
+    
+    private static long limiteSuperior(int indice) {
+        if (indice < SUBINTERVALOS) {
+            return indice;
+        }
+        int exponente = indice / SUBINTERVALOS + BITS_SUBINTERVALO - 1;
+        long subintervalo = indice % SUBINTERVALOS;
+        long base = (SUBINTERVALOS + subintervalo) << (exponente - BITS_SUBINTERVALO);
+        long ancho = 1L << (exponente - BITS_SUBINTERVALO);
+        return base + ancho - 1;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("HistogramaLog{total=%d, p50=%d, p99=%d, p999=%d}",
+                           getTotal(), obtenerPercentil(0.5), obtenerPercentil(0.99),
+                           obtenerPercentil(0.999));
+    }
+}
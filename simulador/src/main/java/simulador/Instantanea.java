@@ -0,0 +1,54 @@
+package simulador;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Instantánea - Vista inmutable de una ListaVersionada en una versión concreta.
+ * Comparte el arreglo de la lista original sin copiarlo; los cambios posteriores
+ * de la lista no se reflejan aquí, por lo que puede recorrerse con seguridad
+ * desde otro hilo. Cualquier intento de modificarla lanza
+ * UnsupportedOperationException.
+ * 
+ * @param <E> Tipo de los elementos
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public final class Instantanea<E> extends AbstractList<E> implements RandomAccess {
+    private final Object[] elementos;
+    private final int tamano;
+    private final long version;
+    
+    /**
+     * Constructor usado por ListaVersionada.
+     * @param elementos Arreglo compartido con la lista
+     * @param tamano Número de elementos visibles
+     * @param version Versión de la lista en el momento de la instantánea
+     */
+    Instantanea(Object[] elementos, int tamano, long version) {
+        this.elementos = elementos;
+        this.tamano = tamano;
+        this.version = version;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int indice) {
+        if (indice < 0 || indice >= tamano) {
+            throw new IndexOutOfBoundsException("Índice: " + indice + ", tamaño: " + tamano);
+        }
+        return (E) elementos[indice];
+    }
+    
+    @Override
+    public int size() {
+        return tamano;
+    }
+    
+    /**
+     * Versión de la lista original a la que corresponde esta instantánea.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
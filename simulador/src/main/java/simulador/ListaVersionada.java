@@ -0,0 +1,194 @@
+package simulador;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Lista Versionada - Lista con instantáneas inmutables en O(1).
+ * Las instantáneas comparten el arreglo interno en lugar de copiarlo. Agregar
+ * al final nunca toca posiciones visibles por una instantánea, así que no
+ * requiere copia; las modificaciones en el medio (set, remove) copian el
+ * arreglo solo si alguna instantánea lo está compartiendo (copia en escritura).
+ * 
+ * Admite un único hilo escritor y cualquier número de hilos que pidan
+ * instantáneas al mismo tiempo: la consistencia entre arreglo y tamaño se
+ * garantiza con un contador de versión (impar mientras se escribe).
+ * 
+ * @param <E> Tipo de los elementos
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ListaVersionada<E> extends AbstractList<E> implements RandomAccess {
+    private static final int CAPACIDAD_INICIAL = 16;
+    private static final Object[] VACIO = new Object[0];
+    
+    private volatile Object[] elementos;
+    private volatile int tamano;
+    private volatile long version;
+    private volatile boolean compartido;
+    
+    /**
+     * Constructor por defecto.
+     */
+    public ListaVersionada() {
+        this.elementos = new Object[CAPACIDAD_INICIAL];
+    }
+    
+    @Override
+    public boolean add(E elemento) {
+        iniciarEscritura();
+        try {
+            Object[] arreglo = elementos;
+            int n = tamano;
+            if (n == arreglo.length) {
+                arreglo = Arrays.copyOf(arreglo, n + (n >> 1) + 1);
+                elementos = arreglo;
+                compartido = false;
+            }
+            arreglo[n] = elemento;
+            tamano = n + 1;
+            modCount++;
+        } finally {
+            terminarEscritura();
+        }
+        return true;
+    }
+    
+    /**
+     * Reserva espacio para al menos la cantidad indicada de elementos.
+     * @param capacidad Capacidad mínima
+     */
+    public void asegurarCapacidad(int capacidad) {
+        if (capacidad <= elementos.length) {
+            return;
+        }
+        iniciarEscritura();
+        try {
+            elementos = Arrays.copyOf(elementos, capacidad);
+            compartido = false;
+        } finally {
+            terminarEscritura();
+        }
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int indice) {
+        verificarIndice(indice);
+        return (E) elementos[indice];
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int indice, E elemento) {
+        verificarIndice(indice);
+        iniciarEscritura();
+        try {
+            Object[] arreglo = arregloPropio();
+            E anterior = (E) arreglo[indice];
+            arreglo[indice] = elemento;
+            return anterior;
+        } finally {
+            terminarEscritura();
+        }
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int indice) {
+        verificarIndice(indice);
+        iniciarEscritura();
+        try {
+            Object[] arreglo = arregloPropio();
+            E anterior = (E) arreglo[indice];
+            int n = tamano;
+            System.arraycopy(arreglo, indice + 1, arreglo, indice, n - indice - 1);
+            arreglo[n - 1] = null;
+            tamano = n - 1;
+            modCount++;
+            return anterior;
+        } finally {
+            terminarEscritura();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        iniciarEscritura();
+        try {
+            // El arreglo anterior queda intacto para las instantáneas que lo usen
+            elementos = new Object[CAPACIDAD_INICIAL];
+            tamano = 0;
+            compartido = false;
+            modCount++;
+        } finally {
+            terminarEscritura();
+        }
+    }
+    
+    @Override
+    public int size() {
+        return tamano;
+    }
+    
+    /**
+     * Obtiene una vista inmutable del contenido actual en O(1), sin copiar.
+     * Puede llamarse desde cualquier hilo mientras el escritor sigue modificando la lista.
+     * @return Instantánea de la lista en la versión actual
+     */
+    public Instantanea<E> instantanea() {
+        while (true) {
+            long antes = version;
+            if ((antes & 1) != 0) {
+                Thread.yield(); // Escritura en curso
+                continue;
+            }
+            Object[] arreglo = elementos;
+            int n = tamano;
+            // Se marca después de leer el arreglo y se valida después de marcar: si la
+            // versión no cambió, cualquier escritura posterior verá la marca y copiará
+            compartido = true;
+            if (version == antes) {
+                return n == 0 ? new Instantanea<E>(VACIO, 0, antes >>> 1)
+                              : new Instantanea<E>(arreglo, n, antes >>> 1);
+            }
+        }
+    }
+    
+    /**
+     * Número de modificaciones realizadas desde la creación de la lista.
+     */
+    public long getVersion() {
+        return version >>> 1;
+    }
+    
+    // Protocolo de escritura: la versión es impar mientras dura la modificación
+    
+    private void iniciarEscritura() {
+        version++;
+    }
+    
+    private void terminarEscritura() {
+        version++;
+    }
+    
+    /**
+     * Devuelve un arreglo que ninguna instantánea comparte, copiándolo si hace falta.
+     */
+    private Object[] arregloPropio() {
+        Object[] arreglo = elementos;
+        if (compartido) {
+            arreglo = Arrays.copyOf(arreglo, arreglo.length);
+            elementos = arreglo;
+            compartido = false;
+        }
+        return arreglo;
+    }
+    
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamano) {
+            throw new IndexOutOfBoundsException("Índice: " + indice + ", tamaño: " + tamano);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package simulador;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de Planificación - Tiempos por proceso y uso de los trabajadores.
+ * Acumula, para cada proceso que termina, sus tiempos de espera, retorno y
+ * respuesta, además del rendimiento (procesos por segundo) y la utilización
+ * de los trabajadores. Cada registro es un puñado de sumas atómicas sin
+ * bloqueos, por lo que puede consultarse en vivo mientras el planificador corre.
+ * 
+ * Los histogramas guardan microsegundos; los getters devuelven milisegundos.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class MetricasPlanificacion {
+    private final LongAdder procesosCompletados = new LongAdder();
+    private final LongAdder tramosEjecutados = new LongAdder();
+    private final LongAdder nanosOcupados = new LongAdder();
+    private final LongAdder sumaEsperaMicros = new LongAdder();
+    private final LongAdder sumaRetornoMicros = new LongAdder();
+    private final LongAdder sumaRespuestaMicros = new LongAdder();
+    private final HistogramaLog histogramaEspera = new HistogramaLog();
+    private final HistogramaLog histogramaRetorno = new HistogramaLog();
+    private final HistogramaLog histogramaRespuesta = new HistogramaLog();
+    
+    // Tiempo de pared y capacidad (trabajadores x tiempo) de los lotes terminados
+    private final AtomicLong nanosLotes = new AtomicLong();
+    private final AtomicLong nanosCapacidad = new AtomicLong();
+    private volatile long inicioLoteNanos;
+    private volatile int trabajadoresLote; // 0 si no hay un lote en curso
+    
+    /**
+     * Marca el comienzo de un lote.
+     * @param trabajadores Hilos que atienden el lote
+     * @param ahora Instante de inicio (System.nanoTime)
+     */
+    public void iniciarLote(int trabajadores, long ahora) {
+        inicioLoteNanos = ahora;
+        trabajadoresLote = Math.max(1, trabajadores);
+    }
+    
+    /**
+     * Marca el final del lote en curso.
+     * @param ahora Instante de fin (System.nanoTime)
+     */
+    public void finalizarLote(long ahora) {
+        int trabajadores = trabajadoresLote;
+        if (trabajadores == 0) {
+            return;
+        }
+        long duracion = ahora - inicioLoteNanos;
+        nanosLotes.addAndGet(duracion);
+        nanosCapacidad.addAndGet(duracion * trabajadores);
+        trabajadoresLote = 0;
+    }
+    
+    /**
+     * Registra un tramo de ejecución (un proceso completo o un turno).
+     * @param nanos Duración del tramo
+     */
+    public void registrarTramo(long nanos) {
+        tramosEjecutados.increment();
+        nanosOcupados.add(nanos);
+    }
+    
+    /**
+     * Registra un proceso terminado a partir de sus marcas de tiempo.
+     * @param proceso Proceso con llegada, primera ejecución y finalización marcadas
+     */
+    public void registrarFinalizacion(Proceso proceso) {
+        long espera = proceso.getTiempoEsperaNanos() / 1000;
+        long retorno = proceso.getTiempoRetornoNanos() / 1000;
+        long respuesta = proceso.getTiempoRespuestaNanos() / 1000;
+        procesosCompletados.increment();
+        sumaEsperaMicros.add(espera);
+        sumaRetornoMicros.add(retorno);
+        sumaRespuestaMicros.add(respuesta);
+        histogramaEspera.registrar(espera);
+        histogramaRetorno.registrar(retorno);
+        histogramaRespuesta.registrar(respuesta);
+    }
+    
+    /**
+     * Elimina todas las métricas, incluido el lote en curso.
+     */
+    public void reiniciar() {
+        procesosCompletados.reset();
+        tramosEjecutados.reset();
+        nanosOcupados.reset();
+        sumaEsperaMicros.reset();
+        sumaRetornoMicros.reset();
+        sumaRespuestaMicros.reset();
+        histogramaEspera.reiniciar();
+        histogramaRetorno.reiniciar();
+        histogramaRespuesta.reiniciar();
+        nanosLotes.set(0);
+        nanosCapacidad.set(0);
+        inicioLoteNanos = System.nanoTime();
+    }
+    
+    public long getProcesosCompletados() {
+        return procesosCompletados.sum();
+    }
+    
+    public long getTramosEjecutados() {
+        return tramosEjecutados.sum();
+    }
+    
+    /**
+     * Procesos terminados por segundo de ejecución, incluido el lote en curso.
+     */
+    public double getRendimiento() {
+        long nanos = nanosLotes.get() + nanosLoteEnCurso();
+        return nanos > 0 ? getProcesosCompletados() * 1e9 / nanos : 0.0;
+    }
+    
+    /**
+     * Fracción del tiempo de los trabajadores dedicada a ejecutar procesos (0 a 1).
+     */
+    public double getUtilizacionTrabajadores() {
+        long capacidad = nanosCapacidad.get() + nanosLoteEnCurso() * trabajadoresLote;
+        return capacidad > 0 ? Math.min(1.0, (double) nanosOcupados.sum() / capacidad) : 0.0;
+    }
+    
+    public double getTiempoEsperaPromedioMs() {
+        return promedioMs(sumaEsperaMicros);
+    }
+    
+    public double getTiempoRetornoPromedioMs() {
+        return promedioMs(sumaRetornoMicros);
+    }
+    
+    public double getTiempoRespuestaPromedioMs() {
+        return promedioMs(sumaRespuestaMicros);
+    }
+    
+    /**
+     * Percentil del tiempo de espera.
+     * @param fraccion Fracción entre 0 y 1 (0.99 = p99)
+     */
+    public double getTiempoEsperaPercentilMs(double fraccion) {
+        return histogramaEspera.obtenerPercentil(fraccion) / 1000.0;
+    }
+    
+    public double getTiempoRetornoPercentilMs(double fraccion) {
+        return histogramaRetorno.obtenerPercentil(fraccion) / 1000.0;
+    }
+    
+    public double getTiempoRespuestaPercentilMs(double fraccion) {
+        return histogramaRespuesta.obtenerPercentil(fraccion) / 1000.0;
+    }
+    
+    private long nanosLoteEnCurso() {
+        return trabajadoresLote > 0 ? System.nanoTime() - inicioLoteNanos : 0;
+    }
+    
+    private double promedioMs(LongAdder sumaMicros) {
+        long completados = getProcesosCompletados();
+        return completados > 0 ? sumaMicros.sum() / 1000.0 / completados : 0.0;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("Completados: %d, Rendimiento: %.2f proc/s, Utilización: %.1f%%, "
+                + "Espera: %.1f ms, Retorno: %.1f ms, Respuesta: %.1f ms",
+                getProcesosCompletados(), getRendimiento(), getUtilizacionTrabajadores() * 100,
+                getTiempoEsperaPromedioMs(), getTiempoRetornoPromedioMs(), getTiempoRespuestaPromedioMs());
+    }
+}
@@ -0,0 +1,146 @@
+package simulador;
+
+import java.util.Arrays;
+
+/**
+ * Montículo de Índices - Montículo binario mínimo de enteros con clave primitiva.
+ * Cada entrada es un índice (int) ordenado por clave y, en caso de empate, por
+ * orden de inserción. No crea objetos por entrada, por lo que sirve como cola de
+ * eventos o cola de listos en simulaciones con millones de elementos.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class MonticuloIndices {
+    private static final int CAPACIDAD_INICIAL = 16;
+    
+    private long[] claves;
+    private long[] secuencias;
+    private int[] valores;
+    private int tamano;
+    private long siguienteSecuencia;
+    
+    /**
+     * Constructor por defecto.
+     */
+    public MonticuloIndices() {
+        this(CAPACIDAD_INICIAL);
+    }
+    
+    /**
+     * Constructor con capacidad inicial.
+     * @param capacidad Número de entradas esperadas
+     */
+    public MonticuloIndices(int capacidad) {
+        int inicial = Math.max(CAPACIDAD_INICIAL, capacidad);
+        this.claves = new long[inicial];
+        this.secuencias = new long[inicial];
+        this.valores = new int[inicial];
+    }
+    
+    /**
+     * Inserta un valor con su clave en O(log n).
+     * @param clave Clave de orden (menor sale primero)
+     * @param valor Valor asociado
+     */
+    public void insertar(long clave, int valor) {
+        if (tamano == valores.length) {
+            int nuevaCapacidad = valores.length + (valores.length >> 1) + 1;
+            claves = Arrays.copyOf(claves, nuevaCapacidad);
+            secuencias = Arrays.copyOf(secuencias, nuevaCapacidad);
+            valores = Arrays.copyOf(valores, nuevaCapacidad);
+        }
+        int i = tamano++;
+        long secuencia = siguienteSecuencia++;
+        while (i > 0) {
+            int padre = (i - 1) >>> 1;
+            if (!menor(clave, secuencia, padre)) {
+                break;
+            }
+            colocar(i, claves[padre], secuencias[padre], valores[padre]);
+            i = padre;
+        }
+        colocar(i, clave, secuencia, valor);
+    }
+    
+    /**
+     * Consulta la clave mínima sin extraerla.
+     * @return Clave mínima (solo válida si el montículo no está vacío)
+     */
+    public long verClaveMinima() {
+        return claves[0];
+    }
+    
+    /**
+     * Consulta el valor con clave mínima sin extraerlo.
+     * @return Valor mínimo (solo válido si el montículo no está vacío)
+     */
+    public int verValorMinimo() {
+        return valores[0];
+    }
+    
+    /**
+     * Extrae el valor con la clave mínima en O(log n).
+     * @return Valor extraído
+     * @throws IllegalStateException si el montículo está vacío
+     */
+    public int extraerMinimo() {
+        if (tamano == 0) {
+            throw new IllegalStateException("Montículo vacío");
+        }
+        int minimo = valores[0];
+        tamano--;
+        if (tamano > 0) {
+            long clave = claves[tamano];
+            long secuencia = secuencias[tamano];
+            int valor = valores[tamano];
+            int i = 0;
+            int mitad = tamano >>> 1;
+            while (i < mitad) {
+                int hijo = 2 * i + 1;
+                if (hijo + 1 < tamano && menor(claves[hijo + 1], secuencias[hijo + 1], hijo)) {
+                    hijo++;
+                }
+                if (!menor(claves[hijo], secuencias[hijo], clave, secuencia)) {
+                    break;
+                }
+                colocar(i, claves[hijo], secuencias[hijo], valores[hijo]);
+                i = hijo;
+            }
+            colocar(i, clave, secuencia, valor);
+        }
+        return minimo;
+    }
+    
+    /**
+     * Elimina todas las entradas.
+     */
+    public void limpiar() {
+        tamano = 0;
+        siguienteSecuencia = 0;
+    }
+    
+    public int getTamano() {
+        return tamano;
+    }
+    
+    public boolean estaVacio() {
+        return tamano == 0;
+    }
+    
+    // Operaciones internas del montículo
+    
+    private boolean menor(long clave, long secuencia, int posicion) {
+        return menor(clave, secuencia, claves[posicion], secuencias[posicion]);
+    }
+    
+    private static boolean menor(long claveA, long secuenciaA, long claveB, long secuenciaB) {
+        return claveA < claveB || (claveA == claveB && secuenciaA < secuenciaB);
+    }
+    
+    private void colocar(int posicion, long clave, long secuencia, int valor) {
+        claves[posicion] = clave;
+        secuencias[posicion] = secuencia;
+        valores[posicion] = valor;
+    }
+}
@@ -0,0 +1,383 @@
+package simulador;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Planificador MLFQ - Cola multinivel con retroalimentación.
+ * Cada nivel es una cola FIFO (ArrayDeque) con su propio quantum; el nivel 0
+ * es el de mayor prioridad. Todas las operaciones sobre las colas son O(1),
+ * por lo que elegir el siguiente proceso cuesta O(niveles).
+ * 
+ * Reglas:
+ * - Los procesos entran en el nivel 0, salvo los de baja prioridad estática
+ *   (como los demonios), que entran en el último nivel.
+ * - Un proceso que consume su quantum de CPU completo baja un nivel; así el
+ *   trabajo intensivo en CPU se degrada. Los procesos de E/S apenas usan CPU
+ *   y se mantienen en su nivel.
+ * - Envejecimiento: un proceso que espera más que el umbral en un nivel
+ *   inferior sube un nivel. Como cada cola está ordenada por instante de
+ *   llegada, basta con mirar su cabeza.
+ * 
+ * Cuando lo ejecuta el PlanificadorProcesos, cada turno respeta además el
+ * presupuesto del proceso y el plazo del lote: un proceso que los agota se
+ * detiene y no vuelve a la cola.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class PlanificadorMLFQ {
+    public static final long UMBRAL_ENVEJECIMIENTO_POR_DEFECTO_MS = 2000;
+    
+    private static final int[] QUANTUMS_POR_DEFECTO = {50, 100, 200, 400};
+    private static final String EVENTO_BAJA = "[PID {p}] baja al nivel {i} de MLFQ";
+    private static final String EVENTO_SUBE = "[PID {p}] sube al nivel {i} de MLFQ por envejecimiento";
+    
+    private final int[] quantums;
+    private final long umbralEnvejecimientoNanos;
+    private final ArrayDeque<Entrada>[] niveles;
+    private int tamano;
+    private int enCurso;
+    private int siguienteIndice;
+    private long degradaciones;
+    private long promociones;
+    
+    /**
+     * Proceso encolado en un nivel, con el instante en que entró en la cola.
+     */
+    private static final class Entrada {
+        private final int indice;
+        private final Proceso proceso;
+        private int nivel;
+        private long encoladoNanos;
+        private long tiempoNanos;
+        
+        Entrada(int indice, Proceso proceso, int nivel) {
+            this.indice = indice;
+            this.proceso = proceso;
+            this.nivel = nivel;
+        }
+    }
+    
+    /**
+     * Límite de tiempo de cada turno, que fija quien ejecuta el MLFQ.
+     */
+    interface Limites {
+        Limites NINGUNO = (proceso, consumidoNanos, ahora) -> VigilantePlazos.SIN_LIMITE;
+        
+        /**
+         * @param proceso Proceso que va a recibir un turno
+         * @param consumidoNanos Tiempo que ya lleva ejecutado en este lote
+         * @param ahora Instante actual (System.nanoTime)
+         * @return Instante en que debe detenerse, o VigilantePlazos.SIN_LIMITE
+         */
+        long calcular(Proceso proceso, long consumidoNanos, long ahora);
+    }
+    
+    /**
+     * Constructor por defecto: cuatro niveles de 50, 100, 200 y 400 ms.
+     */
+    public PlanificadorMLFQ() {
+        this(QUANTUMS_POR_DEFECTO, UMBRAL_ENVEJECIMIENTO_POR_DEFECTO_MS);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param quantums Quantum en milisegundos de cada nivel, del más prioritario al menos
+     * @param umbralEnvejecimientoMs Espera tras la cual un proceso sube de nivel
+     * @throws IllegalArgumentException si no hay niveles o algún quantum no es positivo
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public PlanificadorMLFQ(int[] quantums, long umbralEnvejecimientoMs) {
+        if (quantums == null || quantums.length == 0) {
+            throw new IllegalArgumentException("Se necesita al menos un nivel");
+        }
+        for (int quantum : quantums) {
+            if (quantum <= 0) {
+                throw new IllegalArgumentException("El quantum de cada nivel debe ser positivo");
+            }
+        }
+        if (umbralEnvejecimientoMs <= 0) {
+            throw new IllegalArgumentException("El umbral de envejecimiento debe ser positivo");
+        }
+        this.quantums = quantums.clone();
+        this.umbralEnvejecimientoNanos = umbralEnvejecimientoMs * 1_000_000L;
+        this.niveles = new ArrayDeque[quantums.length];
+        for (int i = 0; i < niveles.length; i++) {
+            niveles[i] = new ArrayDeque<>();
+        }
+    }
+    
+    /**
+     * Agrega un proceso en su nivel inicial. No debe llamarse durante ejecutar().
+     * @param proceso Proceso a agregar
+     */
+    public synchronized void agregar(Proceso proceso) {
+        if (proceso == null) {
+            return;
+        }
+        int nivel = proceso.getPrioridad() > Proceso.PRIORIDAD_NORMAL ? niveles.length - 1 : 0;
+        encolar(new Entrada(siguienteIndice++, proceso, nivel), System.nanoTime());
+    }
+    
+    /**
+     * Ejecuta todos los procesos agregados hasta que terminan, repartiendo los
+     * turnos entre varios trabajadores. Al terminar las colas quedan vacías.
+     * @param numeroHilos Trabajadores; 0 o negativo usa uno por núcleo
+     * @return Resultado de cada proceso, en el orden en que se agregaron
+     */
+    public List<ResultadoEjecucion> ejecutar(int numeroHilos) {
+        VigilantePlazos vigilante = new VigilantePlazos();
+        try {
+            return ejecutar(numeroHilos, new MetricasPlanificacion(), vigilante, Limites.NINGUNO,
+                            new AtomicInteger(), new AtomicInteger());
+        } finally {
+            vigilante.cerrar();
+        }
+    }
+    
+    /**
+     * Igual que ejecutar(int), acumulando los tiempos de cada proceso en las
+     * métricas indicadas. Todos los procesos llegan al empezar la ejecución.
+     * Cada turno se registra en el vigilante, que detiene el proceso al
+     * vencer el límite del turno o al cancelarlo. Los contadores reflejan los
+     * procesos que ejecutan un paso en cada momento y el máximo alcanzado.
+     */
+    List<ResultadoEjecucion> ejecutar(int numeroHilos, final MetricasPlanificacion metricas,
+                                      final VigilantePlazos vigilante, final Limites limites,
+                                      final AtomicInteger enVuelo, final AtomicInteger maximoEnVuelo) {
+        final ResultadoEjecucion[] resultados;
+        final Proceso[] procesos;
+        synchronized (this) {
+            resultados = new ResultadoEjecucion[siguienteIndice];
+            procesos = new Proceso[siguienteIndice];
+            for (ArrayDeque<Entrada> cola : niveles) {
+                for (Entrada entrada : cola) {
+                    procesos[entrada.indice] = entrada.proceso;
+                }
+            }
+        }
+        
+        int hilos = Math.min(numeroHilos > 0 ? numeroHilos : Runtime.getRuntime().availableProcessors(),
+                             Math.max(1, resultados.length));
+        long inicioLote = System.nanoTime();
+        for (Proceso proceso : procesos) {
+            proceso.marcarLlegada(inicioLote);
+        }
+        metricas.iniciarLote(hilos, inicioLote);
+        Thread[] trabajadores = new Thread[hilos - 1];
+        for (int i = 0; i < trabajadores.length; i++) {
+            trabajadores[i] = new Thread(() -> atender(resultados, metricas, vigilante, limites,
+                                                       enVuelo, maximoEnVuelo),
+                                         "mlfq-trabajador-" + i);
+            trabajadores[i].setDaemon(true);
+            trabajadores[i].start();
+        }
+        // El hilo que llama también atiende turnos
+        atender(resultados, metricas, vigilante, limites, enVuelo, maximoEnVuelo);
+        for (Thread trabajador : trabajadores) {
+            try {
+                trabajador.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Thread otro : trabajadores) {
+                    otro.interrupt();
+                }
+                break;
+            }
+        }
+        metricas.finalizarLote(System.nanoTime());
+        
+        synchronized (this) {
+            for (ArrayDeque<Entrada> cola : niveles) {
+                cola.clear();
+            }
+            tamano = 0;
+            siguienteIndice = 0;
+        }
+        for (int i = 0; i < resultados.length; i++) {
+            if (resultados[i] == null) {
+                resultados[i] = new ResultadoEjecucion(procesos[i], ResultadoEjecucion.Estado.INTERRUMPIDO, 0, null);
+            }
+        }
+        Proceso.getRegistroEventos().vaciar();
+        return Arrays.asList(resultados);
+    }
+    
+    /**
+     * Bucle de un trabajador: toma el proceso más prioritario, le da un turno
+     * del quantum de su nivel y lo devuelve a la cola que corresponda.
+     */
+    private void atender(ResultadoEjecucion[] resultados, MetricasPlanificacion metricas,
+                         VigilantePlazos vigilante, Limites limites,
+                         AtomicInteger enVuelo, AtomicInteger maximoEnVuelo) {
+        Entrada entrada;
+        while ((entrada = tomar()) != null) {
+            Proceso proceso = entrada.proceso;
+            if (proceso.isCancelado()) {
+                resultados[entrada.indice] = new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.CANCELADO,
+                        entrada.tiempoNanos / 1_000_000L, null);
+                devolver(entrada, 0, 0);
+                continue;
+            }
+            int completadasAntes = proceso.getUnidadesCompletadas();
+            long inicio = System.nanoTime();
+            long limite = limites.calcular(proceso, entrada.tiempoNanos, inicio);
+            if (limite <= inicio) {
+                resultados[entrada.indice] = new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.EXPIRADO,
+                        entrada.tiempoNanos / 1_000_000L, null);
+                devolver(entrada, 0, 0);
+                continue;
+            }
+            maximoEnVuelo.accumulateAndGet(enVuelo.incrementAndGet(), Math::max);
+            VigilantePlazos.Vigilancia vigilancia = vigilante.iniciar(proceso, limite);
+            int restantes;
+            try {
+                restantes = proceso.ejecutarPaso(quantums[entrada.nivel]);
+            } catch (RuntimeException e) {
+                enVuelo.decrementAndGet();
+                vigilante.terminar(proceso, vigilancia);
+                entrada.tiempoNanos += System.nanoTime() - inicio;
+                resultados[entrada.indice] = new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.FALLIDO,
+                        entrada.tiempoNanos / 1_000_000L, e.toString());
+                devolver(entrada, 0, 0);
+                continue;
+            }
+            enVuelo.decrementAndGet();
+            ResultadoEjecucion.Estado detencion = vigilante.terminar(proceso, vigilancia);
+            long fin = System.nanoTime();
+            entrada.tiempoNanos += fin - inicio;
+            proceso.registrarTramo(inicio, fin);
+            metricas.registrarTramo(fin - inicio);
+            if (detencion != null) {
+                resultados[entrada.indice] = new ResultadoEjecucion(proceso, detencion,
+                        entrada.tiempoNanos / 1_000_000L, null);
+                restantes = 0;
+            } else if (restantes == 0) {
+                proceso.marcarFinalizacion(fin);
+                metricas.registrarFinalizacion(proceso);
+                resultados[entrada.indice] = new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.COMPLETADO,
+                        entrada.tiempoNanos / 1_000_000L, null);
+            } else if (proceso.isCancelado()) {
+                resultados[entrada.indice] = new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.CANCELADO,
+                        entrada.tiempoNanos / 1_000_000L, null);
+                restantes = 0;
+            }
+            long cpuUsado = (long) (proceso.getUnidadesCompletadas() - completadasAntes)
+                    * proceso.obtenerTiempoCPUPorUnidad();
+            devolver(entrada, restantes, cpuUsado);
+        }
+    }
+    
+    /**
+     * Saca el proceso más prioritario, esperando si otros trabajadores
+     * tienen turnos en curso que pueden volver a la cola.
+     * @return Siguiente entrada, o null si no queda trabajo
+     */
+    private synchronized Entrada tomar() {
+        while (tamano == 0 && enCurso > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        if (tamano == 0 || Thread.currentThread().isInterrupted()) {
+            return null;
+        }
+        envejecer(System.nanoTime());
+        for (ArrayDeque<Entrada> cola : niveles) {
+            Entrada entrada = cola.pollFirst();
+            if (entrada != null) {
+                tamano--;
+                enCurso++;
+                return entrada;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Devuelve una entrada tras su turno: la reencola (bajándola de nivel si
+     * consumió el quantum completo de CPU) o la da por terminada.
+     */
+    private synchronized void devolver(Entrada entrada, int restantes, long cpuUsado) {
+        enCurso--;
+        if (restantes > 0) {
+            if (cpuUsado >= quantums[entrada.nivel] && entrada.nivel < niveles.length - 1) {
+                entrada.nivel++;
+                degradaciones++;
+                Proceso.getRegistroEventos().registrar(RegistroEventos.Nivel.DETALLE,
+                        entrada.proceso.getPid(), EVENTO_BAJA, null, entrada.nivel, 0);
+            }
+            encolar(entrada, System.nanoTime());
+        }
+        notifyAll();
+    }
+    
+    /**
+     * Sube un nivel los procesos que llevan esperando más que el umbral.
+     * Solo se revisan las cabezas: cada cola está ordenada por llegada.
+     */
+    private void envejecer(long ahora) {
+        for (int nivel = 1; nivel < niveles.length; nivel++) {
+            ArrayDeque<Entrada> cola = niveles[nivel];
+            Entrada cabeza;
+            while ((cabeza = cola.peekFirst()) != null
+                    && ahora - cabeza.encoladoNanos >= umbralEnvejecimientoNanos) {
+                cola.pollFirst();
+                cabeza.nivel = nivel - 1;
+                cabeza.encoladoNanos = ahora;
+                niveles[nivel - 1].addLast(cabeza);
+                promociones++;
+                Proceso.getRegistroEventos().registrar(RegistroEventos.Nivel.DETALLE,
+                        cabeza.proceso.getPid(), EVENTO_SUBE, null, cabeza.nivel, 0);
+            }
+        }
+    }
+    
+    private void encolar(Entrada entrada, long ahora) {
+        entrada.encoladoNanos = ahora;
+        niveles[entrada.nivel].addLast(entrada);
+        tamano++;
+    }
+    
+    // Getters
+    public int getNumeroNiveles() {
+        return niveles.length;
+    }
+    
+    public int getQuantum(int nivel) {
+        return quantums[nivel];
+    }
+    
+    public synchronized int getTamano() {
+        return tamano;
+    }
+    
+    public synchronized int getTamanoNivel(int nivel) {
+        return niveles[nivel].size();
+    }
+    
+    /**
+     * Veces que un proceso bajó de nivel por consumir su quantum.
+     */
+    public synchronized long getDegradaciones() {
+        return degradaciones;
+    }
+    
+    /**
+     * Veces que un proceso subió de nivel por envejecimiento.
+     */
+    public synchronized long getPromociones() {
+        return promociones;
+    }
+    
+    @Override
+    public String toString() {
+        return "MLFQ" + Arrays.toString(quantums);
+    }
+}
@@ -0,0 +1,1309 @@
+package simulador;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Planificador de Procesos - Gestiona la cola de procesos y su ejecución.
+ * Implementa el patrón Strategy para diferentes algoritmos de planificación.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class PlanificadorProcesos implements PlanificadorProcesosMBean {
+    // Plantillas de eventos del ciclo de vida (ver RegistroEventos)
+    private static final String EVENTO_INICIO = "[PID {p}] inicio ({a}, {i} en vuelo)";
+    private static final String EVENTO_FIN = "[PID {p}] fin en {i} ms";
+    private static final String EVENTO_FALLO = "[PID {p}] falló: {a}";
+    private static final String EVENTO_DESALOJO = "[PID {p}] desalojado, quedan {i}/{n} unidades";
+    private static final String EVENTO_DETENIDO = "[PID {p}] detenido: {a} tras {i} ms";
+    private static final long GRACIA_PLAZO_LOTE_NANOS = 200_000_000L;
+    private static final int TAMANO_BUFER_LISTADO = 64 * 1024;
+    private static final String SALTO_LINEA = System.lineSeparator();
+    private static final String DOMINIO_MBEAN = "simulador:type=PlanificadorProcesos,name=";
+    private static final AtomicInteger SECUENCIA_MBEAN = new AtomicInteger();
+    
+    private ListaVersionada<Proceso> colaProcesos;
+    private ColaListos colaListos;
+    private EstadisticasCola estadisticas;
+    private volatile int contadorEjecuciones; // Se consulta desde JMX
+    private final AtomicInteger procesosEnVuelo = new AtomicInteger();
+    private final AtomicInteger maximoProcesosEnVuelo = new AtomicInteger();
+    private final VigilantePlazos vigilante = new VigilantePlazos();
+    private volatile long presupuestoPorDefectoMs;
+    private volatile long plazoLoteMs;
+    private final MetricasPlanificacion metricas = new MetricasPlanificacion();
+    private ObjectName nombreMBean;
+    private volatile DiarioPlanificador diario;
+    private long muestrasPredictorOrdenadas; // Muestras del predictor al recalcular las claves
+    private long muestrasPredictorEstimadas; // Muestras del predictor al recalcular los estimados
+    private volatile ReceptorEnvios envios; // Se crea con el primer envío concurrente
+    private volatile boolean retirarCompletados;
+    private volatile TemporizadorDemonios temporizador; // Demonios atendidos como servicios periódicos
+    
+    /**
+     * Constructor por defecto.
+     * Inicializa la cola de procesos vacía con política FCFS.
+     */
+    public PlanificadorProcesos() {
+        this(new PoliticaFCFS());
+    }
+    
+    /**
+     * Constructor con política de planificación.
+     * @param politica Política que decide el orden de ejecución
+     */
+    public PlanificadorProcesos(PoliticaPlanificacion politica) {
+        this.colaProcesos = new ListaVersionada<>();
+        this.colaListos = new ColaListos(politica);
+        this.estadisticas = new EstadisticasCola();
+        this.contadorEjecuciones = 0;
+    }
+    
+    /**
+     * Agrega un proceso a la cola de planificación.
+     * @param proceso El proceso a agregar
+     * @return true si se agregó exitosamente, false en caso contrario
+     */
+    public boolean agregarProceso(Proceso proceso) {
+        if (proceso == null) {
+            return false;
+        }
+        DiarioPlanificador diario = this.diario;
+        if (diario != null) {
+            diario.registrarAgregado(proceso); // Se anota antes de aplicarse
+        }
+        colaListos.insertar(proceso);
+        estadisticas.registrarEstimado(proceso);
+        return colaProcesos.add(proceso);
+    }
+    
+    /**
+     * Agrega un lote de procesos a la cola de planificación.
+     * Reserva espacio una sola vez y reconstruye la cola de listos en O(n)
+     * cuando el lote es mayor que la cola actual.
+     * @param procesos Procesos a agregar; los null se ignoran
+     * @return Número de procesos agregados
+     */
+    public int agregarProcesos(Collection<? extends Proceso> procesos) {
+        if (procesos == null || procesos.isEmpty()) {
+            return 0;
+        }
+        DiarioPlanificador diario = this.diario;
+        if (diario != null) {
+            diario.registrarAgregados(procesos);
+        }
+        colaProcesos.asegurarCapacidad(colaProcesos.size() + procesos.size());
+        int agregados = colaListos.insertarTodos(procesos);
+        estadisticas.registrarEstimados(procesos);
+        for (Proceso proceso : procesos) {
+            if (proceso != null) {
+                colaProcesos.add(proceso);
+            }
+        }
+        return agregados;
+    }
+    
+    /**
+     * Envía un proceso desde cualquier hilo. A diferencia de agregarProceso,
+     * que solo debe llamar el hilo dueño del planificador, admite muchos
+     * productores a la vez: el proceso espera en un receptor acotado y sin
+     * cerrojos hasta que el dueño lo drena, lo que ocurre al empezar cada
+     * lote o con drenarEnvios(). Si el receptor está lleno se aplica su
+     * política de admisión (ver configurarEnvios).
+     * @param proceso El proceso a enviar
+     * @return true si se admitió, false si se rechazó
+     */
+    public boolean enviarProceso(Proceso proceso) {
+        return obtenerEnvios().enviar(proceso);
+    }
+    
+    /**
+     * Pasa a la cola los procesos enviados desde otros hilos.
+     * Debe llamarlo el hilo dueño del planificador, como a agregarProceso.
+     * @return Número de procesos agregados
+     */
+    public int drenarEnvios() {
+        return drenar(envios);
+    }
+    
+    private int drenar(ReceptorEnvios envios) {
+        if (envios == null || envios.getPendientes() == 0) {
+            return 0;
+        }
+        List<Proceso> lote = new ArrayList<>(envios.getPendientes());
+        envios.drenar(lote);
+        return agregarProcesos(lote);
+    }
+    
+    /**
+     * Configura la capacidad y la política de admisión de los envíos
+     * concurrentes. El receptor nuevo se publica primero y el anterior se
+     * retira: los productores que aún lo usan reenvían al nuevo, y lo que ya
+     * esperaba en él se drena a la cola. Debe llamarlo el hilo dueño.
+     * Por defecto la capacidad es {@link ReceptorEnvios#CAPACIDAD_POR_DEFECTO}
+     * y los envíos que no caben se rechazan.
+     * @param capacidad Envíos que pueden esperar sin drenar
+     * @param admision Qué hacer cuando la capacidad está agotada
+     */
+    public void configurarEnvios(int capacidad, ReceptorEnvios.Admision admision) {
+        ReceptorEnvios nuevo = new ReceptorEnvios(capacidad, admision, this::ejecutarEnLlamador);
+        ReceptorEnvios anterior;
+        synchronized (this) {
+            anterior = envios;
+            envios = nuevo;
+        }
+        if (anterior == null) {
+            return;
+        }
+        anterior.retirar(nuevo);
+        // Un productor puede haber reservado lugar sin terminar de depositar
+        while (anterior.getPendientes() > 0) {
+            if (drenar(anterior) == 0) {
+                Thread.yield();
+            }
+        }
+    }
+    
+    private ReceptorEnvios obtenerEnvios() {
+        ReceptorEnvios actual = envios;
+        if (actual == null) {
+            synchronized (this) {
+                actual = envios;
+                if (actual == null) {
+                    actual = new ReceptorEnvios(ReceptorEnvios.CAPACIDAD_POR_DEFECTO,
+                                                ReceptorEnvios.Admision.RECHAZAR, this::ejecutarEnLlamador);
+                    envios = actual;
+                }
+            }
+        }
+        return actual;
+    }
+    
+    /**
+     * Política EJECUTAR_EN_LLAMADOR: el productor ejecuta el proceso en su
+     * propio hilo, lo que frena su ritmo de envíos. Respeta la cancelación, el
+     * presupuesto y el plazo de lote como un lote de un solo proceso. No pasa
+     * por la cola, así que no se anota en el diario y al terminar devuelve su PID.
+     */
+    private void ejecutarEnLlamador(Proceso proceso) {
+        proceso.reiniciarEjecucion();
+        proceso.marcarLlegada(System.nanoTime());
+        ejecutarProceso(proceso, calcularFinLote(), false);
+        proceso.liberarPID();
+    }
+    
+    /**
+     * Lista todos los procesos en la cola.
+     * Utiliza polimorfismo para mostrar información específica de cada tipo.
+     */
+    public void listarProcesos() {
+        if (colaProcesos.isEmpty()) {
+            return; // No mostrar mensaje aquí - solo en Principal
+        }
+        
+        // Un solo búfer para toda la cola en lugar de un println por proceso
+        Writer salida = new BufferedWriter(new OutputStreamWriter(System.out), TAMANO_BUFER_LISTADO);
+        try {
+            listarProcesos(salida, 0, Integer.MAX_VALUE);
+            salida.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Escribe una página de la cola, una línea por proceso con su posición.
+     * @param destino Búfer o flujo donde se escribe; puede reutilizarse entre páginas
+     * @param desplazamiento Procesos que se saltan antes de escribir
+     * @param limite Máximo de procesos a escribir
+     * @return Procesos escritos
+     * @throws IOException si el destino falla al escribir
+     */
+    public int listarProcesos(Appendable destino, int desplazamiento, int limite) throws IOException {
+        return listarProcesos(destino, desplazamiento, limite, null, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Escribe una página de los procesos que cumplen el filtro, una línea por
+     * proceso con su posición en la cola. Recorre una instantánea de la cola,
+     * así que puede llamarse mientras otro hilo agrega procesos, y no crea
+     * cadenas por proceso: cada uno se describe directamente en el destino.
+     * @param destino Búfer o flujo donde se escribe; puede reutilizarse entre páginas
+     * @param desplazamiento Procesos que cumplen el filtro y se saltan antes de escribir
+     * @param limite Máximo de procesos a escribir
+     * @param tipo Tipo de proceso (por ejemplo ProcesoES.TIPO), o null para todos
+     * @param pidMinimo Menor PID incluido
+     * @param pidMaximo Mayor PID incluido
+     * @return Procesos escritos
+     * @throws IOException si el destino falla al escribir
+     */
+    public int listarProcesos(Appendable destino, int desplazamiento, int limite, String tipo,
+                              int pidMinimo, int pidMaximo) throws IOException {
+        if (desplazamiento < 0 || limite < 0) {
+            throw new IllegalArgumentException("El desplazamiento y el límite no pueden ser negativos");
+        }
+        Instantanea<Proceso> procesos = colaProcesos.instantanea();
+        int saltados = 0;
+        int escritos = 0;
+        for (int i = 0; i < procesos.size() && escritos < limite; i++) {
+            Proceso proceso = procesos.get(i);
+            int pid = proceso.getPid();
+            if (pid < pidMinimo || pid > pidMaximo
+                    || (tipo != null && !tipo.equals(proceso.obtenerTipoProceso()))) {
+                continue;
+            }
+            if (saltados < desplazamiento) {
+                saltados++;
+                continue;
+            }
+            Proceso.anexarEntero(destino, i + 1);
+            destino.append(". ");
+            // Polimorfismo: cada proceso extiende describir() con sus propios datos
+            proceso.describir(destino);
+            destino.append(SALTO_LINEA);
+            escritos++;
+        }
+        return escritos;
+    }
+    
+    /**
+     * Ejecuta todos los procesos en la cola, en el orden que dicta la política.
+     * Demuestra polimorfismo - cada tipo de proceso ejecuta de manera diferente.
+     * Si la política define un quantum (Round-Robin), los procesos se ejecutan
+     * por turnos con desalojo en lugar de uno detrás de otro.
+     * Como todos los métodos que ejecutan o simulan la cola, antes drena los
+     * procesos enviados desde otros hilos.
+     */
+    public void ejecutarTodosProcesos() {
+        drenarEnvios();
+        if (colaProcesos.isEmpty()) {
+            return;
+        }
+        
+        int quantum = colaListos.getPolitica().getQuantum();
+        if (quantum > 0) {
+            ejecutarTodosProcesosPorTurnos(quantum, 1);
+            return;
+        }
+        
+        contadorEjecuciones++;
+        long finLote = calcularFinLote();
+        List<Proceso> procesos = ordenLote();
+        prepararLote(procesos, 1);
+        
+        List<Proceso> completados = retirarCompletados ? new ArrayList<Proceso>() : null;
+        for (Proceso proceso : procesos) {
+            // Polimorfismo: ejecutar() se comporta diferente según el tipo de proceso
+            ResultadoEjecucion resultado = ejecutarProceso(proceso, finLote);
+            if (resultado.getEstado() == ResultadoEjecucion.Estado.CANCELADO) {
+                proceso.descartarCancelacion();
+            } else if (completados != null && resultado.isCompletado()) {
+                completados.add(proceso);
+            }
+        }
+        metricas.finalizarLote(System.nanoTime());
+        if (completados != null) {
+            retirarProcesos(completados);
+        }
+        terminarLoteDiario();
+        Proceso.getRegistroEventos().vaciar();
+    }
+    
+    /**
+     * Ejecuta todos los procesos de la cola en paralelo sobre un grupo de hilos.
+     * El método espera (barrera) a que terminen todos antes de retornar, por lo
+     * que el tiempo total se aproxima al del proceso más largo.
+     * @param numeroHilos Tamaño del grupo de hilos; 0 o negativo usa un hilo por núcleo
+     * @return Resultado de cada proceso, en el orden de la política
+     */
+    public List<ResultadoEjecucion> ejecutarTodosProcesosEnParalelo(int numeroHilos) {
+        drenarEnvios();
+        if (colaProcesos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        int hilos = Math.min(numeroHilos > 0 ? numeroHilos : Runtime.getRuntime().availableProcessors(),
+                             colaProcesos.size());
+        return ejecutarConEjecutor(Executors.newFixedThreadPool(hilos, new FabricaHilos("planificador-trabajador")),
+                                   hilos);
+    }
+    
+    /**
+     * Ejecuta cada proceso de la cola en su propio hilo virtual.
+     * Pensado para cargas que pasan casi todo el tiempo bloqueadas (E/S, demonios):
+     * no hace falta dimensionar un grupo de hilos. Si la JVM no dispone de hilos
+     * virtuales (Java &lt; 21) se usa un hilo de plataforma por proceso.
+     * @return Resultado de cada proceso, en el orden de la política
+     */
+    public List<ResultadoEjecucion> ejecutarTodosProcesosConHilosVirtuales() {
+        drenarEnvios();
+        if (colaProcesos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return ejecutarConEjecutor(crearEjecutorHilosVirtuales(), colaProcesos.size());
+    }
+    
+    /**
+     * Ejecuta todos los procesos por turnos (Round-Robin con desalojo).
+     * Cada proceso avanza como máximo un quantum con Proceso.ejecutarPaso() y,
+     * si le queda trabajo, vuelve al final de la cola compartida. Así los
+     * trabajos cortos no esperan a que terminen los largos que llegaron antes.
+     * Con un solo hilo los turnos se atienden en el hilo que llama.
+     * @param quantumMs Duración máxima de cada turno en milisegundos
+     * @param numeroHilos Trabajadores que atienden la cola; 0 o negativo usa uno por núcleo
+     * @return Resultado de cada proceso, en el orden de llegada a la cola de turnos
+     */
+    public List<ResultadoEjecucion> ejecutarTodosProcesosPorTurnos(int quantumMs, int numeroHilos) {
+        drenarEnvios();
+        if (colaProcesos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        contadorEjecuciones++;
+        procesosEnVuelo.set(0);
+        maximoProcesosEnVuelo.set(0);
+        
+        final List<Proceso> procesos = ordenLote();
+        final ResultadoEjecucion[] resultados = new ResultadoEjecucion[procesos.size()];
+        final Queue<Turno> turnos = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < procesos.size(); i++) {
+            turnos.add(new Turno(i, procesos.get(i)));
+        }
+        
+        final int quantum = Math.max(1, quantumMs);
+        final long finLote = calcularFinLote();
+        int hilos = Math.min(numeroHilos > 0 ? numeroHilos : Runtime.getRuntime().availableProcessors(),
+                             procesos.size());
+        prepararLote(procesos, hilos);
+        boolean terminados = true;
+        if (hilos == 1) {
+            atenderTurnos(turnos, quantum, resultados, finLote);
+        } else {
+            ExecutorService trabajadores = Executors.newFixedThreadPool(hilos,
+                    new FabricaHilos("planificador-turnos"));
+            final CountDownLatch barrera = new CountDownLatch(hilos);
+            for (int i = 0; i < hilos; i++) {
+                trabajadores.execute(() -> {
+                    try {
+                        atenderTurnos(turnos, quantum, resultados, finLote);
+                    } finally {
+                        barrera.countDown();
+                    }
+                });
+            }
+            terminados = esperarBarrera(barrera, trabajadores, finLote);
+        }
+        
+        return cerrarLote(procesos, resultados, terminados);
+    }
+    
+    /**
+     * Ejecuta todos los procesos con una cola multinivel con retroalimentación.
+     * Los procesos entran al MLFQ en el orden de la política activa; a partir
+     * de ahí el MLFQ decide los turnos según el uso de CPU y la espera. Como
+     * en los demás modos, cada proceso se detiene al agotar su presupuesto o
+     * al vencer el plazo del lote, y puede cancelarse mientras corre.
+     * @param mlfq Planificador multinivel a usar (debe estar vacío)
+     * @param numeroHilos Trabajadores; 0 o negativo usa uno por núcleo
+     * @return Resultado de cada proceso, en el orden de la política
+     */
+    public List<ResultadoEjecucion> ejecutarTodosProcesosMLFQ(PlanificadorMLFQ mlfq, int numeroHilos) {
+        drenarEnvios();
+        if (colaProcesos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        contadorEjecuciones++;
+        procesosEnVuelo.set(0);
+        maximoProcesosEnVuelo.set(0);
+        List<Proceso> procesos = ordenLote();
+        for (Proceso proceso : procesos) {
+            proceso.reiniciarEjecucion();
+            mlfq.agregar(proceso);
+        }
+        final long finLote = calcularFinLote();
+        List<ResultadoEjecucion> resultados = mlfq.ejecutar(numeroHilos, metricas, vigilante,
+                (proceso, consumidoNanos, ahora) -> calcularLimite(proceso, consumidoNanos, finLote, ahora),
+                procesosEnVuelo, maximoProcesosEnVuelo);
+        for (int i = 0; i < resultados.size(); i++) {
+            if (resultados.get(i).isCompletado()) {
+                registrarCompletado(procesos.get(i), resultados.get(i).getTiempoEjecucionMs());
+            }
+        }
+        descartarCancelaciones(procesos, resultados);
+        if (retirarCompletados) {
+            retirarProcesos(completadosDe(procesos, resultados));
+        }
+        terminarLoteDiario();
+        return resultados;
+    }
+    
+    /**
+     * Bucle de un trabajador: toma el siguiente turno, ejecuta un paso y
+     * reencola el proceso si no terminó. Cuando la cola está vacía el
+     * trabajador termina; los turnos en curso los reencola quien los tiene.
+     */
+    private void atenderTurnos(Queue<Turno> turnos, int quantumMs, ResultadoEjecucion[] resultados,
+                               long finLote) {
+        RegistroEventos registro = Proceso.getRegistroEventos();
+        Turno turno;
+        while (!Thread.currentThread().isInterrupted() && (turno = turnos.poll()) != null) {
+            Proceso proceso = turno.proceso;
+            if (proceso.isCancelado()) {
+                resultados[turno.indice] = new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.CANCELADO,
+                        turno.tiempoNanos / 1_000_000L, null);
+                continue;
+            }
+            long inicio = System.nanoTime();
+            long limite = calcularLimite(proceso, turno.tiempoNanos, finLote, inicio);
+            if (limite <= inicio) {
+                resultados[turno.indice] = new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.EXPIRADO,
+                        turno.tiempoNanos / 1_000_000L, null);
+                continue;
+            }
+            
+            int enVuelo = procesosEnVuelo.incrementAndGet();
+            maximoProcesosEnVuelo.accumulateAndGet(enVuelo, Math::max);
+            VigilantePlazos.Vigilancia vigilancia = vigilante.iniciar(proceso, limite);
+            RuntimeException error = null;
+            int restantes = 0;
+            try {
+                restantes = proceso.ejecutarPaso(quantumMs);
+            } catch (RuntimeException e) {
+                error = e;
+            } finally {
+                procesosEnVuelo.decrementAndGet();
+            }
+            ResultadoEjecucion.Estado detencion = vigilante.terminar(proceso, vigilancia);
+            long fin = System.nanoTime();
+            turno.tiempoNanos += fin - inicio;
+            proceso.registrarTramo(inicio, fin);
+            metricas.registrarTramo(fin - inicio);
+            long duracionMs = turno.tiempoNanos / 1_000_000L;
+            
+            if (error != null) {
+                registro.registrar(RegistroEventos.Nivel.NORMAL, proceso.getPid(), EVENTO_FALLO,
+                        error.getClass().getName());
+                resultados[turno.indice] = new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.FALLIDO,
+                        duracionMs, error.toString());
+            } else if (detencion != null || (restantes > 0 && proceso.isCancelado())) {
+                ResultadoEjecucion.Estado estado = detencion != null ? detencion : ResultadoEjecucion.Estado.CANCELADO;
+                registro.registrar(RegistroEventos.Nivel.NORMAL, proceso.getPid(), EVENTO_DETENIDO,
+                        estado.name(), (int) duracionMs, 0);
+                resultados[turno.indice] = new ResultadoEjecucion(proceso, estado, duracionMs, null);
+            } else if (restantes > 0) {
+                registro.registrar(RegistroEventos.Nivel.DETALLE, proceso.getPid(), EVENTO_DESALOJO,
+                        null, restantes, proceso.obtenerUnidadesTrabajo());
+                turnos.offer(turno);
+            } else {
+                proceso.marcarFinalizacion(fin);
+                metricas.registrarFinalizacion(proceso);
+                registrarCompletado(proceso, duracionMs);
+                registro.registrar(RegistroEventos.Nivel.DETALLE, proceso.getPid(), EVENTO_FIN,
+                        null, (int) duracionMs, 0);
+                resultados[turno.indice] = new ResultadoEjecucion(proceso,
+                        ResultadoEjecucion.Estado.COMPLETADO, duracionMs, null);
+            }
+        }
+    }
+    
+    /**
+     * Envía todos los procesos de la cola al ejecutor y espera a que terminen.
+     * El ejecutor se cierra al finalizar.
+     * @param trabajadores Ejecutor sobre el que correr los procesos
+     * @param numeroTrabajadores Hilos del ejecutor, para calcular su utilización
+     * @return Resultado de cada proceso, en el orden de la política
+     */
+    private List<ResultadoEjecucion> ejecutarConEjecutor(ExecutorService trabajadores, int numeroTrabajadores) {
+        contadorEjecuciones++;
+        procesosEnVuelo.set(0);
+        maximoProcesosEnVuelo.set(0);
+        
+        final List<Proceso> procesos = ordenLote();
+        final ResultadoEjecucion[] resultados = new ResultadoEjecucion[procesos.size()];
+        final CountDownLatch barrera = new CountDownLatch(procesos.size());
+        final long finLote = calcularFinLote();
+        prepararLote(procesos, numeroTrabajadores);
+        
+        for (int i = 0; i < procesos.size(); i++) {
+            final int indice = i;
+            trabajadores.execute(() -> {
+                try {
+                    resultados[indice] = ejecutarProceso(procesos.get(indice), finLote);
+                } finally {
+                    barrera.countDown();
+                }
+            });
+        }
+        boolean terminados = esperarBarrera(barrera, trabajadores, finLote);
+        
+        return cerrarLote(procesos, resultados, terminados);
+    }
+    
+    /**
+     * Espera a que los trabajadores terminen, como mucho hasta el plazo del lote
+     * más un margen para que los procesos detenidos informen su resultado.
+     * El ejecutor se cierra al finalizar.
+     * @return true si todos terminaron, false si venció el plazo o se interrumpió la espera
+     */
+    private static boolean esperarBarrera(CountDownLatch barrera, ExecutorService trabajadores, long finLote) {
+        try {
+            if (finLote == VigilantePlazos.SIN_LIMITE) {
+                barrera.await();
+                return true;
+            }
+            long espera = finLote - System.nanoTime() + GRACIA_PLAZO_LOTE_NANOS;
+            if (barrera.await(espera, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            trabajadores.shutdownNow(); // Trabajos que ignoran la interrupción
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            trabajadores.shutdownNow();
+            return false;
+        } finally {
+            trabajadores.shutdown();
+        }
+    }
+    
+    /**
+     * Completa los resultados de un lote. Los procesos sin resultado se reportan
+     * como expirados si venció el plazo del lote, o como interrumpidos si no.
+     * @param terminados Si todos los trabajadores terminaron a tiempo
+     */
+    private List<ResultadoEjecucion> cerrarLote(List<Proceso> procesos, ResultadoEjecucion[] resultados,
+                                                boolean terminados) {
+        metricas.finalizarLote(System.nanoTime());
+        ResultadoEjecucion[] finales = terminados ? resultados : resultados.clone();
+        ResultadoEjecucion.Estado estadoPendientes = !terminados && !Thread.currentThread().isInterrupted()
+                ? ResultadoEjecucion.Estado.EXPIRADO
+                : ResultadoEjecucion.Estado.INTERRUMPIDO;
+        for (int i = 0; i < finales.length; i++) {
+            if (finales[i] == null) {
+                finales[i] = new ResultadoEjecucion(procesos.get(i), estadoPendientes, 0, null);
+            }
+        }
+        List<ResultadoEjecucion> lista = Arrays.asList(finales);
+        descartarCancelaciones(procesos, lista);
+        if (retirarCompletados) {
+            retirarProcesos(completadosDe(procesos, lista));
+        }
+        terminarLoteDiario();
+        Proceso.getRegistroEventos().vaciar();
+        return lista;
+    }
+    
+    /**
+     * Los procesos que terminaron cancelados ya atendieron su cancelación:
+     * el siguiente lote vuelve a ejecutarlos. Una cancelación que llega cuando
+     * el proceso ya terminó se conserva para el lote siguiente.
+     */
+    private static void descartarCancelaciones(List<Proceso> procesos, List<ResultadoEjecucion> resultados) {
+        for (int i = 0; i < resultados.size(); i++) {
+            if (resultados.get(i).getEstado() == ResultadoEjecucion.Estado.CANCELADO) {
+                procesos.get(i).descartarCancelacion();
+            }
+        }
+    }
+    
+    private static List<Proceso> completadosDe(List<Proceso> procesos, List<ResultadoEjecucion> resultados) {
+        List<Proceso> completados = new ArrayList<>();
+        for (int i = 0; i < resultados.size(); i++) {
+            if (resultados.get(i).isCompletado()) {
+                completados.add(procesos.get(i));
+            }
+        }
+        return completados;
+    }
+    
+    /**
+     * Orden de ejecución de un lote. Si la política usa tiempos estimados y el
+     * predictor aprendió algo desde el lote anterior, recalcula antes las claves.
+     */
+    private List<Proceso> ordenLote() {
+        actualizarEstimados();
+        if (colaListos.getPolitica().dependeDeEstimaciones()) {
+            long muestras = Proceso.getPredictorTiempos().getMuestras();
+            if (muestras != muestrasPredictorOrdenadas) {
+                colaListos.recalcularClaves();
+                muestrasPredictorOrdenadas = muestras;
+            }
+        }
+        return colaListos.obtenerOrdenEjecucion();
+    }
+    
+    /**
+     * Si el predictor aprendió algo desde la última vez, recalcula los agregados
+     * de estimados con lo que predice ahora para cada proceso de la cola, igual
+     * que ordenLote() recalcula las claves de SJF.
+     */
+    private void actualizarEstimados() {
+        long muestras = Proceso.getPredictorTiempos().getMuestras();
+        if (muestras != muestrasPredictorEstimadas) {
+            estadisticas.reconstruirEstimados(colaProcesos);
+            muestrasPredictorEstimadas = muestras;
+        }
+    }
+    
+    /**
+     * Registra la duración de un proceso completado, la enseña al predictor de
+     * tiempos y la anota en el diario.
+     */
+    private void registrarCompletado(Proceso proceso, long duracionMs) {
+        registrarCompletado(proceso, duracionMs, true);
+    }
+    
+    private void registrarCompletado(Proceso proceso, long duracionMs, boolean anotar) {
+        estadisticas.registrarMedido(proceso, duracionMs);
+        Proceso.getPredictorTiempos().registrar(proceso, duracionMs);
+        DiarioPlanificador diario = this.diario;
+        if (anotar && diario != null) {
+            diario.registrarCompletado(proceso, duracionMs);
+        }
+    }
+    
+    private void terminarLoteDiario() {
+        DiarioPlanificador diario = this.diario;
+        if (diario != null) {
+            diario.terminarLote();
+        }
+    }
+    
+    /**
+     * Reinicia los procesos de un lote y marca su llegada: todos llegan al
+     * empezar el lote, así la espera incluye el tiempo detrás de los anteriores.
+     * @param trabajadores Hilos que atienden el lote
+     */
+    private void prepararLote(List<Proceso> procesos, int trabajadores) {
+        long ahora = System.nanoTime();
+        for (Proceso proceso : procesos) {
+            proceso.reiniciarEjecucion();
+            proceso.marcarLlegada(ahora);
+        }
+        metricas.iniciarLote(trabajadores, ahora);
+    }
+    
+    /**
+     * Instante en que vence el plazo del lote que empieza ahora.
+     */
+    private long calcularFinLote() {
+        long plazo = plazoLoteMs;
+        return plazo > 0 ? System.nanoTime() + plazo * 1_000_000L : VigilantePlazos.SIN_LIMITE;
+    }
+    
+    /**
+     * Instante límite para ejecutar un proceso: lo que antes ocurra entre agotar
+     * su presupuesto (descontando lo ya consumido) y el fin del lote.
+     */
+    private long calcularLimite(Proceso proceso, long consumidoNanos, long finLote, long ahora) {
+        long presupuesto = proceso.getPresupuestoMs() > 0 ? proceso.getPresupuestoMs() : presupuestoPorDefectoMs;
+        if (presupuesto <= 0) {
+            return finLote;
+        }
+        return Math.min(finLote, ahora + presupuesto * 1_000_000L - consumidoNanos);
+    }
+    
+    /**
+     * Cambia la prioridad de un proceso de la cola y lo reordena en la cola
+     * de listos, para que la política PRIORIDAD lo tenga en cuenta en el
+     * próximo lote. El cambio se anota en el diario antes de aplicarse.
+     * Debe llamarlo el hilo dueño del planificador.
+     * @param pid PID del proceso
+     * @param prioridad Nueva prioridad
+     * @return true si el proceso está en la cola
+     */
+    public boolean cambiarPrioridad(int pid, int prioridad) {
+        for (Proceso proceso : colaProcesos.instantanea()) {
+            if (proceso.getPid() == pid) {
+                DiarioPlanificador diario = this.diario;
+                if (diario != null) {
+                    // Se anota ya acotada, como la guarda setPrioridad
+                    diario.registrarPrioridad(pid, Math.max(Proceso.PRIORIDAD_MAXIMA,
+                            Math.min(Proceso.PRIORIDAD_MINIMA, prioridad)));
+                }
+                proceso.setPrioridad(prioridad);
+                colaListos.reubicar(proceso);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Cancela un proceso de la cola. Si se está ejecutando se interrumpe; si
+     * aún no empezó, o no hay ningún lote en curso, no llegará a ejecutarse en
+     * el lote siguiente. El resultado será CANCELADO, y en los lotes
+     * posteriores el proceso vuelve a ejecutarse. Un demonio que se pasó al
+     * temporizador con programarDemonios() deja de programarse.
+     * Puede llamarse desde cualquier hilo mientras se ejecuta un lote.
+     * @param pid PID del proceso a cancelar
+     * @return true si el proceso está en la cola o en el temporizador
+     */
+    @Override
+    public boolean cancelarProceso(int pid) {
+        for (Proceso proceso : colaProcesos.instantanea()) {
+            if (proceso.getPid() == pid) {
+                proceso.cancelar();
+                vigilante.cancelar(pid);
+                return true;
+            }
+        }
+        TemporizadorDemonios temporizador = this.temporizador;
+        return temporizador != null && temporizador.cancelar(pid);
+    }
+    
+    /**
+     * Simula la ejecución de la cola sobre un reloj virtual, sin dormir hilos.
+     * Usa la política activa y considera que todos los procesos llegan a la vez.
+     * No cuenta como ejecución real, por lo que no modifica el contador.
+     * @return Tiempos exactos de retorno, espera y respuesta
+     */
+    public ResultadoSimulacion simularTodosProcesos() {
+        drenarEnvios();
+        return new SimuladorEventos(colaListos.getPolitica()).simular(colaProcesos);
+    }
+    
+    /**
+     * Simula la ejecución de la cola sobre un reloj virtual con varios núcleos.
+     * Cada núcleo ordena su propia cola con la política activa y los núcleos
+     * ociosos roban trabajo según la estrategia indicada.
+     * No cuenta como ejecución real, por lo que no modifica el contador.
+     * @param numeroNucleos Número de núcleos simulados
+     * @param estrategia Estrategia de robo de trabajo
+     * @param penalizacionMigracionMs Tiempo extra de una ráfaga que cambia de núcleo
+     * @return Tiempos de cada proceso, ocupación de cada núcleo y desequilibrio
+     */
+    public ResultadoSimulacionMulticore simularTodosProcesosMulticore(int numeroNucleos,
+            SimuladorMulticore.EstrategiaRobo estrategia, long penalizacionMigracionMs) {
+        drenarEnvios();
+        return new SimuladorMulticore(colaListos.getPolitica(), numeroNucleos, estrategia,
+                                      penalizacionMigracionMs).simular(colaProcesos);
+    }
+    
+    /**
+     * Ejecuta un único proceso midiendo su duración y su estado final.
+     * El proceso se detiene si agota su presupuesto, vence el plazo del lote
+     * o se cancela mientras corre.
+     * @param proceso Proceso a ejecutar
+     * @param finLote Instante en que vence el plazo del lote
+     * @return Resultado de la ejecución
+     */
+    private ResultadoEjecucion ejecutarProceso(Proceso proceso, long finLote) {
+        return ejecutarProceso(proceso, finLote, true);
+    }
+    
+    /**
+     * Como {@link #ejecutarProceso(Proceso, long)}, para procesos que pueden
+     * no estar en la cola (política EJECUTAR_EN_LLAMADOR).
+     * @param enCola false si el proceso no está en la cola: su final no se anota en el diario
+     */
+    private ResultadoEjecucion ejecutarProceso(Proceso proceso, long finLote, boolean enCola) {
+        if (proceso.isCancelado()) {
+            return new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.CANCELADO, 0, null);
+        }
+        long inicio = System.nanoTime();
+        long limite = calcularLimite(proceso, 0, finLote, inicio);
+        if (limite <= inicio) {
+            return new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.EXPIRADO, 0, null);
+        }
+        
+        RegistroEventos registro = Proceso.getRegistroEventos();
+        int enVuelo = procesosEnVuelo.incrementAndGet();
+        maximoProcesosEnVuelo.accumulateAndGet(enVuelo, Math::max);
+        registro.registrar(RegistroEventos.Nivel.DETALLE, proceso.getPid(), EVENTO_INICIO,
+                proceso.obtenerTipoProceso(), enVuelo, 0);
+        VigilantePlazos.Vigilancia vigilancia = vigilante.iniciar(proceso, limite);
+        if (proceso.isCancelado()) {
+            vigilancia.detener(ResultadoEjecucion.Estado.CANCELADO); // Cancelado justo antes de empezar
+        }
+        RuntimeException error = null;
+        try {
+            proceso.ejecutar();
+        } catch (RuntimeException e) {
+            error = e;
+        } finally {
+            procesosEnVuelo.decrementAndGet();
+        }
+        ResultadoEjecucion.Estado detencion = vigilante.terminar(proceso, vigilancia);
+        long fin = System.nanoTime();
+        long duracionMs = (fin - inicio) / 1_000_000L;
+        proceso.registrarTramo(inicio, fin);
+        metricas.registrarTramo(fin - inicio);
+        
+        if (error != null) {
+            registro.registrar(RegistroEventos.Nivel.NORMAL, proceso.getPid(), EVENTO_FALLO,
+                    error.getClass().getName());
+            return new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.FALLIDO, duracionMs, error.toString());
+        }
+        if (detencion != null) {
+            registro.registrar(RegistroEventos.Nivel.NORMAL, proceso.getPid(), EVENTO_DETENIDO,
+                    detencion.name(), (int) duracionMs, 0);
+            return new ResultadoEjecucion(proceso, detencion, duracionMs, null);
+        }
+        // Los procesos restauran el flag de interrupción al ser interrumpidos
+        if (Thread.currentThread().isInterrupted()) {
+            return new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.INTERRUMPIDO, duracionMs, null);
+        }
+        proceso.marcarFinalizacion(fin);
+        metricas.registrarFinalizacion(proceso);
+        registrarCompletado(proceso, duracionMs, enCola);
+        registro.registrar(RegistroEventos.Nivel.DETALLE, proceso.getPid(), EVENTO_FIN,
+                null, (int) duracionMs, 0);
+        return new ResultadoEjecucion(proceso, ResultadoEjecucion.Estado.COMPLETADO, duracionMs, null);
+    }
+    
+    /**
+     * Crea un ejecutor con un hilo virtual por tarea.
+     * Se resuelve por reflexión para seguir compilando con versiones anteriores
+     * de Java; en ese caso se crea un hilo de plataforma por tarea.
+     * @return Ejecutor de un hilo por tarea
+     */
+    private static ExecutorService crearEjecutorHilosVirtuales() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(new FabricaHilos("planificador-proceso"));
+        }
+    }
+    
+    /**
+     * Obtiene el tiempo promedio de la cola (simulado).
+     * Se calcula en O(1) a partir de los agregados de estimados, que se
+     * recalculan en O(n) solo si el predictor aprendió algo desde la última
+     * consulta o el último lote. Debe llamarlo el hilo dueño del planificador.
+     * @return tiempo promedio estimado
+     */
+    public int obtenerTiempoPromedioCola() {
+        if (colaProcesos.isEmpty()) {
+            return 0;
+        }
+        actualizarEstimados();
+        
+        AgregadoTiempos estimados = estadisticas.getEstimados();
+        return (int) (estimados.getSuma() / estimados.getCantidad());
+    }
+    
+    /**
+     * Limpia la cola de procesos.
+     * Los procesos descartados devuelven su PID para que pueda reutilizarse.
+     */
+    public void limpiarCola() {
+        DiarioPlanificador diario = this.diario;
+        if (diario != null) {
+            diario.registrarLimpieza();
+        }
+        for (Proceso proceso : colaProcesos) {
+            proceso.liberarPID();
+        }
+        colaProcesos.clear();
+        colaListos.limpiar();
+        estadisticas.reiniciar();
+        metricas.reiniciar();
+        contadorEjecuciones = 0;
+    }
+    
+    /**
+     * Saca procesos de la cola y devuelve su PID al asignador. La cola, la
+     * cola de listos y los agregados de estimados se reconstruyen en O(n); los
+     * que quedan conservan su orden de llegada. Debe llamarlo el hilo dueño del planificador.
+     * @param retirados Procesos de la cola que no van a volver a ejecutarse
+     */
+    void retirarProcesos(Collection<? extends Proceso> retirados) {
+        if (retirados.isEmpty()) {
+            return;
+        }
+        Set<Proceso> conjunto = Collections.newSetFromMap(new IdentityHashMap<Proceso, Boolean>());
+        conjunto.addAll(retirados);
+        DiarioPlanificador diario = this.diario;
+        if (diario != null) {
+            diario.registrarRetirados(conjunto);
+        }
+        quitarDeCola(conjunto);
+        for (Proceso proceso : conjunto) {
+            proceso.liberarPID();
+        }
+    }
+    
+    /**
+     * Pasa los demonios de la cola a un temporizador, que los ejecuta como
+     * servicios periódicos: dejan de ejecutarse en los lotes y cancelarProceso()
+     * también los alcanza en el temporizador. Siguen anotados en el diario,
+     * así que al reproducirlo vuelven a la cola para programarlos otra vez.
+     * El temporizador sigue siendo de quien lo creó, que debe cerrarlo.
+     * Debe llamarlo el hilo dueño del planificador.
+     * @param temporizador Temporizador que atenderá los demonios
+     * @param periodoMs Tiempo entre el inicio de dos ciclos de cada demonio
+     * @return Número de demonios programados
+     */
+    public int programarDemonios(TemporizadorDemonios temporizador, long periodoMs) {
+        drenarEnvios();
+        this.temporizador = temporizador;
+        Set<Proceso> demonios = Collections.newSetFromMap(new IdentityHashMap<Proceso, Boolean>());
+        for (Proceso proceso : colaProcesos) {
+            if (proceso instanceof ProcesoDemonio && temporizador.programar((ProcesoDemonio) proceso, periodoMs)) {
+                demonios.add(proceso);
+            }
+        }
+        if (!demonios.isEmpty()) {
+            quitarDeCola(demonios);
+        }
+        return demonios.size();
+    }
+    
+    /**
+     * Reconstruye la cola, la cola de listos y los estimados sin los procesos
+     * indicados, conservando el orden de llegada de los demás.
+     */
+    private void quitarDeCola(Set<Proceso> conjunto) {
+        List<Proceso> restantes = new ArrayList<>(Math.max(0, colaProcesos.size() - conjunto.size()));
+        for (Proceso proceso : colaProcesos) {
+            if (!conjunto.contains(proceso)) {
+                restantes.add(proceso);
+            }
+        }
+        colaProcesos.clear();
+        colaProcesos.asegurarCapacidad(restantes.size());
+        for (Proceso proceso : restantes) {
+            colaProcesos.add(proceso);
+        }
+        colaListos.retirar(conjunto);
+        estadisticas.reconstruirEstimados(restantes);
+    }
+    
+    /**
+     * Finaliza el planificador liberando recursos.
+     */
+    public void finalizar() {
+        // Se suelta el diario antes de vaciar la cola: cerrar no es limpiar
+        DiarioPlanificador diario = this.diario;
+        this.diario = null;
+        limpiarCola();
+        vigilante.cerrar();
+        desregistrarMBean();
+        if (diario != null) {
+            try {
+                diario.cerrar();
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo cerrar el diario", e);
+            }
+        }
+    }
+    
+    /**
+     * Asocia un diario de escritura anticipada: desde ahora cada proceso
+     * agregado, completado o retirado, cada cambio de prioridad y cada
+     * limpieza se anotan antes de aplicarse.
+     * Si el diario tiene contenido, reprodúzcalo antes con
+     * {@link DiarioPlanificador#reproducir(PlanificadorProcesos)}.
+     * El planificador cierra el diario al finalizar.
+     * @param diario Diario a usar, o null para dejar de anotar
+     */
+    public void setDiario(DiarioPlanificador diario) {
+        this.diario = diario;
+    }
+    
+    public DiarioPlanificador getDiario() {
+        return diario;
+    }
+    
+    /**
+     * Publica el planificador en el servidor MBean de la plataforma para
+     * poder consultarlo con JConsole. Llamadas repetidas devuelven el mismo nombre.
+     * @return Nombre con el que quedó registrado
+     * @throws IllegalStateException si el servidor rechaza el registro
+     */
+    public synchronized ObjectName registrarMBean() {
+        if (nombreMBean != null) {
+            return nombreMBean;
+        }
+        try {
+            ObjectName nombre = new ObjectName(DOMINIO_MBEAN + SECUENCIA_MBEAN.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, nombre);
+            nombreMBean = nombre;
+            return nombre;
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudo registrar el MBean del planificador", e);
+        }
+    }
+    
+    /**
+     * Retira el planificador del servidor MBean, si estaba registrado.
+     */
+    public synchronized void desregistrarMBean() {
+        if (nombreMBean == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(nombreMBean);
+        } catch (JMException e) {
+            // Ya no estaba registrado
+        }
+        nombreMBean = null;
+    }
+    
+    /**
+     * Vacía las métricas de planificación sin tocar la cola.
+     */
+    @Override
+    public void reiniciarMetricas() {
+        metricas.reiniciar();
+    }
+    
+    // Getters
+    public List<Proceso> getColaProcesos() {
+        return colaProcesos.instantanea(); // Vista inmutable en O(1), sin copiar
+    }
+    
+    /**
+     * Obtiene una instantánea de la cola junto con su número de versión.
+     * Es segura de recorrer desde otro hilo mientras se agregan procesos.
+     * @return Instantánea inmutable de la cola
+     */
+    public Instantanea<Proceso> getInstantaneaCola() {
+        return colaProcesos.instantanea();
+    }
+    
+    /**
+     * Tiempo máximo de ejecución de los procesos que no definen el suyo.
+     * @param presupuestoMs Milisegundos; 0 sin límite
+     */
+    @Override
+    public void setPresupuestoPorDefectoMs(long presupuestoMs) {
+        this.presupuestoPorDefectoMs = Math.max(0, presupuestoMs);
+    }
+    
+    @Override
+    public long getPresupuestoPorDefectoMs() {
+        return presupuestoPorDefectoMs;
+    }
+    
+    /**
+     * Tiempo máximo de cada ejecución completa de la cola. Los procesos que
+     * sigan corriendo al vencer se detienen y los pendientes no empiezan.
+     * @param plazoMs Milisegundos; 0 sin límite
+     */
+    @Override
+    public void setPlazoLoteMs(long plazoMs) {
+        this.plazoLoteMs = Math.max(0, plazoMs);
+    }
+    
+    @Override
+    public long getPlazoLoteMs() {
+        return plazoLoteMs;
+    }
+    
+    /**
+     * Decide qué pasa con los procesos que se completan. Por defecto siguen
+     * en la cola y el siguiente lote los vuelve a ejecutar, como hacen las
+     * rondas de Principal; así conservan su PID. Si se activa, cada lote
+     * saca de la cola los que completó y devuelve su PID al asignador; los
+     * expirados, cancelados o fallidos se quedan para el lote siguiente.
+     * @param retirar true para retirar los procesos completados
+     */
+    public void setRetirarCompletados(boolean retirar) {
+        this.retirarCompletados = retirar;
+    }
+    
+    public boolean isRetirarCompletados() {
+        return retirarCompletados;
+    }
+    
+    /**
+     * Receptor de los envíos concurrentes, o null si aún no hubo ninguno.
+     */
+    public ReceptorEnvios getEnvios() {
+        return envios;
+    }
+    
+    @Override
+    public int getEnviosPendientes() {
+        ReceptorEnvios envios = this.envios;
+        return envios != null ? envios.getPendientes() : 0;
+    }
+    
+    @Override
+    public long getEnviosRechazados() {
+        ReceptorEnvios envios = this.envios;
+        return envios != null ? envios.getRechazados() : 0;
+    }
+    
+    @Override
+    public int getTamanoCola() {
+        return colaProcesos.size();
+    }
+    
+    @Override
+    public int getContadorEjecuciones() {
+        return contadorEjecuciones;
+    }
+    
+    public MetricasPlanificacion getMetricas() {
+        return metricas;
+    }
+    
+    /**
+     * Estadísticas de la cola, con los estimados al día según el predictor.
+     * Debe llamarlo el hilo dueño del planificador.
+     */
+    public EstadisticasCola getEstadisticas() {
+        actualizarEstimados();
+        return estadisticas;
+    }
+    
+    public PoliticaPlanificacion getPolitica() {
+        return colaListos.getPolitica();
+    }
+    
+    /**
+     * Cambia la política de planificación reordenando la cola de listos.
+     * @param politica Nueva política; se ignora si es null
+     */
+    public void setPolitica(PoliticaPlanificacion politica) {
+        colaListos.setPolitica(politica);
+    }
+    
+    /**
+     * Obtiene los procesos en el orden en que la política los ejecutaría.
+     * @return Copia ordenada de la cola
+     */
+    public List<Proceso> obtenerOrdenEjecucion() {
+        return colaListos.obtenerOrdenEjecucion();
+    }
+    
+    /**
+     * Máximo de procesos ejecutándose a la vez durante la última ejecución concurrente.
+     */
+    @Override
+    public int getMaximoProcesosEnVuelo() {
+        return maximoProcesosEnVuelo.get();
+    }
+    
+    @Override
+    public int getProcesosEnVuelo() {
+        return procesosEnVuelo.get();
+    }
+    
+    @Override
+    public String getNombrePolitica() {
+        return colaListos.getPolitica().toString();
+    }
+    
+    @Override
+    public long getProcesosCompletados() {
+        return metricas.getProcesosCompletados();
+    }
+    
+    @Override
+    public double getRendimientoProcesosPorSegundo() {
+        return metricas.getRendimiento();
+    }
+    
+    @Override
+    public double getUtilizacionTrabajadores() {
+        return metricas.getUtilizacionTrabajadores();
+    }
+    
+    @Override
+    public double getTiempoEsperaPromedioMs() {
+        return metricas.getTiempoEsperaPromedioMs();
+    }
+    
+    @Override
+    public double getTiempoEsperaP99Ms() {
+        return metricas.getTiempoEsperaPercentilMs(0.99);
+    }
+    
+    @Override
+    public double getTiempoRetornoPromedioMs() {
+        return metricas.getTiempoRetornoPromedioMs();
+    }
+    
+    @Override
+    public double getTiempoRetornoP99Ms() {
+        return metricas.getTiempoRetornoPercentilMs(0.99);
+    }
+    
+    @Override
+    public double getTiempoRespuestaPromedioMs() {
+        return metricas.getTiempoRespuestaPromedioMs();
+    }
+    
+    @Override
+    public double getTiempoRespuestaP99Ms() {
+        return metricas.getTiempoRespuestaPercentilMs(0.99);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("PlanificadorProcesos{procesos=%d, ejecuciones=%d, politica=%s}", 
+                           colaProcesos.size(), contadorEjecuciones, colaListos.getPolitica());
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PlanificadorProcesos that = (PlanificadorProcesos) obj;
+        return contadorEjecuciones == that.contadorEjecuciones && 
+               colaProcesos.equals(that.colaProcesos);
+    }
+    
+    /**
+     * Proceso pendiente en la cola de turnos, con el tiempo que lleva ejecutado.
+     */
+    private static final class Turno {
+        private final int indice;
+        private final Proceso proceso;
+        private long tiempoNanos;
+        
+        Turno(int indice, Proceso proceso) {
+            this.indice = indice;
+            this.proceso = proceso;
+        }
+    }
+    
+    /**
+     * Fábrica de hilos con nombre descriptivo para los trabajadores del planificador.
+     * Los hilos son demonio para no impedir que la JVM finalice.
+     */
+    private static final class FabricaHilos implements ThreadFactory {
+        private final String prefijo;
+        private final AtomicInteger contador = new AtomicInteger(1);
+        
+        FabricaHilos(String prefijo) {
+            this.prefijo = prefijo;
+        }
+        
+        @Override
+        public Thread newThread(Runnable tarea) {
+            Thread hilo = new Thread(tarea, prefijo + "-" + contador.getAndIncrement());
+            hilo.setDaemon(true);
+            return hilo;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package simulador;
+
+/**
+ * Interfaz de gestión (JMX) del planificador de procesos.
+ * Permite observar la cola y las métricas de planificación en vivo con
+ * JConsole o cualquier cliente JMX mientras se ejecutan los procesos.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public interface PlanificadorProcesosMBean {
+    
+    // Estado de la cola
+    int getTamanoCola();
+    
+    int getContadorEjecuciones();
+    
+    int getProcesosEnVuelo();
+    
+    int getMaximoProcesosEnVuelo();
+    
+    String getNombrePolitica();
+    
+    // Envíos concurrentes
+    int getEnviosPendientes();
+    
+    long getEnviosRechazados();
+    
+    // Métricas de planificación
+    long getProcesosCompletados();
+    
+    double getRendimientoProcesosPorSegundo();
+    
+    double getUtilizacionTrabajadores();
+    
+    double getTiempoEsperaPromedioMs();
+    
+    double getTiempoEsperaP99Ms();
+    
+    double getTiempoRetornoPromedioMs();
+    
+    double getTiempoRetornoP99Ms();
+    
+    double getTiempoRespuestaPromedioMs();
+    
+    double getTiempoRespuestaP99Ms();
+    
+    // Límites de tiempo, modificables en caliente
+    long getPresupuestoPorDefectoMs();
+    
+    void setPresupuestoPorDefectoMs(long presupuestoMs);
+    
+    long getPlazoLoteMs();
+    
+    void setPlazoLoteMs(long plazoMs);
+    
+    // Operaciones
+    boolean cancelarProceso(int pid);
+    
+    void reiniciarMetricas();
+}
@@ -0,0 +1,26 @@
+package simulador;
+
+/**
+ * Política FCFS (First Come, First Served).
+ * Los procesos se ejecutan en el mismo orden en que llegan a la cola.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class PoliticaFCFS implements PoliticaPlanificacion {
+    
+    @Override
+    public long calcularClave(Proceso proceso, long secuenciaLlegada) {
+        return secuenciaLlegada;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "FCFS";
+    }
+    
+    @Override
+    public String toString() {
+        return getNombre();
+    }
+}
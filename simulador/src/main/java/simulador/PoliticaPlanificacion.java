@@ -0,0 +1,45 @@
+package simulador;
+
+/**
+ * Política de Planificación - Estrategia que decide el orden de ejecución.
+ * Implementa el patrón Strategy: el planificador delega en la política el
+ * cálculo de la clave de orden de cada proceso en la cola de listos.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public interface PoliticaPlanificacion {
+    
+    /**
+     * Calcula la clave de orden de un proceso. Se ejecuta primero el proceso
+     * con la clave más baja; los empates se resuelven por orden de llegada.
+     * @param proceso Proceso que entra en la cola de listos
+     * @param secuenciaLlegada Número de orden de llegada a la cola
+     * @return Clave de orden del proceso
+     */
+    long calcularClave(Proceso proceso, long secuenciaLlegada);
+    
+    /**
+     * Obtiene el quantum de tiempo de la política.
+     * @return Quantum en milisegundos, o 0 si la política no es expropiativa
+     */
+    default int getQuantum() {
+        return 0;
+    }
+    
+    /**
+     * Indica si la clave depende del tiempo estimado de los procesos. En ese
+     * caso el planificador recalcula las claves de la cola cuando el predictor
+     * de tiempos aprende de nuevas ejecuciones.
+     * @return true si la clave usa obtenerTiempoEstimado()
+     */
+    default boolean dependeDeEstimaciones() {
+        return false;
+    }
+    
+    /**
+     * Obtiene el nombre corto de la política.
+     * @return Nombre de la política (FCFS, SJF, ...)
+     */
+    String getNombre();
+}
@@ -0,0 +1,26 @@
+package simulador;
+
+/**
+ * Política de Prioridad estática.
+ * Ejecuta primero el proceso con mejor prioridad (valor más bajo).
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class PoliticaPrioridad implements PoliticaPlanificacion {
+    
+    @Override
+    public long calcularClave(Proceso proceso, long secuenciaLlegada) {
+        return proceso.getPrioridad();
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Prioridad";
+    }
+    
+    @Override
+    public String toString() {
+        return getNombre();
+    }
+}
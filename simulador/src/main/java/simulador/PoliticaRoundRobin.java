@@ -0,0 +1,54 @@
+package simulador;
+
+/**
+ * Política Round-Robin.
+ * Atiende los procesos por orden de llegada asignando a cada uno un quantum
+ * de tiempo; el proceso que agota su quantum vuelve al final de la cola de
+ * turnos del lote en curso.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class PoliticaRoundRobin implements PoliticaPlanificacion {
+    public static final int QUANTUM_POR_DEFECTO = 100;
+    
+    private final int quantum;
+    
+    /**
+     * Constructor completo.
+     * @param quantum Quantum en milisegundos (mínimo 1)
+     */
+    public PoliticaRoundRobin(int quantum) {
+        this.quantum = Math.max(1, quantum);
+    }
+    
+    /**
+     * Constructor con quantum por defecto.
+     */
+    public PoliticaRoundRobin() {
+        this(QUANTUM_POR_DEFECTO);
+    }
+    
+    @Override
+    public long calcularClave(Proceso proceso, long secuenciaLlegada) {
+        // El orden de la cola es solo el de llegada: el proceso que agota su
+        // quantum se reencola en la cola de Turno de atenderTurnos, nunca de
+        // vuelta en ColaListos
+        return secuenciaLlegada;
+    }
+    
+    @Override
+    public int getQuantum() {
+        return quantum;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "Round-Robin";
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s{quantum=%d ms}", getNombre(), quantum);
+    }
+}
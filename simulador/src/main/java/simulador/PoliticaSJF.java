@@ -0,0 +1,32 @@
+package simulador;
+
+/**
+ * Política SJF (Shortest Job First).
+ * Ejecuta primero el proceso con menor tiempo estimado de ejecución.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class PoliticaSJF implements PoliticaPlanificacion {
+    
+    @Override
+    public long calcularClave(Proceso proceso, long secuenciaLlegada) {
+        // Lo aprendido de ejecuciones anteriores; sin mediciones, la estimación de cada tipo
+        return proceso.obtenerTiempoEstimado();
+    }
+    
+    @Override
+    public boolean dependeDeEstimaciones() {
+        return true;
+    }
+    
+    @Override
+    public String getNombre() {
+        return "SJF";
+    }
+    
+    @Override
+    public String toString() {
+        return getNombre();
+    }
+}
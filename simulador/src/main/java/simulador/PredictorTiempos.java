@@ -0,0 +1,222 @@
+package simulador;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Predictor de Tiempos - Aprende cuánto tardan los procesos a partir de las
+ * ejecuciones medidas, con un promedio exponencial por tipo de proceso y
+ * descriptor (tarea, dispositivo o servicio):
+ * 
+ *   estimado = alfa * medido + (1 - alfa) * estimado anterior
+ * 
+ * Se aprende el tiempo por unidad de trabajo, así que un proceso con el doble
+ * de unidades recibe el doble de estimado. Mientras no hay mediciones para una
+ * clave se usa la estimación fija de obtenerTiempoEjecucion().
+ * 
+ * La tabla tiene capacidad fija (direccionamiento abierto con sondeo acotado)
+ * y cada entrada cabe en un long: 24 bits de huella de la clave y 40 bits de
+ * microsegundos por unidad. Las actualizaciones son CAS sin cerrojos, por lo
+ * que los trabajadores registran sus mediciones sin bloquearse. Si no queda
+ * hueco en la zona de sondeo, la clave nueva reemplaza a la de su posición
+ * inicial.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class PredictorTiempos {
+    public static final int CAPACIDAD_POR_DEFECTO = 4096;
+    public static final double ALFA_POR_DEFECTO = 0.5;
+    
+    private static final int SONDEOS = 8;
+    private static final int BITS_VALOR = 40;
+    private static final long MASCARA_VALOR = (1L << BITS_VALOR) - 1;
+    
+    private final AtomicLongArray entradas;
+    private final int mascara;
+    private final double alfa;
+    private final LongAdder muestras = new LongAdder();
+    private final LongAdder reemplazos = new LongAdder();
+    private final LongAdder sumaErrorMs = new LongAdder();
+    
+    /**
+     * Constructor por defecto: 4096 entradas y alfa 0,5.
+     */
+    public PredictorTiempos() {
+        this(CAPACIDAD_POR_DEFECTO, ALFA_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param capacidad Número máximo de claves; se redondea a potencia de dos
+     * @param alfa Peso de la última medición, entre 0 (exclusivo) y 1
+     */
+    public PredictorTiempos(int capacidad, double alfa) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        if (!(alfa > 0 && alfa <= 1)) {
+            throw new IllegalArgumentException("Alfa debe estar en (0, 1]: " + alfa);
+        }
+        int tamano = Math.max(SONDEOS, Integer.highestOneBit(Math.min(capacidad, 1 << 30) - 1) << 1);
+        this.entradas = new AtomicLongArray(tamano);
+        this.mascara = tamano - 1;
+        this.alfa = alfa;
+    }
+    
+    /**
+     * Tiempo de ejecución previsto para el proceso.
+     * @param proceso Proceso a estimar
+     * @return Milisegundos previstos
+     */
+    public int predecir(Proceso proceso) {
+        long microsPorUnidad = buscar(proceso);
+        if (microsPorUnidad < 0) {
+            return proceso.obtenerTiempoEjecucion();
+        }
+        long micros = microsPorUnidad * Math.max(1, proceso.obtenerUnidadesTrabajo());
+        return (int) Math.min(Integer.MAX_VALUE, (micros + 500) / 1000);
+    }
+    
+    /**
+     * Incorpora el tiempo medido de un proceso completado.
+     * Puede llamarse a la vez desde varios hilos.
+     * @param proceso Proceso ejecutado
+     * @param tiempoMs Tiempo medido en milisegundos
+     */
+    public void registrar(Proceso proceso, long tiempoMs) {
+        if (tiempoMs < 0) {
+            return;
+        }
+        sumaErrorMs.add(Math.abs(predecir(proceso) - tiempoMs));
+        muestras.increment();
+        
+        int unidades = Math.max(1, proceso.obtenerUnidadesTrabajo());
+        long muestra = Math.min(tiempoMs * 1000 / unidades, MASCARA_VALOR);
+        long hash = hash(proceso);
+        long huella = huella(hash);
+        int inicio = (int) hash & mascara;
+        for (int k = 0; k < SONDEOS; k++) {
+            int indice = (inicio + k) & mascara;
+            while (true) {
+                long actual = entradas.get(indice);
+                if (actual == 0) {
+                    if (entradas.compareAndSet(indice, 0, huella | muestra)) {
+                        return;
+                    }
+                } else if ((actual & ~MASCARA_VALOR) == huella) {
+                    long anterior = actual & MASCARA_VALOR;
+                    long nuevo = Math.round(alfa * muestra + (1 - alfa) * anterior);
+                    if (entradas.compareAndSet(indice, actual, huella | nuevo)) {
+                        return;
+                    }
+                } else {
+                    break; // Ocupada por otra clave: siguiente posición
+                }
+            }
+        }
+        // Zona de sondeo llena: la clave nueva reemplaza a la de su posición inicial
+        entradas.set(inicio, huella | muestra);
+        reemplazos.increment();
+    }
+    
+    /**
+     * Olvida todo lo aprendido.
+     */
+    public void reiniciar() {
+        for (int i = 0; i < entradas.length(); i++) {
+            entradas.set(i, 0);
+        }
+        muestras.reset();
+        reemplazos.reset();
+        sumaErrorMs.reset();
+    }
+    
+    /**
+     * Microsegundos por unidad aprendidos para el proceso, o -1 si no hay.
+     */
+    private long buscar(Proceso proceso) {
+        long hash = hash(proceso);
+        long huella = huella(hash);
+        int inicio = (int) hash & mascara;
+        for (int k = 0; k < SONDEOS; k++) {
+            long actual = entradas.get((inicio + k) & mascara);
+            if (actual == 0) {
+                return -1;
+            }
+            if ((actual & ~MASCARA_VALOR) == huella) {
+                return actual & MASCARA_VALOR;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Combina tipo y descriptor sin crear cadenas: String cachea su hashCode.
+     */
+    private static long hash(Proceso proceso) {
+        String descriptor = proceso.obtenerDescriptor();
+        long h = ((long) proceso.obtenerTipoProceso().hashCode() << 32)
+                ^ (descriptor != null ? descriptor.hashCode() & 0xFFFFFFFFL : 0);
+        // Mezcla final de MurmurHash3 para repartir los bits
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+    
+    // Huella de 24 bits en la parte alta; nunca es 0 para distinguirla de un hueco
+    private static long huella(long hash) {
+        return ((hash >>> BITS_VALOR) | 1) << BITS_VALOR;
+    }
+    
+    // Getters
+    public int getCapacidad() {
+        return entradas.length();
+    }
+    
+    public double getAlfa() {
+        return alfa;
+    }
+    
+    /**
+     * Claves con al menos una medición; recorre la tabla.
+     */
+    public int getEntradas() {
+        int ocupadas = 0;
+        for (int i = 0; i < entradas.length(); i++) {
+            if (entradas.get(i) != 0) {
+                ocupadas++;
+            }
+        }
+        return ocupadas;
+    }
+    
+    public long getMuestras() {
+        return muestras.sum();
+    }
+    
+    /**
+     * Claves desalojadas por falta de hueco en su zona de sondeo.
+     */
+    public long getReemplazos() {
+        return reemplazos.sum();
+    }
+    
+    /**
+     * Diferencia media entre lo previsto y lo medido, antes de aprender de cada medición.
+     */
+    public double getErrorAbsolutoPromedioMs() {
+        long cantidad = muestras.sum();
+        return cantidad > 0 ? (double) sumaErrorMs.sum() / cantidad : 0;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("PredictorTiempos{alfa=%.2f, entradas=%d/%d, muestras=%d, reemplazos=%d, "
+                           + "error=%.1f ms}", alfa, getEntradas(), getCapacidad(), getMuestras(),
+                           getReemplazos(), getErrorAbsolutoPromedioMs());
+    }
+}
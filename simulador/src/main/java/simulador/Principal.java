@@ -0,0 +1,515 @@
+package simulador;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import javax.management.ObjectName;
+
+/**
+ * Principal - Punto de entrada de la aplicación.
+ * Sin argumentos inicia el gestor interactivo. Con argumentos ejecuta un
+ * escenario por lotes, sin pausas ni lecturas de consola, y al terminar
+ * imprime los resultados como líneas clave=valor para pruebas de carga.
+ * 
+ * Opciones del modo por lotes:
+ *   --carga ARCHIVO     Archivo de carga de trabajo (CSV o binario); obligatorio salvo con --diario
+ *   --politica NOMBRE   FCFS, SJF, PRIORIDAD, RR[:quantum] o MLFQ[:q1,q2,...] (por defecto FCFS)
+ *   --hilos N           Trabajadores; 0 = núcleos disponibles, -1 = hilos virtuales (por defecto 0)
+ *   --duracion SEG      Repite el escenario hasta cumplir la duración (por defecto 0 = una ronda)
+ *   --modo MODO         ejecutar (tiempo real) o simular (reloj virtual) (por defecto ejecutar)
+ *   --nucleos N         Núcleos simulados, cada uno con su cola; solo en modo simular (por defecto 1)
+ *   --robo ESTRATEGIA   ninguno, aleatorio, dos_elecciones o mas_cargado (por defecto mas_cargado)
+ *   --migracion MS      Penalización de una ráfaga que cambia de núcleo (por defecto 0)
+ *   --dispositivo CONF  NOMBRE:canales[:latencia_ms[:ops_por_s[:lote]]]; se puede repetir
+ *                       (por defecto cada dispositivo tiene 1 canal, 400 ms y lotes de 32)
+ *   --periodo-demonios MS  Corre los demonios de la carga como servicios periódicos
+ *                       en lugar de en los lotes; solo en modo ejecutar (por defecto 0 = no)
+ *   --presupuesto MS    Tiempo máximo de cada proceso (por defecto 0 = sin límite)
+ *   --plazo-lote MS     Tiempo máximo de cada ronda (por defecto 0 = sin límite)
+ *   --registro NIVEL    apagado, normal o detalle; los eventos van a la salida de error (por defecto apagado)
+ *   --diario ARCHIVO    Reproduce el diario antes de cargar y anota en él los cambios (por defecto sin diario);
+ *                       si la reproducción restaura procesos, la carga no se vuelve a agregar
+ *   --durabilidad MODO  inmediata o agrupada, para el diario (por defecto inmediata)
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class Principal {
+    private static final int SALIDA_ERROR_ARGUMENTOS = 2;
+    private static final int SALIDA_ERROR_CARGA = 3;
+    
+    private String archivoCarga;
+    private PoliticaPlanificacion politica = new PoliticaFCFS();
+    private PlanificadorMLFQ mlfq;
+    private int hilos = 0;
+    private long duracionMs = 0;
+    private boolean simular = false;
+    private int nucleos = 1;
+    private SimuladorMulticore.EstrategiaRobo robo = SimuladorMulticore.EstrategiaRobo.MAS_CARGADO;
+    private long migracionMs = 0;
+    private final List<DispositivoES> dispositivos = new ArrayList<>();
+    private long periodoDemoniosMs = 0;
+    private long presupuestoMs = 0;
+    private long plazoLoteMs = 0;
+    private RegistroEventos.Nivel nivelRegistro = RegistroEventos.Nivel.APAGADO;
+    private String archivoDiario;
+    private DiarioPlanificador.Durabilidad durabilidad = DiarioPlanificador.Durabilidad.INMEDIATA;
+    
+    /**
+     * Método principal.
+     * @param args Opciones del modo por lotes; vacío para el modo interactivo
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            new GestorProcesos().iniciar();
+            return;
+        }
+        
+        Principal principal = new Principal();
+        try {
+            principal.leerArgumentos(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            mostrarUso();
+            System.exit(SALIDA_ERROR_ARGUMENTOS);
+            return;
+        }
+        
+        try {
+            principal.ejecutarEscenario();
+        } catch (IOException | InvalidPathException e) {
+            System.err.println("Error al cargar la carga de trabajo: " + e.getMessage());
+            System.exit(SALIDA_ERROR_CARGA);
+        }
+    }
+    
+    /**
+     * Interpreta las opciones de la línea de comandos.
+     * @param args Pares opción-valor
+     * @throws IllegalArgumentException si alguna opción es inválida
+     */
+    private void leerArgumentos(String[] args) {
+        for (int i = 0; i < args.length; i += 2) {
+            String opcion = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + opcion);
+            }
+            String valor = args[i + 1];
+            switch (opcion) {
+                case "--carga":
+                    archivoCarga = valor;
+                    break;
+                case "--politica":
+                    if (valor.toUpperCase(Locale.ROOT).startsWith("MLFQ")) {
+                        mlfq = crearMLFQ(valor);
+                        politica = new PoliticaFCFS(); // Orden de llegada al MLFQ
+                    } else {
+                        mlfq = null;
+                        politica = crearPolitica(valor);
+                    }
+                    break;
+                case "--hilos":
+                    hilos = leerEntero(opcion, valor);
+                    if (hilos < -1) {
+                        throw new IllegalArgumentException("--hilos debe ser -1, 0 o positivo");
+                    }
+                    break;
+                case "--duracion":
+                    duracionMs = leerEntero(opcion, valor) * 1000L;
+                    if (duracionMs < 0) {
+                        throw new IllegalArgumentException("--duracion no puede ser negativa");
+                    }
+                    break;
+                case "--modo":
+                    if (valor.equalsIgnoreCase("simular")) {
+                        simular = true;
+                    } else if (valor.equalsIgnoreCase("ejecutar")) {
+                        simular = false;
+                    } else {
+                        throw new IllegalArgumentException("Modo desconocido: " + valor);
+                    }
+                    break;
+                case "--nucleos":
+                    nucleos = leerEntero(opcion, valor);
+                    if (nucleos < 1) {
+                        throw new IllegalArgumentException("--nucleos debe ser positivo");
+                    }
+                    break;
+                case "--robo":
+                    try {
+                        robo = SimuladorMulticore.EstrategiaRobo.valueOf(valor.toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Estrategia de robo desconocida: " + valor);
+                    }
+                    break;
+                case "--migracion":
+                    migracionMs = Math.max(0, leerEntero(opcion, valor));
+                    break;
+                case "--dispositivo":
+                    dispositivos.add(crearDispositivo(valor));
+                    break;
+                case "--periodo-demonios":
+                    periodoDemoniosMs = Math.max(0, leerEntero(opcion, valor));
+                    break;
+                case "--presupuesto":
+                    presupuestoMs = Math.max(0, leerEntero(opcion, valor));
+                    break;
+                case "--plazo-lote":
+                    plazoLoteMs = Math.max(0, leerEntero(opcion, valor));
+                    break;
+                case "--registro":
+                    try {
+                        nivelRegistro = RegistroEventos.Nivel.valueOf(valor.toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Nivel de registro desconocido: " + valor);
+                    }
+                    break;
+                case "--diario":
+                    archivoDiario = valor;
+                    break;
+                case "--durabilidad":
+                    try {
+                        durabilidad = DiarioPlanificador.Durabilidad.valueOf(valor.toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Durabilidad desconocida: " + valor);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opción desconocida: " + opcion);
+            }
+        }
+        if (archivoCarga == null && archivoDiario == null) {
+            throw new IllegalArgumentException("Falta la opción --carga");
+        }
+        if (simular && mlfq != null) {
+            throw new IllegalArgumentException("MLFQ solo está disponible en modo ejecutar");
+        }
+        if (!simular && nucleos > 1) {
+            throw new IllegalArgumentException("--nucleos solo está disponible en modo simular");
+        }
+        if (simular && periodoDemoniosMs > 0) {
+            throw new IllegalArgumentException("--periodo-demonios solo está disponible en modo ejecutar");
+        }
+    }
+    
+    /**
+     * Carga la carga de trabajo y repite rondas hasta cumplir la duración.
+     * Los eventos de los procesos van a la salida de error para no mezclarlos con los resultados.
+     */
+    private void ejecutarEscenario() throws IOException {
+        PrintStream salida = System.out;
+        RegistroEventos registro = new RegistroEventos(System.err, nivelRegistro,
+                RegistroEventos.CAPACIDAD_POR_DEFECTO);
+        Proceso.configurarRegistroEventos(registro);
+        SubsistemaES subsistemaES = new SubsistemaES();
+        for (DispositivoES dispositivo : dispositivos) {
+            subsistemaES.configurar(dispositivo);
+        }
+        ProcesoES.configurarSubsistemaES(subsistemaES);
+        PlanificadorProcesos planificador = new PlanificadorProcesos(politica);
+        planificador.setPresupuestoPorDefectoMs(presupuestoMs);
+        planificador.setPlazoLoteMs(plazoLoteMs);
+        ObjectName nombreMBean = planificador.registrarMBean();
+        
+        DiarioPlanificador diario = null;
+        long reproducidas = 0;
+        long reproduccionMs = 0;
+        if (archivoDiario != null) {
+            long inicioReproduccion = System.nanoTime();
+            diario = new DiarioPlanificador(Paths.get(archivoDiario), durabilidad,
+                                            DiarioPlanificador.INTERVALO_AGRUPADO_POR_DEFECTO_MS);
+            reproducidas = diario.reproducir(planificador);
+            planificador.setDiario(diario);
+            reproduccionMs = (System.nanoTime() - inicioReproduccion) / 1_000_000;
+        }
+        
+        long cargados;
+        long cargaMs = 0;
+        boolean cargaOmitida = false;
+        if (archivoCarga != null && planificador.getTamanoCola() == 0) {
+            long inicioCarga = System.nanoTime();
+            cargados = new CargadorCargaTrabajo().cargar(Paths.get(archivoCarga), planificador);
+            cargaMs = (System.nanoTime() - inicioCarga) / 1_000_000;
+        } else {
+            // La cola restaurada ya contiene la carga de la ejecución anterior; agregarla otra vez la duplicaría
+            cargaOmitida = archivoCarga != null;
+            cargados = planificador.getTamanoCola();
+        }
+        
+        TemporizadorDemonios temporizador = null;
+        if (periodoDemoniosMs > 0) {
+            temporizador = new TemporizadorDemonios();
+            // Los demonios salen de la cola: corren en el temporizador, no en los lotes
+            planificador.programarDemonios(temporizador, periodoDemoniosMs);
+        }
+        
+        HistogramaLog latencias = new HistogramaLog();
+        AgregadoTiempos agregado = new AgregadoTiempos();
+        long completados = 0;
+        long fallidos = 0;
+        long expirados = 0;
+        long cancelados = 0;
+        int rondas = 0;
+        double utilizacionSimulada = 0;
+        ResultadoSimulacionMulticore multicore = null;
+        
+        long inicio = System.nanoTime();
+        long transcurridoMs;
+        do {
+            if (simular) {
+                ResultadoSimulacion resultado;
+                if (nucleos > 1) {
+                    multicore = planificador.simularTodosProcesosMulticore(nucleos, robo, migracionMs);
+                    resultado = multicore;
+                } else {
+                    resultado = planificador.simularTodosProcesos();
+                }
+                for (int i = 0; i < resultado.getNumeroProcesos(); i++) {
+                    latencias.registrar(resultado.getTiempoRetorno(i));
+                    agregado.registrar(resultado.getTiempoRetorno(i));
+                }
+                completados += resultado.getNumeroProcesos();
+                utilizacionSimulada = resultado.getUtilizacionCPU();
+            } else {
+                List<ResultadoEjecucion> resultados;
+                if (mlfq != null) {
+                    resultados = planificador.ejecutarTodosProcesosMLFQ(mlfq, hilos);
+                } else if (hilos < 0) {
+                    resultados = planificador.ejecutarTodosProcesosConHilosVirtuales();
+                } else if (politica.getQuantum() > 0) {
+                    resultados = planificador.ejecutarTodosProcesosPorTurnos(politica.getQuantum(), hilos);
+                } else {
+                    resultados = planificador.ejecutarTodosProcesosEnParalelo(hilos);
+                }
+                for (ResultadoEjecucion resultado : resultados) {
+                    if (resultado.isCompletado()) {
+                        completados++;
+                        latencias.registrar(resultado.getTiempoEjecucionMs());
+                        agregado.registrar(resultado.getTiempoEjecucionMs());
+                    } else if (resultado.getEstado() == ResultadoEjecucion.Estado.EXPIRADO) {
+                        expirados++;
+                    } else if (resultado.getEstado() == ResultadoEjecucion.Estado.CANCELADO) {
+                        cancelados++;
+                    } else {
+                        fallidos++;
+                    }
+                }
+            }
+            rondas++;
+            transcurridoMs = (System.nanoTime() - inicio) / 1_000_000;
+        } while (transcurridoMs < duracionMs && cargados > 0);
+        if (temporizador != null) {
+            temporizador.cerrar();
+        }
+        registro.cerrar();
+        
+        double segundos = Math.max(transcurridoMs, 1) / 1000.0;
+        salida.println("modo=" + (simular ? "simular" : "ejecutar"));
+        salida.println("carga=" + (archivoCarga != null ? archivoCarga : "-"));
+        salida.println("politica=" + (mlfq != null ? mlfq.toString() : politica.getNombre()));
+        if (!simular) {
+            salida.println("hilos=" + (hilos < 0 ? "virtuales" : String.valueOf(
+                    hilos == 0 ? Runtime.getRuntime().availableProcessors() : hilos)));
+        }
+        salida.println("procesos.cargados=" + cargados);
+        salida.println("carga.ms=" + cargaMs);
+        salida.println("rondas=" + rondas);
+        salida.println("duracion.ms=" + transcurridoMs);
+        salida.println("procesos.completados=" + completados);
+        salida.println("procesos.fallidos=" + fallidos);
+        salida.println("procesos.expirados=" + expirados);
+        salida.println("procesos.cancelados=" + cancelados);
+        salida.println("registro.descartados=" + registro.getDescartados());
+        if (diario != null) {
+            salida.println("diario.durabilidad=" + diario.getDurabilidad().name().toLowerCase(Locale.ROOT));
+            salida.println("diario.reproducidas=" + reproducidas);
+            salida.println("diario.carga_omitida=" + cargaOmitida);
+            salida.println("diario.reproduccion.ms=" + reproduccionMs);
+            salida.println("diario.entradas=" + diario.getEntradasEscritas());
+            salida.println("diario.grupos=" + diario.getGruposEscritos());
+        }
+        PredictorTiempos predictor = Proceso.getPredictorTiempos();
+        salida.println("predictor.muestras=" + predictor.getMuestras());
+        salida.println("predictor.entradas=" + predictor.getEntradas());
+        salida.println("predictor.error.ms=" + String.format(Locale.ROOT, "%.2f", predictor.getErrorAbsolutoPromedioMs()));
+        salida.println("rendimiento.procesos_por_s=" + String.format(Locale.ROOT, "%.2f", completados / segundos));
+        if (mlfq != null) {
+            salida.println("mlfq.degradaciones=" + mlfq.getDegradaciones());
+            salida.println("mlfq.promociones=" + mlfq.getPromociones());
+        }
+        if (simular) {
+            salida.println("utilizacion.cpu=" + String.format(Locale.ROOT, "%.4f", utilizacionSimulada));
+            if (multicore != null) {
+                imprimirMulticore(salida, multicore);
+            }
+        } else {
+            MetricasPlanificacion metricas = planificador.getMetricas();
+            salida.println("jmx=" + nombreMBean);
+            salida.println("utilizacion.trabajadores="
+                    + String.format(Locale.ROOT, "%.4f", metricas.getUtilizacionTrabajadores()));
+            salida.println("espera.ms.promedio=" + String.format(Locale.ROOT, "%.2f", metricas.getTiempoEsperaPromedioMs()));
+            salida.println("espera.ms.p99=" + String.format(Locale.ROOT, "%.2f", metricas.getTiempoEsperaPercentilMs(0.99)));
+            salida.println("respuesta.ms.promedio="
+                    + String.format(Locale.ROOT, "%.2f", metricas.getTiempoRespuestaPromedioMs()));
+            salida.println("respuesta.ms.p99="
+                    + String.format(Locale.ROOT, "%.2f", metricas.getTiempoRespuestaPercentilMs(0.99)));
+            salida.println("retorno.ms.promedio=" + String.format(Locale.ROOT, "%.2f", metricas.getTiempoRetornoPromedioMs()));
+            salida.println("retorno.ms.p99=" + String.format(Locale.ROOT, "%.2f", metricas.getTiempoRetornoPercentilMs(0.99)));
+            imprimirDispositivos(salida, subsistemaES);
+            if (temporizador != null) {
+                imprimirDemonios(salida, temporizador, periodoDemoniosMs);
+            }
+        }
+        String prefijo = simular ? "retorno.virtual.ms." : "latencia.ms.";
+        salida.println(prefijo + "promedio=" + String.format(Locale.ROOT, "%.2f", agregado.getPromedio()));
+        long maximo = agregado.getCantidad() > 0 ? agregado.getMaximo() : 0;
+        salida.println(prefijo + "min=" + (agregado.getCantidad() > 0 ? agregado.getMinimo() : 0));
+        // El histograma devuelve el límite de la cubeta; no puede superar el máximo real
+        salida.println(prefijo + "p50=" + Math.min(latencias.obtenerPercentil(0.50), maximo));
+        salida.println(prefijo + "p99=" + Math.min(latencias.obtenerPercentil(0.99), maximo));
+        salida.println(prefijo + "p999=" + Math.min(latencias.obtenerPercentil(0.999), maximo));
+        salida.println(prefijo + "max=" + maximo);
+        planificador.finalizar();
+        subsistemaES.cerrar();
+    }
+    
+    /**
+     * Imprime la ocupación de cada núcleo y la actividad del balanceo de carga.
+     */
+    private static void imprimirMulticore(PrintStream salida, ResultadoSimulacionMulticore resultado) {
+        salida.println("nucleos=" + resultado.getNumeroNucleos());
+        salida.println("robo=" + resultado.getEstrategia().toLowerCase(Locale.ROOT));
+        salida.println("desequilibrio=" + String.format(Locale.ROOT, "%.4f", resultado.getDesequilibrio()));
+        salida.println("robos=" + resultado.getRobos());
+        salida.println("robos.procesos=" + resultado.getProcesosRobados());
+        salida.println("robos.fallidos=" + resultado.getRobosFallidos());
+        salida.println("migraciones=" + resultado.getMigraciones());
+        StringBuilder utilizaciones = new StringBuilder();
+        for (int i = 0; i < resultado.getNumeroNucleos(); i++) {
+            if (i > 0) {
+                utilizaciones.append(',');
+            }
+            utilizaciones.append(String.format(Locale.ROOT, "%.4f", resultado.getUtilizacionNucleo(i)));
+        }
+        salida.println("utilizacion.nucleos=" + utilizaciones);
+    }
+    
+    /**
+     * Imprime la cola y la espera de cada dispositivo usado, como es.NOMBRE.clave.
+     */
+    private static void imprimirDispositivos(PrintStream salida, SubsistemaES subsistemaES) {
+        for (DispositivoES dispositivo : subsistemaES.getDispositivos()) {
+            String prefijo = "es." + dispositivo.getNombre().replaceAll("[^A-Za-z0-9_-]", "_") + ".";
+            salida.println(prefijo + "operaciones=" + dispositivo.getOperacionesAtendidas());
+            salida.println(prefijo + "lotes=" + dispositivo.getLotesAtendidos());
+            salida.println(prefijo + "lote.promedio="
+                    + String.format(Locale.ROOT, "%.2f", dispositivo.getTamanoLotePromedio()));
+            salida.println(prefijo + "cola.promedio="
+                    + String.format(Locale.ROOT, "%.2f", dispositivo.getProfundidadPromedio()));
+            salida.println(prefijo + "cola.max=" + dispositivo.getProfundidadMaxima());
+            salida.println(prefijo + "espera.ms.promedio="
+                    + String.format(Locale.ROOT, "%.2f", dispositivo.getEsperaPromedioMs()));
+            salida.println(prefijo + "espera.ms.p99="
+                    + String.format(Locale.ROOT, "%.2f", dispositivo.getEsperaPercentilMs(0.99)));
+            salida.println(prefijo + "utilizacion="
+                    + String.format(Locale.ROOT, "%.4f", dispositivo.getUtilizacion()));
+        }
+    }
+    
+    /**
+     * Imprime la actividad de los demonios periódicos: ciclos, ticks perdidos y deriva.
+     */
+    private static void imprimirDemonios(PrintStream salida, TemporizadorDemonios temporizador, long periodoMs) {
+        salida.println("demonios.periodo.ms=" + periodoMs);
+        salida.println("demonios.ciclos=" + temporizador.getCiclosEjecutados());
+        salida.println("demonios.ticks_perdidos=" + temporizador.getTicksPerdidos());
+        salida.println("demonios.deriva.ms.promedio="
+                + String.format(Locale.ROOT, "%.2f", temporizador.getDerivaPromedioMs()));
+        salida.println("demonios.deriva.ms.p99=" + String.format(Locale.ROOT, "%.2f",
+                Math.min(temporizador.getDerivaPercentilMs(0.99), temporizador.getDerivaMaximaMs())));
+        salida.println("demonios.deriva.ms.max="
+                + String.format(Locale.ROOT, "%.2f", temporizador.getDerivaMaximaMs()));
+    }
+    
+    /**
+     * Crea un dispositivo a partir de "NOMBRE:canales[:latencia_ms[:ops_por_s[:lote]]]".
+     */
+    private static DispositivoES crearDispositivo(String valor) {
+        String[] partes = valor.split(":");
+        if (partes.length < 2 || partes.length > 5 || partes[0].trim().isEmpty()) {
+            throw new IllegalArgumentException("Dispositivo inválido: " + valor);
+        }
+        int canales = leerEntero("--dispositivo", partes[1]);
+        long latenciaMs = partes.length > 2
+                ? leerEntero("--dispositivo", partes[2]) : DispositivoES.LATENCIA_POR_DEFECTO_MS;
+        int operacionesPorSegundo = partes.length > 3 ? leerEntero("--dispositivo", partes[3]) : 0;
+        int loteMaximo = partes.length > 4
+                ? leerEntero("--dispositivo", partes[4]) : DispositivoES.LOTE_MAXIMO_POR_DEFECTO;
+        return new DispositivoES(partes[0].trim(), canales, latenciaMs, operacionesPorSegundo, loteMaximo);
+    }
+    
+    /**
+     * Crea la política a partir de su nombre.
+     * @param nombre FCFS, SJF, PRIORIDAD o RR[:quantum]
+     * @return Política correspondiente
+     */
+    private static PoliticaPlanificacion crearPolitica(String nombre) {
+        String normalizado = nombre.toUpperCase(Locale.ROOT);
+        if (normalizado.equals("FCFS")) {
+            return new PoliticaFCFS();
+        }
+        if (normalizado.equals("SJF")) {
+            return new PoliticaSJF();
+        }
+        if (normalizado.equals("PRIORIDAD")) {
+            return new PoliticaPrioridad();
+        }
+        if (normalizado.equals("RR")) {
+            return new PoliticaRoundRobin();
+        }
+        if (normalizado.startsWith("RR:")) {
+            return new PoliticaRoundRobin(leerEntero("--politica", normalizado.substring(3)));
+        }
+        throw new IllegalArgumentException("Política desconocida: " + nombre);
+    }
+    
+    /**
+     * Crea el planificador multinivel a partir de "MLFQ" o "MLFQ:q1,q2,...".
+     */
+    private static PlanificadorMLFQ crearMLFQ(String valor) {
+        int separador = valor.indexOf(':');
+        if (separador < 0) {
+            return new PlanificadorMLFQ();
+        }
+        String[] partes = valor.substring(separador + 1).split(",");
+        int[] quantums = new int[partes.length];
+        for (int i = 0; i < partes.length; i++) {
+            quantums[i] = leerEntero("--politica", partes[i]);
+        }
+        return new PlanificadorMLFQ(quantums, PlanificadorMLFQ.UMBRAL_ENVEJECIMIENTO_POR_DEFECTO_MS);
+    }
+    
+    private static int leerEntero(String opcion, String valor) {
+        try {
+            return Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor numérico inválido para " + opcion + ": " + valor);
+        }
+    }
+    
+    private static void mostrarUso() {
+        System.err.println("Uso: java simulador.Principal [--carga ARCHIVO] [--politica FCFS|SJF|PRIORIDAD|RR[:q]|MLFQ[:q1,q2,...]]");
+        System.err.println("         [--hilos N] [--duracion SEGUNDOS] [--modo ejecutar|simular]");
+        System.err.println("         [--nucleos N [--robo ninguno|aleatorio|dos_elecciones|mas_cargado] [--migracion MS]]");
+        System.err.println("         [--dispositivo NOMBRE:canales[:latencia_ms[:ops_por_s[:lote]]]]...");
+        System.err.println("         [--periodo-demonios MS] [--presupuesto MS] [--plazo-lote MS]");
+        System.err.println("         [--registro apagado|normal|detalle]");
+        System.err.println("         [--diario ARCHIVO [--durabilidad inmediata|agrupada]]");
+        System.err.println("--carga es obligatorio salvo con --diario.");
+        System.err.println("Sin argumentos se inicia el modo interactivo.");
+    }
+}
@@ -0,0 +1,451 @@
+package simulador;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Clase abstracta base para todos los procesos del simulador.
+ * Define la interfaz común y demuestra principios de herencia y polimorfismo.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public abstract class Proceso {
+    public static final int PRIORIDAD_MAXIMA = 1;
+    public static final int PRIORIDAD_NORMAL = 5;
+    public static final int PRIORIDAD_MINIMA = 10;
+    public static final int SIN_AFINIDAD = -1;
+    
+    private static volatile AsignadorPID asignadorPID = new AsignadorPID();
+    private static volatile RegistroEventos registroEventos = new RegistroEventos();
+    private static volatile PredictorTiempos predictorTiempos = new PredictorTiempos();
+    private final int pid;
+    private boolean pidLiberado;
+    private String nombre;
+    private int prioridad; // Escala 1 (máxima) - 10 (mínima)
+    private int unidadesCompletadas; // Avance de la ejecución por pasos
+    private volatile boolean cancelado;
+    private long presupuestoMs; // 0 = sin límite
+    private int afinidad = SIN_AFINIDAD; // Núcleo preferido en la simulación multinúcleo
+    // Marcas de System.nanoTime() de la última ejecución; 0 = sin marcar
+    private long llegadaNanos;
+    private long primeraEjecucionNanos;
+    private long finalizacionNanos;
+    private long ejecucionNanos; // Suma de los tramos en los que ocupó un trabajador
+    
+    /**
+     * Constructor protegido para uso de subclases.
+     * @param nombre Nombre descriptivo del proceso
+     */
+    protected Proceso(String nombre) {
+        this.pid = asignadorPID.asignar();
+        this.nombre = nombre != null ? nombre : "Proceso Sin Nombre";
+        this.prioridad = PRIORIDAD_NORMAL;
+    }
+    
+    /**
+     * Constructor protegido que conserva un PID ya asignado.
+     * Se usa al reconstruir un proceso existente (por ejemplo desde una tabla
+     * de procesos); el PID no se solicita al asignador.
+     * @param pid PID del proceso original
+     * @param nombre Nombre descriptivo del proceso
+     */
+    protected Proceso(int pid, String nombre) {
+        this.pid = pid;
+        this.nombre = nombre != null ? nombre : "Proceso Sin Nombre";
+        this.prioridad = PRIORIDAD_NORMAL;
+    }
+    
+    /**
+     * Método abstracto que debe ser implementado por cada tipo de proceso.
+     * Demuestra polimorfismo - cada subclase implementa su propia lógica.
+     */
+    public abstract void ejecutar();
+    
+    /**
+     * Obtiene el tipo de proceso como String.
+     * @return Tipo específico del proceso
+     */
+    public abstract String obtenerTipoProceso();
+    
+    /**
+     * Calcula el tiempo estimado de ejecución.
+     * Método abstracto para demostrar polimorfismo.
+     * @return Tiempo estimado en milisegundos
+     */
+    public abstract int obtenerTiempoEjecucion();
+    
+    /**
+     * Tiempo estimado según lo aprendido de ejecuciones anteriores de procesos
+     * del mismo tipo y descriptor. Sin mediciones previas coincide con
+     * obtenerTiempoEjecucion().
+     * @return Tiempo previsto en milisegundos
+     */
+    public int obtenerTiempoEstimado() {
+        return predictorTiempos.predecir(this);
+    }
+    
+    /**
+     * Dato que distingue procesos del mismo tipo con tiempos distintos
+     * (tarea, dispositivo o servicio según el tipo de proceso).
+     * @return Descriptor, o null si el tipo no tiene
+     */
+    public String obtenerDescriptor() {
+        return null;
+    }
+    
+    /**
+     * Número de unidades de trabajo en que se divide la ejecución
+     * (iteraciones, operaciones o ciclos según el tipo de proceso).
+     * @return Unidades de trabajo, como mínimo 1
+     */
+    public int obtenerUnidadesTrabajo() {
+        return 1;
+    }
+    
+    /**
+     * Tiempo de CPU que consume cada unidad de trabajo.
+     * @return Tiempo en milisegundos
+     */
+    public int obtenerTiempoCPUPorUnidad() {
+        return obtenerTiempoEjecucion();
+    }
+    
+    /**
+     * Tiempo que el proceso queda bloqueado en E/S al terminar cada unidad.
+     * @return Tiempo en milisegundos, 0 si el proceso no hace E/S
+     */
+    public int obtenerTiempoBloqueoPorUnidad() {
+        return 0;
+    }
+    
+    /**
+     * Ejecuta una unidad de trabajo. Las subclases la implementan para que
+     * la ejecución pueda repartirse en turnos con ejecutarPaso(); por defecto
+     * el proceso completo es una sola unidad.
+     * @param unidad Número de la unidad, de 1 a obtenerUnidadesTrabajo()
+     * @return true si la unidad terminó, false si fue interrumpida
+     */
+    protected boolean ejecutarUnidad(int unidad) {
+        ejecutar();
+        return !Thread.currentThread().isInterrupted();
+    }
+    
+    /**
+     * Ejecuta unidades de trabajo hasta agotar el quantum y devuelve el trabajo pendiente.
+     * Siempre ejecuta al menos una unidad para garantizar el avance; una unidad
+     * en curso no se corta al vencer el quantum. Si una unidad es interrumpida
+     * no se cuenta y se repetirá en el siguiente paso. Un proceso cancelado no
+     * ejecuta más unidades.
+     * @param quantumMs Duración máxima del turno en milisegundos; 0 o negativo ejecuta hasta terminar
+     * @return Unidades de trabajo que quedan por ejecutar, 0 si el proceso terminó
+     */
+    public final int ejecutarPaso(long quantumMs) {
+        int total = obtenerUnidadesTrabajo();
+        long inicio = System.nanoTime();
+        while (unidadesCompletadas < total && !cancelado) {
+            if (!ejecutarUnidad(unidadesCompletadas + 1)) {
+                break;
+            }
+            unidadesCompletadas++;
+            if (quantumMs > 0 && System.nanoTime() - inicio >= quantumMs * 1_000_000L) {
+                break;
+            }
+        }
+        return Math.max(0, total - unidadesCompletadas);
+    }
+    
+    /**
+     * Descarta el avance de ejecutarPaso() para volver a ejecutar el proceso
+     * desde el principio. Una cancelación pendiente se conserva: el proceso
+     * no llegará a ejecutarse y el planificador la retira al informarlo cancelado.
+     */
+    public void reiniciarEjecucion() {
+        unidadesCompletadas = 0;
+        llegadaNanos = 0;
+        primeraEjecucionNanos = 0;
+        finalizacionNanos = 0;
+        ejecucionNanos = 0;
+    }
+    
+    // Marcas de tiempo que pone el planificador; solo las escribe el hilo que ejecuta el proceso
+    void marcarLlegada(long ahora) {
+        llegadaNanos = ahora;
+    }
+    
+    void registrarTramo(long inicio, long fin) {
+        if (primeraEjecucionNanos == 0) {
+            primeraEjecucionNanos = inicio;
+        }
+        ejecucionNanos += fin - inicio;
+    }
+    
+    void marcarFinalizacion(long ahora) {
+        finalizacionNanos = ahora;
+    }
+    
+    /**
+     * Tiempo de retorno: desde la llegada a la cola hasta la finalización.
+     * @return Nanosegundos, o -1 si el proceso no ha terminado
+     */
+    public long getTiempoRetornoNanos() {
+        return finalizacionNanos != 0 ? finalizacionNanos - llegadaNanos : -1;
+    }
+    
+    /**
+     * Tiempo de espera: el retorno menos el tiempo en que el proceso se estuvo ejecutando.
+     * @return Nanosegundos, o -1 si el proceso no ha terminado
+     */
+    public long getTiempoEsperaNanos() {
+        return finalizacionNanos != 0 ? Math.max(0, getTiempoRetornoNanos() - ejecucionNanos) : -1;
+    }
+    
+    /**
+     * Tiempo de respuesta: desde la llegada hasta que empieza a ejecutarse por primera vez.
+     * @return Nanosegundos, o -1 si el proceso no ha empezado
+     */
+    public long getTiempoRespuestaNanos() {
+        return primeraEjecucionNanos != 0 ? primeraEjecucionNanos - llegadaNanos : -1;
+    }
+    
+    /**
+     * Solicita la cancelación cooperativa: ejecutarPaso() no ejecutará más unidades.
+     * Para detener una unidad en curso, el planificador además interrumpe el hilo.
+     */
+    public void cancelar() {
+        cancelado = true;
+    }
+    
+    public boolean isCancelado() {
+        return cancelado;
+    }
+    
+    /**
+     * Retira una cancelación ya atendida, para que el proceso pueda volver a ejecutarse.
+     */
+    void descartarCancelacion() {
+        cancelado = false;
+    }
+    
+    public long getPresupuestoMs() {
+        return presupuestoMs;
+    }
+    
+    /**
+     * Fija el tiempo máximo de ejecución de este proceso.
+     * @param presupuestoMs Milisegundos; 0 usa el presupuesto por defecto del planificador
+     */
+    public void setPresupuestoMs(long presupuestoMs) {
+        this.presupuestoMs = Math.max(0, presupuestoMs);
+    }
+    
+    public int getAfinidad() {
+        return afinidad;
+    }
+    
+    /**
+     * Indica el núcleo en el que conviene ejecutar este proceso. Es una
+     * preferencia: el simulador multinúcleo lo encola allí, pero otro núcleo
+     * ocioso puede robarlo. El punto de control y el diario la guardan con
+     * el proceso tal como está al agregarlo a la cola.
+     * @param nucleo Índice del núcleo; negativo equivale a SIN_AFINIDAD
+     */
+    public void setAfinidad(int nucleo) {
+        this.afinidad = nucleo >= 0 ? nucleo : SIN_AFINIDAD;
+    }
+    
+    public int getUnidadesCompletadas() {
+        return unidadesCompletadas;
+    }
+    
+    public boolean estaTerminado() {
+        return unidadesCompletadas >= obtenerUnidadesTrabajo();
+    }
+    
+    /**
+     * Devuelve el PID al asignador para que otro proceso pueda reutilizarlo.
+     * Debe llamarse cuando el proceso ya no está en ninguna cola; las llamadas
+     * repetidas no tienen efecto.
+     */
+    public void liberarPID() {
+        if (!pidLiberado) {
+            pidLiberado = true;
+            asignadorPID.liberar(pid);
+        }
+    }
+    
+    /**
+     * Configura el rango de PID para los procesos que se creen a partir de ahora.
+     * Los PID ya asignados no se ven afectados.
+     * @param pidMinimo Primer PID asignable
+     * @param pidMaximo Último PID asignable
+     */
+    public static void configurarRangoPID(int pidMinimo, int pidMaximo) {
+        asignadorPID = new AsignadorPID(pidMinimo, pidMaximo);
+    }
+    
+    /**
+     * Amplía el rango de PID, si hace falta, para que puedan crearse al menos
+     * la cantidad indicada de procesos más. Se conservan el contador y los PID
+     * liberados. Pensado para cargas masivas que superan el rango por defecto;
+     * no debe llamarse mientras otros hilos crean procesos.
+     * @param cantidad Procesos que se van a crear
+     * @throws IllegalStateException si no caben ni con el rango máximo
+     */
+    public static void reservarPIDs(long cantidad) {
+        AsignadorPID actual = asignadorPID;
+        long faltan = cantidad - actual.getPIDsDisponibles();
+        if (faltan <= 0) {
+            return;
+        }
+        long maximo = (long) actual.getPidMaximo() + faltan;
+        if (maximo > Integer.MAX_VALUE - 1) {
+            throw new IllegalStateException("No caben " + cantidad + " procesos más en el rango de PID");
+        }
+        asignadorPID = actual.ampliar((int) maximo);
+    }
+    
+    /**
+     * Sustituye el asignador de PID, por ejemplo por uno restaurado de un punto
+     * de control. Los procesos existentes conservan su PID.
+     * @param asignador Nuevo asignador
+     */
+    public static void configurarAsignadorPID(AsignadorPID asignador) {
+        if (asignador != null) {
+            asignadorPID = asignador;
+        }
+    }
+    
+    public static AsignadorPID getAsignadorPID() {
+        return asignadorPID;
+    }
+    
+    /**
+     * Sustituye el registro donde los procesos publican sus eventos.
+     * @param registro Nuevo registro de eventos
+     */
+    public static void configurarRegistroEventos(RegistroEventos registro) {
+        if (registro != null) {
+            registroEventos = registro;
+        }
+    }
+    
+    public static RegistroEventos getRegistroEventos() {
+        return registroEventos;
+    }
+    
+    /**
+     * Sustituye el predictor que estima los tiempos de ejecución.
+     * @param predictor Nuevo predictor
+     */
+    public static void configurarPredictorTiempos(PredictorTiempos predictor) {
+        if (predictor != null) {
+            predictorTiempos = predictor;
+        }
+    }
+    
+    public static PredictorTiempos getPredictorTiempos() {
+        return predictorTiempos;
+    }
+    
+    // Getters y Setters con encapsulación apropiada
+    public final int getPid() { 
+        return pid; 
+    }
+    
+    public String getNombre() { 
+        return nombre; 
+    }
+    
+    public void setNombre(String nombre) { 
+        if (nombre != null && !nombre.trim().isEmpty()) {
+            this.nombre = nombre.trim();
+        }
+    }
+    
+    public int getPrioridad() { 
+        return prioridad; 
+    }
+    
+    /**
+     * Cambia la prioridad. Si el proceso ya está en la cola de un planificador,
+     * use PlanificadorProcesos.cambiarPrioridad() para que la cola lo reordene.
+     */
+    public void setPrioridad(int prioridad) { 
+        this.prioridad = Math.max(PRIORIDAD_MAXIMA, Math.min(PRIORIDAD_MINIMA, prioridad)); 
+    }
+    
+    /**
+     * Escribe la representación legible del proceso sin crear cadenas
+     * intermedias, para listar colas grandes sobre un mismo búfer.
+     * Cada subclase puede extender esta implementación.
+     * @param destino Búfer o flujo donde se escribe
+     * @throws IOException si el destino falla al escribir
+     */
+    public void describir(Appendable destino) throws IOException {
+        destino.append("[PID: ");
+        anexarEntero(destino, pid);
+        destino.append("] ").append(nombre).append(" (").append(obtenerTipoProceso()).append(')');
+    }
+    
+    /**
+     * Override de toString para representación legible.
+     * Usa describir(), por lo que las subclases solo extienden ese método.
+     */
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder(64);
+        try {
+            describir(texto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Un StringBuilder no lanza IOException
+        }
+        return texto.toString();
+    }
+    
+    /**
+     * Escribe un entero en decimal. Con un StringBuilder delega en append();
+     * con otro destino escribe cifra a cifra para no crear una cadena.
+     */
+    static void anexarEntero(Appendable destino, long valor) throws IOException {
+        if (destino instanceof StringBuilder) {
+            ((StringBuilder) destino).append(valor);
+            return;
+        }
+        // Se trabaja en negativo para admitir Long.MIN_VALUE
+        long negativo = valor < 0 ? valor : -valor;
+        if (valor < 0) {
+            destino.append('-');
+        }
+        long divisor = 1;
+        while (negativo / divisor <= -10) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            destino.append((char) ('0' - negativo / divisor));
+            negativo %= divisor;
+            divisor /= 10;
+        }
+    }
+    
+    /**
+     * Override de equals basado en PID único.
+     * Dos procesos son iguales si tienen el mismo PID.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Proceso proceso = (Proceso) obj;
+        return pid == proceso.pid;
+    }
+    
+    /**
+     * Override de hashCode consistente con equals.
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(pid);
+    }
+}
+
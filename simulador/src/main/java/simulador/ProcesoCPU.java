@@ -0,0 +1,154 @@
+package simulador;
+
+import java.io.IOException;
+
+/**
+ * Proceso CPU - Representa procesos intensivos en cálculo.
+ * Ejemplos: Codificación de video, cálculos matemáticos, renderizado.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ProcesoCPU extends Proceso {
+    public static final String TIPO = "Proceso CPU";
+    
+    private int idTarea; // Descriptor interno en RegistroDescriptores
+    private int intensidad; // Escala 1-5
+    
+    /**
+     * Constructor completo.
+     * @param nombre Nombre del proceso
+     * @param tipoTarea Tipo de tarea a realizar
+     * @param intensidad Intensidad del procesamiento (1-5)
+     */
+    public ProcesoCPU(String nombre, String tipoTarea, int intensidad) {
+        super(nombre);
+        this.idTarea = RegistroDescriptores.internar(tipoTarea != null ? tipoTarea : "Tarea CPU");
+        this.intensidad = Math.max(1, Math.min(5, intensidad));
+    }
+    
+    /**
+     * Constructor que conserva un PID existente.
+     * @param pid PID del proceso original
+     * @param nombre Nombre del proceso
+     * @param tipoTarea Tipo de tarea a realizar
+     * @param intensidad Intensidad del procesamiento (1-5)
+     */
+    ProcesoCPU(int pid, String nombre, String tipoTarea, int intensidad) {
+        super(pid, nombre);
+        this.idTarea = RegistroDescriptores.internar(tipoTarea != null ? tipoTarea : "Tarea CPU");
+        this.intensidad = Math.max(1, Math.min(5, intensidad));
+    }
+    
+    /**
+     * Constructor con intensidad por defecto.
+     * @param nombre Nombre del proceso
+     * @param tipoTarea Tipo de tarea a realizar
+     */
+    public ProcesoCPU(String nombre, String tipoTarea) {
+        this(nombre, tipoTarea, 3); // Intensidad media por defecto
+    }
+    
+    /**
+     * Implementación específica de ejecución para procesos CPU.
+     * Simula trabajo computacional intensivo.
+     */
+    @Override
+    public void ejecutar() {
+        // Solo mostrar información técnica, no mensajes de usuario
+        for (int i = 1; i <= intensidad; i++) {
+            if (!ejecutarUnidad(i)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Una iteración de cálculo.
+     */
+    @Override
+    protected boolean ejecutarUnidad(int unidad) {
+        try {
+            Thread.sleep(200 + (intensidad * 50)); // Simula carga CPU
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    @Override
+    public String obtenerTipoProceso() {
+        return TIPO;
+    }
+    
+    @Override
+    public int obtenerTiempoEjecucion() {
+        return estimarTiempo(intensidad);
+    }
+    
+    /**
+     * Tiempo estimado de un proceso CPU sin necesidad de crear la instancia.
+     * @param intensidad Intensidad del procesamiento (1-5)
+     * @return Tiempo estimado en milisegundos
+     */
+    static int estimarTiempo(int intensidad) {
+        return (200 + (intensidad * 50)) * intensidad;
+    }
+    
+    @Override
+    public String obtenerDescriptor() {
+        return RegistroDescriptores.texto(idTarea);
+    }
+    
+    @Override
+    public int obtenerUnidadesTrabajo() {
+        return intensidad;
+    }
+    
+    @Override
+    public int obtenerTiempoCPUPorUnidad() {
+        return 200 + (intensidad * 50);
+    }
+    
+    // Getters y Setters con validación
+    public String getTipoTarea() { 
+        return RegistroDescriptores.texto(idTarea); 
+    }
+    
+    public void setTipoTarea(String tipoTarea) { 
+        if (tipoTarea != null && !tipoTarea.trim().isEmpty()) {
+            this.idTarea = RegistroDescriptores.internar(tipoTarea.trim());
+        }
+    }
+    
+    public int getIntensidad() { 
+        return intensidad; 
+    }
+    
+    public void setIntensidad(int intensidad) { 
+        this.intensidad = Math.max(1, Math.min(5, intensidad)); 
+    }
+    
+    /**
+     * Extiende la descripción con información específica del proceso CPU.
+     */
+    @Override
+    public void describir(Appendable destino) throws IOException {
+        super.describir(destino);
+        destino.append(" - Tarea: ").append(RegistroDescriptores.texto(idTarea)).append(", Intensidad: ");
+        anexarEntero(destino, intensidad);
+        destino.append("/5");
+    }
+    
+    /**
+     * Override de equals considerando atributos específicos.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!super.equals(obj)) return false;
+        ProcesoCPU that = (ProcesoCPU) obj;
+        return intensidad == that.intensidad && 
+               idTarea == that.idTarea; // Descriptores internados: mismo texto, mismo id
+    }
+}
@@ -0,0 +1,159 @@
+package simulador;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Proceso Demonio - Representa servicios de sistema en segundo plano.
+ * Ejemplos: Monitoreo del sistema, servicios de logging, escaneo antivirus.
+ * Ejecutado por el planificador corre sus ciclos seguidos; para correrlo como
+ * servicio periódico se programa en un {@link TemporizadorDemonios}.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ProcesoDemonio extends Proceso {
+    public static final String TIPO = "Proceso Demonio";
+    public static final int PRIORIDAD_POR_DEFECTO = 8;
+    
+    private int idServicio; // Descriptor interno en RegistroDescriptores
+    private int ciclos;
+    
+    /**
+     * Constructor completo.
+     * @param nombre Nombre del proceso demonio
+     * @param tipoServicio Tipo de servicio que proporciona
+     * @param ciclos Número de ciclos de monitoreo
+     */
+    public ProcesoDemonio(String nombre, String tipoServicio, int ciclos) {
+        super(nombre);
+        this.idServicio = RegistroDescriptores.internar(tipoServicio != null ? tipoServicio : "Servicio Genérico");
+        this.ciclos = Math.max(1, ciclos);
+        setPrioridad(PRIORIDAD_POR_DEFECTO); // Servicio en segundo plano: baja prioridad
+    }
+    
+    /**
+     * Constructor que conserva un PID existente.
+     * @param pid PID del proceso original
+     * @param nombre Nombre del proceso demonio
+     * @param tipoServicio Tipo de servicio que proporciona
+     * @param ciclos Número de ciclos de monitoreo
+     */
+    ProcesoDemonio(int pid, String nombre, String tipoServicio, int ciclos) {
+        super(pid, nombre);
+        this.idServicio = RegistroDescriptores.internar(tipoServicio != null ? tipoServicio : "Servicio Genérico");
+        this.ciclos = Math.max(1, ciclos);
+        setPrioridad(PRIORIDAD_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor con ciclos por defecto.
+     * @param nombre Nombre del proceso demonio
+     * @param tipoServicio Tipo de servicio que proporciona
+     */
+    public ProcesoDemonio(String nombre, String tipoServicio) {
+        this(nombre, tipoServicio, 3); // 3 ciclos por defecto
+    }
+    
+    /**
+     * Implementación específica de ejecución para procesos demonio.
+     * Simula monitoreo continuo del sistema.
+     */
+    @Override
+    public void ejecutar() {
+        for (int i = 1; i <= ciclos; i++) {
+            if (!ejecutarUnidad(i)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Un ciclo de monitoreo.
+     */
+    @Override
+    protected boolean ejecutarUnidad(int unidad) {
+        try {
+            // Simula trabajo de monitoreo (menos intensivo); generador propio de cada hilo
+            Thread.sleep(150 + ThreadLocalRandom.current().nextInt(100));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    @Override
+    public String obtenerTipoProceso() {
+        return TIPO;
+    }
+    
+    @Override
+    public int obtenerTiempoEjecucion() {
+        return estimarTiempo(ciclos);
+    }
+    
+    /**
+     * Tiempo estimado de un proceso demonio sin necesidad de crear la instancia.
+     * @param ciclos Número de ciclos de monitoreo
+     * @return Tiempo promedio estimado en milisegundos
+     */
+    static int estimarTiempo(int ciclos) {
+        return (150 + 50) * ciclos;
+    }
+    
+    @Override
+    public String obtenerDescriptor() {
+        return RegistroDescriptores.texto(idServicio);
+    }
+    
+    @Override
+    public int obtenerUnidadesTrabajo() {
+        return ciclos;
+    }
+    
+    @Override
+    public int obtenerTiempoCPUPorUnidad() {
+        return 150 + 50;
+    }
+    
+    // Getters y Setters con validación
+    public String getTipoServicio() { 
+        return RegistroDescriptores.texto(idServicio); 
+    }
+    
+    public void setTipoServicio(String tipoServicio) { 
+        if (tipoServicio != null && !tipoServicio.trim().isEmpty()) {
+            this.idServicio = RegistroDescriptores.internar(tipoServicio.trim());
+        }
+    }
+    
+    public int getCiclos() { 
+        return ciclos; 
+    }
+    
+    public void setCiclos(int ciclos) { 
+        this.ciclos = Math.max(1, ciclos); 
+    }
+    
+    /**
+     * Extiende la descripción con información específica del proceso demonio.
+     */
+    @Override
+    public void describir(Appendable destino) throws IOException {
+        super.describir(destino);
+        destino.append(" - Servicio: ").append(RegistroDescriptores.texto(idServicio)).append(", Ciclos: ");
+        anexarEntero(destino, ciclos);
+    }
+    
+    /**
+     * Override de equals considerando atributos específicos.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!super.equals(obj)) return false;
+        ProcesoDemonio that = (ProcesoDemonio) obj;
+        return ciclos == that.ciclos && 
+               idServicio == that.idServicio; // Descriptores internados: mismo texto, mismo id
+    }
+}
@@ -0,0 +1,150 @@
+package simulador;
+
+import java.io.IOException;
+
+/**
+ * I/O Process - Represents input/output intensive processes.
+ * Examples: File operations, database queries, network requests.
+ */
+public class ProcesoES extends Proceso {
+    public static final String TIPO = "I/O Process";
+    public static final int PRIORIDAD_POR_DEFECTO = 3;
+    
+    // Message templates: the log writer fills {a}, {i} and {n}, so no strings are built here
+    private static final String MSG_START = "  → Starting I/O operations with {a}";
+    private static final String MSG_OPERATION = "    I/O Operation {i}/{n} - Accessing {a}...";
+    private static final String MSG_BLOCKED = "      [BLOCKED] Waiting for {a}...";
+    private static final String MSG_INTERRUPTED = "    I/O interrupted!";
+    private static final String MSG_UNBLOCKED = "      [UNBLOCKED] Data received from {a}";
+    private static final String MSG_COMPLETED = "  → I/O operations completed!";
+    
+    // Shared device queues; every process naming the same device waits in the same queue
+    private static volatile SubsistemaES devices = new SubsistemaES();
+    
+    private int deviceId; // Interned descriptor, see RegistroDescriptores
+    private int operations;
+    
+    public ProcesoES(String name, String deviceType, int operations) {
+        super(name);
+        this.deviceId = RegistroDescriptores.internar(deviceType);
+        this.operations = Math.max(1, operations);
+        setPrioridad(PRIORIDAD_POR_DEFECTO); // I/O-bound processes are favoured to keep devices busy
+    }
+    
+    // Rebuilds an existing process keeping its PID
+    ProcesoES(int pid, String name, String deviceType, int operations) {
+        super(pid, name);
+        this.deviceId = RegistroDescriptores.internar(deviceType);
+        this.operations = Math.max(1, operations);
+        setPrioridad(PRIORIDAD_POR_DEFECTO);
+    }
+    
+    // Overloaded constructor
+    public ProcesoES(String name, String deviceType) {
+        this(name, deviceType, 2); // Default 2 operations
+    }
+    
+    @Override
+    public void ejecutar() {
+        for (int i = 1; i <= operations; i++) {
+            if (!ejecutarUnidad(i)) {
+                return;
+            }
+        }
+    }
+    
+    // One I/O operation; the first and last ones also report the start and the end
+    @Override
+    protected boolean ejecutarUnidad(int operation) {
+        RegistroEventos log = getRegistroEventos();
+        boolean logging = log.estaActivo(RegistroEventos.Nivel.NORMAL);
+        int pid = getPid();
+        String deviceType = getDeviceType();
+        if (logging) {
+            if (operation == 1) {
+                log.registrar(RegistroEventos.Nivel.NORMAL, pid, MSG_START, deviceType);
+            }
+            log.registrar(RegistroEventos.Nivel.NORMAL, pid, MSG_OPERATION, deviceType, operation, operations);
+            // Simulate I/O blocking
+            log.registrar(RegistroEventos.Nivel.NORMAL, pid, MSG_BLOCKED, deviceType);
+        }
+        try {
+            devices.obtener(deviceType).operar(); // Queued and possibly batched with other processes
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Let the scheduler see the interruption
+            log.registrar(RegistroEventos.Nivel.NORMAL, pid, MSG_INTERRUPTED, null);
+            return false;
+        }
+        if (logging) {
+            log.registrar(RegistroEventos.Nivel.NORMAL, pid, MSG_UNBLOCKED, deviceType);
+            if (operation == operations) {
+                log.registrar(RegistroEventos.Nivel.NORMAL, pid, MSG_COMPLETED, null);
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String obtenerTipoProceso() {
+        return TIPO;
+    }
+    
+    @Override
+    public int obtenerTiempoEjecucion() {
+        return estimarTiempo(operations);
+    }
+    
+    // Estimate without building an instance
+    static int estimarTiempo(int operations) {
+        return 400 * operations; // I/O wait time per operation
+    }
+    
+    @Override
+    public String obtenerDescriptor() {
+        return getDeviceType();
+    }
+    
+    @Override
+    public int obtenerUnidadesTrabajo() {
+        return operations;
+    }
+    
+    @Override
+    public int obtenerTiempoCPUPorUnidad() {
+        return 0; // The CPU is released while the device works
+    }
+    
+    @Override
+    public int obtenerTiempoBloqueoPorUnidad() {
+        return 400;
+    }
+    
+    /**
+     * Replaces the device subsystem used from now on; the caller closes the old one.
+     * @param subsistema New device subsystem
+     */
+    public static void configurarSubsistemaES(SubsistemaES subsistema) {
+        if (subsistema != null) {
+            devices = subsistema;
+        }
+    }
+    
+    public static SubsistemaES getSubsistemaES() {
+        return devices;
+    }
+    
+    // Getters and Setters
+    public String getDeviceType() { return RegistroDescriptores.texto(deviceId); }
+    public void setDeviceType(String deviceType) { this.deviceId = RegistroDescriptores.internar(deviceType); }
+    public int getOperations() { return operations; }
+    public void setOperations(int operations) { 
+        this.operations = Math.max(1, operations); 
+    }
+    
+    @Override
+    public void describir(Appendable destino) throws IOException {
+        super.describir(destino);
+        destino.append(" - Device: ").append(getDeviceType()).append(", Operations: ");
+        anexarEntero(destino, operations);
+    }
+}
\ No newline at end of file
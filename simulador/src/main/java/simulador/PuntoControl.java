@@ -0,0 +1,287 @@
+package simulador;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Punto de Control - Guarda y restaura la cola del planificador en binario.
+ * Conserva el PID, el tipo y los campos propios de cada proceso (tarea e
+ * intensidad, dispositivo y operaciones, servicio y ciclos), la prioridad, el
+ * presupuesto, la afinidad y el contador del asignador de PID, para continuar
+ * tras reiniciar la JVM sin repetir PID.
+ * 
+ * Formato (big-endian):
+ * - Cabecera de 36 bytes: magia "PCTL", versión, reservado, número de
+ *   procesos, rango de PID, siguiente PID, número de descriptores y bytes
+ *   del diccionario.
+ * - Diccionario: cada descriptor distinto una sola vez (2 bytes de longitud
+ *   + UTF-8), ya que se repiten mucho entre procesos.
+ * - Registros: tipo (1), prioridad (1), PID (4), parámetro (4), índice del
+ *   descriptor (4), presupuesto en ms (8), afinidad (4, -1 sin afinidad) y
+ *   nombre (2 bytes de longitud + UTF-8).
+ * 
+ * Se escribe con un FileChannel a un archivo temporal que luego reemplaza al
+ * anterior, así un fallo a mitad de escritura no destruye el último punto de
+ * control. Se restaura mapeando el archivo por ventanas.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class PuntoControl {
+    public static final int MAGIA = 0x5043544C; // "PCTL"
+    public static final short VERSION = 2; // La 2 añade la afinidad
+    public static final int TAMANO_VENTANA_POR_DEFECTO = 64 * 1024 * 1024;
+    
+    private static final int TAMANO_CABECERA = 36;
+    private static final int TAMANO_FIJO_REGISTRO = 28;
+    private static final int TAMANO_BUFFER_ESCRITURA = 1 << 20;
+    
+    private final int tamanoVentana;
+    private byte[] auxiliar = new byte[256];
+    
+    /**
+     * Constructor por defecto.
+     */
+    public PuntoControl() {
+        this(TAMANO_VENTANA_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param tamanoVentana Bytes mapeados a la vez al restaurar; debe superar el registro más largo
+     */
+    public PuntoControl(int tamanoVentana) {
+        if (tamanoVentana < TAMANO_CABECERA) {
+            throw new IllegalArgumentException("Tamaño de ventana inválido: " + tamanoVentana);
+        }
+        this.tamanoVentana = tamanoVentana;
+    }
+    
+    /**
+     * Guarda la cola del planificador y el contador de PID.
+     * Trabaja sobre una instantánea, por lo que puede llamarse mientras se agregan procesos.
+     * @param planificador Planificador cuya cola se guarda
+     * @param archivo Archivo de destino (se reemplaza)
+     * @return Número de procesos guardados
+     * @throws IOException si no se puede escribir
+     * @throws IllegalArgumentException si la cola tiene un tipo de proceso no soportado
+     */
+    public static long guardar(PlanificadorProcesos planificador, Path archivo) throws IOException {
+        Instantanea<Proceso> procesos = planificador.getInstantaneaCola();
+        Map<String, Integer> indices = new HashMap<>();
+        List<byte[]> diccionario = new ArrayList<>();
+        int bytesDiccionario = 0;
+        for (Proceso proceso : procesos) {
+            String descriptor = TablaProcesos.descriptorDe(proceso);
+            if (!indices.containsKey(descriptor)) {
+                byte[] bytes = codificar(descriptor);
+                indices.put(descriptor, diccionario.size());
+                diccionario.add(bytes);
+                bytesDiccionario += 2 + bytes.length;
+            }
+        }
+        
+        AsignadorPID asignador = Proceso.getAsignadorPID();
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANO_BUFFER_ESCRITURA);
+            buffer.putInt(MAGIA).putShort(VERSION).putShort((short) 0).putLong(procesos.size())
+                  .putInt(asignador.getPidMinimo()).putInt(asignador.getPidMaximo())
+                  .putInt(asignador.getSiguientePID())
+                  .putInt(diccionario.size()).putInt(bytesDiccionario);
+            for (byte[] descriptor : diccionario) {
+                if (buffer.remaining() < 2 + descriptor.length) {
+                    vaciar(canal, buffer);
+                }
+                buffer.putShort((short) descriptor.length).put(descriptor);
+            }
+            for (Proceso proceso : procesos) {
+                byte[] nombre = codificar(proceso.getNombre());
+                if (buffer.remaining() < TAMANO_FIJO_REGISTRO + nombre.length) {
+                    vaciar(canal, buffer);
+                }
+                buffer.put(TablaProcesos.tipoDe(proceso)).put((byte) proceso.getPrioridad())
+                      .putInt(proceso.getPid()).putInt(TablaProcesos.parametroDe(proceso))
+                      .putInt(indices.get(TablaProcesos.descriptorDe(proceso)))
+                      .putLong(proceso.getPresupuestoMs()).putInt(proceso.getAfinidad())
+                      .putShort((short) nombre.length).put(nombre);
+            }
+            vaciar(canal, buffer);
+            canal.force(true);
+        }
+        try {
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return procesos.size();
+    }
+    
+    /**
+     * Sustituye la cola del planificador por la del punto de control y
+     * restaura el asignador de PID. El archivo se valida completo antes de
+     * tocar el planificador: si está dañado, la cola actual no cambia.
+     * Pensado para el arranque: los procesos creados antes con el asignador
+     * anterior pueden repetir PID con los restaurados.
+     * @param archivo Punto de control
+     * @param planificador Planificador que recibe los procesos
+     * @return Número de procesos restaurados
+     * @throws IOException si el archivo no puede leerse o está mal formado
+     */
+    public long restaurar(Path archivo, PlanificadorProcesos planificador) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long tamanoArchivo = canal.size();
+            if (tamanoArchivo < TAMANO_CABECERA) {
+                throw new IOException("Punto de control truncado: falta la cabecera");
+            }
+            ByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANO_CABECERA);
+            if (cabecera.getInt(0) != MAGIA) {
+                throw new IOException("El archivo no es un punto de control");
+            }
+            short version = cabecera.getShort(4);
+            if (version != VERSION) {
+                throw new IOException("Versión de punto de control no soportada: " + version);
+            }
+            long esperados = cabecera.getLong(8);
+            int numeroDescriptores = cabecera.getInt(28);
+            int bytesDiccionario = cabecera.getInt(32);
+            if (esperados < 0 || esperados > Integer.MAX_VALUE - 8 || numeroDescriptores < 0
+                    || bytesDiccionario < 0 || TAMANO_CABECERA + (long) bytesDiccionario > tamanoArchivo) {
+                throw new IOException("Cabecera de punto de control inválida");
+            }
+            AsignadorPID asignador;
+            try {
+                asignador = new AsignadorPID(cabecera.getInt(16), cabecera.getInt(20), cabecera.getInt(24));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Cabecera de punto de control inválida: " + e.getMessage(), e);
+            }
+            
+            String[] descriptores = leerDiccionario(
+                    canal.map(FileChannel.MapMode.READ_ONLY, TAMANO_CABECERA, bytesDiccionario), numeroDescriptores);
+            List<Proceso> procesos = new ArrayList<>((int) esperados);
+            leerRegistros(canal, TAMANO_CABECERA + (long) bytesDiccionario, esperados, descriptores,
+                          asignador, procesos);
+            
+            planificador.limpiarCola(); // Libera los PID actuales en el asignador anterior
+            Proceso.configurarAsignadorPID(asignador);
+            planificador.agregarProcesos(procesos);
+            return procesos.size();
+        }
+    }
+    
+    private String[] leerDiccionario(ByteBuffer diccionario, int numeroDescriptores) throws IOException {
+        String[] descriptores = new String[numeroDescriptores];
+        int posicion = 0;
+        for (int i = 0; i < numeroDescriptores; i++) {
+            if (diccionario.limit() - posicion < 2) {
+                throw new IOException("Diccionario de descriptores truncado");
+            }
+            int longitud = diccionario.getShort(posicion) & 0xFFFF;
+            if (posicion + 2 + longitud > diccionario.limit()) {
+                throw new IOException("Diccionario de descriptores truncado");
+            }
+            descriptores[i] = leerTexto(diccionario, posicion + 2, longitud);
+            posicion += 2 + longitud;
+        }
+        return descriptores;
+    }
+    
+    /**
+     * Lee los registros por ventanas mapeadas; un registro que queda cortado
+     * al final de una ventana se vuelve a leer al principio de la siguiente.
+     */
+    private void leerRegistros(FileChannel canal, long inicio, long esperados, String[] descriptores,
+                               AsignadorPID asignador, List<Proceso> procesos) throws IOException {
+        long tamanoArchivo = canal.size();
+        long inicioVentana = inicio;
+        while (procesos.size() < esperados) {
+            if (inicioVentana >= tamanoArchivo) {
+                throw new IOException("Punto de control truncado: " + procesos.size() + " de " + esperados + " procesos");
+            }
+            int longitud = (int) Math.min(tamanoVentana, tamanoArchivo - inicioVentana);
+            MappedByteBuffer ventana = canal.map(FileChannel.MapMode.READ_ONLY, inicioVentana, longitud);
+            int posicion = 0;
+            while (procesos.size() < esperados && longitud - posicion >= TAMANO_FIJO_REGISTRO) {
+                int longitudNombre = ventana.getShort(posicion + 26) & 0xFFFF;
+                if (posicion + TAMANO_FIJO_REGISTRO + longitudNombre > longitud) {
+                    break; // Registro incompleto: se vuelve a mapear desde su inicio
+                }
+                procesos.add(leerRegistro(ventana, posicion, longitudNombre, descriptores, asignador,
+                                          procesos.size() + 1));
+                posicion += TAMANO_FIJO_REGISTRO + longitudNombre;
+            }
+            if (posicion == 0 && procesos.size() < esperados) {
+                throw new IOException(inicioVentana + longitud == tamanoArchivo
+                        ? "Punto de control truncado: " + procesos.size() + " de " + esperados + " procesos"
+                        : "Registro " + (procesos.size() + 1) + ": más largo que la ventana de lectura");
+            }
+            inicioVentana += posicion;
+        }
+    }
+    
+    private Proceso leerRegistro(ByteBuffer ventana, int posicion, int longitudNombre, String[] descriptores,
+                                 AsignadorPID asignador, long numero) throws IOException {
+        byte tipo = ventana.get(posicion);
+        int prioridad = ventana.get(posicion + 1);
+        int pid = ventana.getInt(posicion + 2);
+        int parametro = ventana.getInt(posicion + 6);
+        int indiceDescriptor = ventana.getInt(posicion + 10);
+        long presupuestoMs = ventana.getLong(posicion + 14);
+        int afinidad = ventana.getInt(posicion + 22);
+        if (pid < asignador.getPidMinimo() || pid >= asignador.getSiguientePID()) {
+            throw new IOException("Registro " + numero + ": PID " + pid + " fuera del rango asignado");
+        }
+        if (indiceDescriptor < 0 || indiceDescriptor >= descriptores.length) {
+            throw new IOException("Registro " + numero + ": descriptor inexistente");
+        }
+        String nombre = leerTexto(ventana, posicion + TAMANO_FIJO_REGISTRO, longitudNombre);
+        String descriptor = descriptores[indiceDescriptor];
+        
+        if (tipo < TablaProcesos.TIPO_CPU || tipo > TablaProcesos.TIPO_DEMONIO) {
+            throw new IOException("Registro " + numero + ": tipo de proceso desconocido");
+        }
+        Proceso proceso = TablaProcesos.crearProceso(tipo, pid, nombre, descriptor, parametro);
+        proceso.setPrioridad(prioridad);
+        proceso.setPresupuestoMs(presupuestoMs);
+        proceso.setAfinidad(afinidad);
+        return proceso;
+    }
+    
+    private String leerTexto(ByteBuffer buffer, int inicio, int longitud) {
+        if (auxiliar.length < longitud) {
+            auxiliar = new byte[Math.max(longitud, auxiliar.length * 2)];
+        }
+        buffer.position(inicio); // El resto de lecturas son absolutas
+        buffer.get(auxiliar, 0, longitud);
+        return new String(auxiliar, 0, longitud, StandardCharsets.UTF_8);
+    }
+    
+    private static byte[] codificar(String texto) {
+        byte[] bytes = (texto != null ? texto : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Texto demasiado largo para el punto de control");
+        }
+        return bytes;
+    }
+    
+    private static void vaciar(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+}
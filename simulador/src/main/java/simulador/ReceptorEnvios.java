@@ -0,0 +1,274 @@
+package simulador;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Receptor de Envíos - Admite procesos desde muchos hilos a la vez.
+ * Los productores depositan procesos en una {@link ColaAcotada} sin cerrojos;
+ * el hilo dueño del planificador los drena en lote a su cola. La capacidad
+ * limita cuántos envíos esperan sin drenar, y la política de admisión decide
+ * qué pasa cuando se alcanza:
+ * 
+ *   BLOQUEAR: el productor espera a que el dueño drene
+ *   RECHAZAR: el envío falla en el acto
+ *   DESCARTAR_DEMONIO: se descarta el demonio más antiguo en espera; si no hay, se rechaza
+ *   EJECUTAR_EN_LLAMADOR: el productor ejecuta el proceso él mismo
+ * 
+ * Con DESCARTAR_DEMONIO los demonios esperan en su propia cola, para poder
+ * desalojar el más antiguo; al drenar se entregan después de los demás.
+ * 
+ * Un receptor retirado reenvía a su sucesor los envíos que le sigan llegando,
+ * incluidos los de productores que estaban bloqueados esperando espacio.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ReceptorEnvios {
+    public static final int CAPACIDAD_POR_DEFECTO = 65536;
+    
+    /**
+     * Qué hacer con un envío cuando la capacidad está agotada.
+     */
+    public enum Admision {
+        BLOQUEAR, RECHAZAR, DESCARTAR_DEMONIO, EJECUTAR_EN_LLAMADOR
+    }
+    
+    private final int capacidad;
+    private final Admision admision;
+    private final Consumer<Proceso> ejecutorLlamador;
+    private final ColaAcotada<Proceso> procesos;
+    private final ColaAcotada<Proceso> demonios; // Solo con DESCARTAR_DEMONIO
+    private final AtomicInteger pendientes = new AtomicInteger();
+    
+    // Productores bloqueados a la espera de espacio
+    private final ReentrantLock cerrojo = new ReentrantLock();
+    private final Condition hayEspacio = cerrojo.newCondition();
+    private volatile int esperando;
+    private volatile ReceptorEnvios sucesor; // No nulo una vez retirado
+    
+    // Estadísticas
+    private final LongAdder aceptados = new LongAdder();
+    private final LongAdder rechazados = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder ejecutadosEnLlamador = new LongAdder();
+    private final LongAdder bloqueos = new LongAdder();
+    
+    /**
+     * Constructor.
+     * @param capacidad Envíos que pueden esperar sin drenar
+     * @param admision Política cuando la capacidad está agotada
+     * @param ejecutorLlamador Ejecuta un proceso en el hilo productor (EJECUTAR_EN_LLAMADOR)
+     */
+    public ReceptorEnvios(int capacidad, Admision admision, Consumer<Proceso> ejecutorLlamador) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        if (admision == null || ejecutorLlamador == null) {
+            throw new IllegalArgumentException("La admisión y el ejecutor no pueden ser nulos");
+        }
+        this.capacidad = capacidad;
+        this.admision = admision;
+        this.ejecutorLlamador = ejecutorLlamador;
+        this.procesos = new ColaAcotada<>(capacidad);
+        this.demonios = admision == Admision.DESCARTAR_DEMONIO ? new ColaAcotada<Proceso>(capacidad) : null;
+    }
+    
+    /**
+     * Envía un proceso. Seguro para cualquier número de hilos productores.
+     * @param proceso Proceso a admitir
+     * @return true si quedó en espera de ser drenado o se ejecutó en el llamador;
+     *         false si se rechazó (o se interrumpió la espera con BLOQUEAR)
+     */
+    public boolean enviar(Proceso proceso) {
+        if (proceso == null) {
+            return false;
+        }
+        ReceptorEnvios siguiente = sucesor;
+        if (siguiente != null) {
+            return siguiente.enviar(proceso);
+        }
+        if (!reservar()) {
+            switch (admision) {
+                case BLOQUEAR:
+                    if (!esperarEspacio()) {
+                        siguiente = sucesor;
+                        if (siguiente != null && !Thread.currentThread().isInterrupted()) {
+                            return siguiente.enviar(proceso); // Retirado mientras esperaba
+                        }
+                        rechazados.increment();
+                        return false;
+                    }
+                    break;
+                case DESCARTAR_DEMONIO:
+                    Proceso desalojado = demonios.extraer();
+                    if (desalojado == null) {
+                        rechazados.increment();
+                        return false;
+                    }
+                    // El lugar del demonio descartado pasa al envío nuevo
+                    desalojado.liberarPID();
+                    descartados.increment();
+                    break;
+                case EJECUTAR_EN_LLAMADOR:
+                    ejecutorLlamador.accept(proceso);
+                    ejecutadosEnLlamador.increment();
+                    return true;
+                default:
+                    rechazados.increment();
+                    return false;
+            }
+        }
+        // Se comprueba después de reservar: o el dueño ve la reserva al retirar el
+        // receptor y espera a drenarla, o este hilo ve la retirada y reenvía
+        siguiente = sucesor;
+        if (siguiente != null) {
+            pendientes.decrementAndGet();
+            return siguiente.enviar(proceso);
+        }
+        // Con un lugar reservado hay sitio: cada cola admite toda la capacidad. Solo
+        // puede fallar un instante, mientras otro hilo termina de liberar la posición
+        ColaAcotada<Proceso> cola = demonios != null && proceso instanceof ProcesoDemonio ? demonios : procesos;
+        while (!cola.ofrecer(proceso)) {
+            Thread.yield();
+        }
+        aceptados.increment();
+        return true;
+    }
+    
+    /**
+     * Pasa los envíos en espera a la lista. Solo debe llamarlo un hilo a la vez.
+     * @param destino Lista que recibe los procesos, en orden de llegada por cola
+     * @return Procesos drenados
+     */
+    public int drenar(List<Proceso> destino) {
+        int drenados = procesos.drenar(destino, Integer.MAX_VALUE);
+        if (demonios != null) {
+            drenados += demonios.drenar(destino, Integer.MAX_VALUE);
+        }
+        if (drenados > 0) {
+            pendientes.addAndGet(-drenados);
+            if (esperando > 0) {
+                cerrojo.lock();
+                try {
+                    hayEspacio.signalAll();
+                } finally {
+                    cerrojo.unlock();
+                }
+            }
+        }
+        return drenados;
+    }
+    
+    /**
+     * Retira el receptor: los envíos que lleguen a partir de ahora, y los de
+     * los productores bloqueados, pasan al sucesor. Los que ya reservaron
+     * lugar terminan de depositarse aquí, así que el dueño debe seguir
+     * drenando hasta que no queden pendientes.
+     * @param sucesor Receptor que recibe los envíos nuevos
+     */
+    void retirar(ReceptorEnvios sucesor) {
+        this.sucesor = sucesor;
+        cerrojo.lock();
+        try {
+            hayEspacio.signalAll();
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    private boolean reservar() {
+        while (true) {
+            int actuales = pendientes.get();
+            if (actuales >= capacidad) {
+                return false;
+            }
+            if (pendientes.compareAndSet(actuales, actuales + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Espera hasta reservar un lugar.
+     * @return false si el hilo se interrumpió o el receptor se retiró
+     */
+    private boolean esperarEspacio() {
+        bloqueos.increment();
+        cerrojo.lock();
+        try {
+            esperando++;
+            // Se vuelve a intentar tras anotarse: un drenado anterior ya no avisaría
+            while (!reservar()) {
+                if (sucesor != null) {
+                    return false;
+                }
+                hayEspacio.await();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            esperando--;
+            cerrojo.unlock();
+        }
+    }
+    
+    // Getters
+    public int getCapacidad() {
+        return capacidad;
+    }
+    
+    public Admision getAdmision() {
+        return admision;
+    }
+    
+    /**
+     * Envíos en espera de ser drenados.
+     */
+    public int getPendientes() {
+        return pendientes.get();
+    }
+    
+    public long getAceptados() {
+        return aceptados.sum();
+    }
+    
+    /**
+     * Envíos rechazados por falta de capacidad o por interrumpirse la espera.
+     */
+    public long getRechazados() {
+        return rechazados.sum();
+    }
+    
+    /**
+     * Demonios en espera descartados para hacer lugar a envíos nuevos.
+     */
+    public long getDescartados() {
+        return descartados.sum();
+    }
+    
+    public long getEjecutadosEnLlamador() {
+        return ejecutadosEnLlamador.sum();
+    }
+    
+    /**
+     * Veces que un productor tuvo que esperar espacio.
+     */
+    public long getBloqueos() {
+        return bloqueos.sum();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ReceptorEnvios{%s, pendientes=%d/%d, aceptados=%d, rechazados=%d, "
+                           + "descartados=%d, en.llamador=%d, bloqueos=%d}", admision, getPendientes(),
+                           capacidad, getAceptados(), getRechazados(), getDescartados(),
+                           getEjecutadosEnLlamador(), getBloqueos());
+    }
+}
@@ -0,0 +1,76 @@
+package simulador;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de Descriptores - Interna tareas, dispositivos y servicios.
+ * Cada texto distinto recibe un identificador entero pequeño y una única
+ * instancia compartida (Flyweight). Los procesos guardan solo el identificador:
+ * millones de procesos con unas decenas de descriptores distintos comparten
+ * esas pocas cadenas, y comparar descriptores es comparar enteros.
+ * 
+ * La consulta de un texto por su identificador lee un arreglo sin cerrojos.
+ * El alta de un texto nuevo se serializa, pero solo ocurre una vez por texto.
+ * Los descriptores no se eliminan nunca: están pensados para valores que se
+ * repiten, no para textos únicos por proceso.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public final class RegistroDescriptores {
+    public static final int SIN_DESCRIPTOR = 0; // Identificador de null
+    
+    private static final ConcurrentHashMap<String, Integer> IDENTIFICADORES = new ConcurrentHashMap<>();
+    private static volatile String[] textos = new String[64];
+    private static int total = 1; // El 0 queda reservado para null
+    
+    private RegistroDescriptores() {
+    }
+    
+    /**
+     * Devuelve el identificador del texto, registrándolo si es nuevo.
+     * @param texto Descriptor; null devuelve SIN_DESCRIPTOR
+     * @return Identificador estable mientras dure la aplicación
+     */
+    public static int internar(String texto) {
+        if (texto == null) {
+            return SIN_DESCRIPTOR;
+        }
+        Integer id = IDENTIFICADORES.get(texto);
+        return id != null ? id : registrar(texto);
+    }
+    
+    private static synchronized int registrar(String texto) {
+        Integer existente = IDENTIFICADORES.get(texto);
+        if (existente != null) {
+            return existente;
+        }
+        String[] actuales = textos;
+        if (total == actuales.length) {
+            actuales = Arrays.copyOf(actuales, total * 2);
+        }
+        int id = total++;
+        actuales[id] = texto;
+        textos = actuales;
+        // Se publica después del arreglo: quien obtiene el id ya ve su texto
+        IDENTIFICADORES.put(texto, id);
+        return id;
+    }
+    
+    /**
+     * Texto compartido de un identificador.
+     * @param id Identificador devuelto por internar()
+     * @return Texto, o null para SIN_DESCRIPTOR
+     */
+    public static String texto(int id) {
+        return textos[id];
+    }
+    
+    /**
+     * Número de descriptores distintos registrados.
+     */
+    public static synchronized int getTotal() {
+        return total - 1;
+    }
+}
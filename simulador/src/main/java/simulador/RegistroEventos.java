@@ -0,0 +1,279 @@
+package simulador;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Registro de Eventos - Canal asíncrono para los mensajes del ciclo de vida.
+ * Los hilos que registran solo copian referencias y enteros en un evento
+ * reutilizable de un búfer circular preasignado; un único hilo escritor
+ * compone el texto y lo escribe en la salida. Así los trabajadores nunca
+ * esperan el cerrojo de System.out ni construyen cadenas.
+ * 
+ * Los mensajes son plantillas constantes con marcadores que el escritor
+ * sustituye: {p} PID, {a} argumento de texto, {i} valor actual, {n} total.
+ * Si el búfer está lleno el evento se descarta y se contabiliza, en lugar
+ * de bloquear al productor.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class RegistroEventos {
+    public static final int CAPACIDAD_POR_DEFECTO = 8192;
+    
+    private static final long ESPERA_ESCRITOR_NANOS = 1_000_000L;
+    private static final int CEDIDAS_ANTES_DE_DORMIR = 100;
+    
+    /**
+     * Nivel de detalle. Un evento se registra si su nivel no supera el configurado.
+     */
+    public enum Nivel {
+        APAGADO, NORMAL, DETALLE
+    }
+    
+    /**
+     * Evento reutilizable. Los campos se publican con la escritura de "secuencia".
+     */
+    private static final class Evento {
+        volatile long secuencia = -1;
+        String plantilla;
+        String argumento;
+        int pid;
+        int actual;
+        int total;
+    }
+    
+    private final Evento[] eventos;
+    private final int mascara;
+    private final PrintStream salida;
+    private final AtomicLong siguienteEscritura = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final StringBuilder texto = new StringBuilder(1024);
+    private volatile long siguienteLectura;
+    private volatile int nivel;
+    private volatile Thread escritor;
+    private volatile boolean cerrado;
+    
+    /**
+     * Constructor por defecto. Escribe en System.out con nivel NORMAL.
+     */
+    public RegistroEventos() {
+        this(System.out, Nivel.NORMAL, CAPACIDAD_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param salida Flujo donde escribe el hilo escritor
+     * @param nivel Nivel inicial
+     * @param capacidad Eventos en el búfer; se redondea a potencia de dos
+     */
+    public RegistroEventos(PrintStream salida, Nivel nivel, int capacidad) {
+        int tamano = Integer.highestOneBit(Math.max(2, capacidad - 1)) << 1;
+        this.eventos = new Evento[tamano];
+        for (int i = 0; i < tamano; i++) {
+            eventos[i] = new Evento();
+        }
+        this.mascara = tamano - 1;
+        this.salida = salida;
+        setNivel(nivel);
+    }
+    
+    /**
+     * Indica si los eventos del nivel dado se registrarían.
+     * Permite a las rutas críticas evitar cualquier preparación cuando está apagado.
+     * @param nivelEvento Nivel del evento
+     */
+    public boolean estaActivo(Nivel nivelEvento) {
+        return nivelEvento.ordinal() <= nivel;
+    }
+    
+    /**
+     * Registra un evento sin argumentos numéricos.
+     */
+    public void registrar(Nivel nivelEvento, int pid, String plantilla, String argumento) {
+        registrar(nivelEvento, pid, plantilla, argumento, 0, 0);
+    }
+    
+    /**
+     * Registra un evento. No crea objetos ni bloquea; si el búfer está lleno se descarta.
+     * @param nivelEvento Nivel del evento
+     * @param pid PID del proceso, sustituye a {p}
+     * @param plantilla Mensaje constante con marcadores
+     * @param argumento Texto que sustituye a {a}
+     * @param actual Valor que sustituye a {i}
+     * @param total Valor que sustituye a {n}
+     */
+    public void registrar(Nivel nivelEvento, int pid, String plantilla, String argumento,
+                          int actual, int total) {
+        if (nivelEvento.ordinal() > nivel || nivelEvento == Nivel.APAGADO || cerrado) {
+            return;
+        }
+        long secuencia;
+        do {
+            secuencia = siguienteEscritura.get();
+            if (secuencia - siguienteLectura >= eventos.length) {
+                descartados.incrementAndGet();
+                return;
+            }
+        } while (!siguienteEscritura.compareAndSet(secuencia, secuencia + 1));
+        
+        Evento evento = eventos[(int) secuencia & mascara];
+        evento.plantilla = plantilla;
+        evento.argumento = argumento;
+        evento.pid = pid;
+        evento.actual = actual;
+        evento.total = total;
+        evento.secuencia = secuencia; // Publica el evento al escritor
+        
+        if (escritor == null) {
+            iniciarEscritor();
+        }
+    }
+    
+    /**
+     * Espera a que el escritor haya escrito todos los eventos registrados hasta ahora.
+     */
+    public void vaciar() {
+        long objetivo = siguienteEscritura.get();
+        while (siguienteLectura < objetivo && escritor != null && escritor.isAlive()) {
+            LockSupport.unpark(escritor);
+            LockSupport.parkNanos(ESPERA_ESCRITOR_NANOS / 10);
+        }
+    }
+    
+    /**
+     * Escribe los eventos pendientes y detiene el hilo escritor.
+     * Los eventos registrados después se ignoran.
+     */
+    public void cerrar() {
+        vaciar();
+        cerrado = true;
+        Thread hilo = escritor;
+        if (hilo != null) {
+            LockSupport.unpark(hilo);
+            try {
+                hilo.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    public void setNivel(Nivel nivel) {
+        this.nivel = (nivel != null ? nivel : Nivel.APAGADO).ordinal();
+    }
+    
+    public Nivel getNivel() {
+        return Nivel.values()[nivel];
+    }
+    
+    /**
+     * Eventos descartados por encontrar el búfer lleno.
+     */
+    public long getDescartados() {
+        return descartados.get();
+    }
+    
+    /**
+     * Eventos aceptados desde la creación del registro.
+     */
+    public long getRegistrados() {
+        return siguienteEscritura.get();
+    }
+    
+    public int getCapacidad() {
+        return eventos.length;
+    }
+    
+    /**
+     * Crea el hilo escritor la primera vez que se registra un evento.
+     */
+    private synchronized void iniciarEscritor() {
+        if (escritor != null) {
+            return;
+        }
+        Thread hilo = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                escribirEventos();
+            }
+        }, "registro-eventos");
+        hilo.setDaemon(true);
+        hilo.start();
+        escritor = hilo;
+    }
+    
+    /**
+     * Bucle del hilo escritor: compone y escribe lotes de eventos publicados.
+     */
+    private void escribirEventos() {
+        long lectura = siguienteLectura;
+        int vacios = 0;
+        while (true) {
+            Evento evento = eventos[(int) lectura & mascara];
+            if (evento.secuencia != lectura) {
+                if (texto.length() > 0) {
+                    salida.append(texto);
+                    salida.flush();
+                    texto.setLength(0);
+                    siguienteLectura = lectura;
+                }
+                if (cerrado && lectura == siguienteEscritura.get()) {
+                    return;
+                }
+                // Tras una ráfaga se cede el procesador unas veces antes de dormir
+                if (vacios < CEDIDAS_ANTES_DE_DORMIR) {
+                    vacios++;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(ESPERA_ESCRITOR_NANOS);
+                }
+                continue;
+            }
+            vacios = 0;
+            componer(evento);
+            evento.plantilla = null;
+            evento.argumento = null;
+            lectura++;
+            // El hueco se libera tras escribir el lote, para que vaciar() vea el texto en la salida
+            if (texto.length() >= 8192) {
+                salida.append(texto);
+                texto.setLength(0);
+                siguienteLectura = lectura;
+            }
+        }
+    }
+    
+    private void componer(Evento evento) {
+        String plantilla = evento.plantilla;
+        int longitud = plantilla.length();
+        for (int i = 0; i < longitud; i++) {
+            char c = plantilla.charAt(i);
+            if (c == '{' && i + 2 < longitud && plantilla.charAt(i + 2) == '}') {
+                switch (plantilla.charAt(i + 1)) {
+                    case 'p':
+                        texto.append(evento.pid);
+                        i += 2;
+                        continue;
+                    case 'a':
+                        texto.append(evento.argumento);
+                        i += 2;
+                        continue;
+                    case 'i':
+                        texto.append(evento.actual);
+                        i += 2;
+                        continue;
+                    case 'n':
+                        texto.append(evento.total);
+                        i += 2;
+                        continue;
+                    default:
+                        break;
+                }
+            }
+            texto.append(c);
+        }
+        texto.append(System.lineSeparator());
+    }
+}
@@ -0,0 +1,77 @@
+package simulador;
+
+/**
+ * Resultado de Ejecución - Describe cómo terminó un proceso dentro de una
+ * ejecución del planificador.
+ * Objeto inmutable: se crea una vez por proceso ejecutado.
+ *
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public final class ResultadoEjecucion {
+
+    /**
+     * Estados posibles al finalizar la ejecución de un proceso.
+     */
+    public enum Estado {
+        COMPLETADO,
+        FALLIDO,
+        INTERRUMPIDO,
+        EXPIRADO,   // Agotó su presupuesto o venció el plazo del lote
+        CANCELADO   // Cancelado por PID
+    }
+
+    private final int pid;
+    private final String tipoProceso;
+    private final Estado estado;
+    private final long tiempoEjecucionMs;
+    private final String detalleError;
+
+    /**
+     * Constructor completo.
+     * @param proceso Proceso ejecutado
+     * @param estado Estado final de la ejecución
+     * @param tiempoEjecucionMs Tiempo real medido en milisegundos
+     * @param detalleError Descripción del error, o null si no hubo
+     */
+    public ResultadoEjecucion(Proceso proceso, Estado estado, long tiempoEjecucionMs,
+                              String detalleError) {
+        this.pid = proceso.getPid();
+        this.tipoProceso = proceso.obtenerTipoProceso();
+        this.estado = estado != null ? estado : Estado.FALLIDO;
+        this.tiempoEjecucionMs = Math.max(0, tiempoEjecucionMs);
+        this.detalleError = detalleError;
+    }
+
+    // Getters
+    public int getPid() {
+        return pid;
+    }
+
+    public String getTipoProceso() {
+        return tipoProceso;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public long getTiempoEjecucionMs() {
+        return tiempoEjecucionMs;
+    }
+
+    public String getDetalleError() {
+        return detalleError;
+    }
+
+    public boolean isCompletado() {
+        return estado == Estado.COMPLETADO;
+    }
+
+    @Override
+    public String toString() {
+        String base = String.format("[PID: %d] %s - %s en %d ms",
+                                    pid, tipoProceso, estado, tiempoEjecucionMs);
+        return detalleError != null ? base + " (" + detalleError + ")" : base;
+    }
+}
@@ -0,0 +1,144 @@
+package simulador;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de Simulación - Tiempos exactos de una simulación de eventos discretos.
+ * Guarda los tiempos de cada proceso en arreglos primitivos indexados por la
+ * posición del proceso en la lista simulada.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ResultadoSimulacion {
+    private final String politica;
+    private final int[] pids;
+    private final long[] llegadas;
+    private final long[] primerasEjecuciones;
+    private final long[] finalizaciones;
+    private final long[] esperas;
+    private long tiempoTotal;
+    private long tiempoCPUOcupada;
+    
+    /**
+     * Constructor usado por el simulador.
+     * @param numeroProcesos Número de procesos simulados
+     * @param politica Nombre de la política utilizada
+     */
+    ResultadoSimulacion(int numeroProcesos, String politica) {
+        this.politica = politica;
+        this.pids = new int[numeroProcesos];
+        this.llegadas = new long[numeroProcesos];
+        this.primerasEjecuciones = new long[numeroProcesos];
+        this.finalizaciones = new long[numeroProcesos];
+        this.esperas = new long[numeroProcesos];
+        Arrays.fill(primerasEjecuciones, -1);
+    }
+    
+    // Registro de eventos (uso exclusivo del simulador)
+    
+    void registrarProceso(int indice, int pid, long llegada) {
+        pids[indice] = pid;
+        llegadas[indice] = llegada;
+    }
+    
+    void registrarDespacho(int indice, long instante, long espera) {
+        if (primerasEjecuciones[indice] < 0) {
+            primerasEjecuciones[indice] = instante;
+        }
+        esperas[indice] += espera;
+    }
+    
+    void registrarFin(int indice, long instante) {
+        finalizaciones[indice] = instante;
+    }
+    
+    void registrarTotales(long tiempoTotal, long tiempoCPUOcupada) {
+        this.tiempoTotal = tiempoTotal;
+        this.tiempoCPUOcupada = tiempoCPUOcupada;
+    }
+    
+    // Tiempos por proceso
+    
+    public int getNumeroProcesos() {
+        return pids.length;
+    }
+    
+    public int getPid(int indice) {
+        return pids[indice];
+    }
+    
+    /**
+     * Tiempo de retorno: desde la llegada hasta la finalización.
+     */
+    public long getTiempoRetorno(int indice) {
+        return finalizaciones[indice] - llegadas[indice];
+    }
+    
+    /**
+     * Tiempo de espera: tiempo total pasado en la cola de listos.
+     */
+    public long getTiempoEspera(int indice) {
+        return esperas[indice];
+    }
+    
+    /**
+     * Tiempo de respuesta: desde la llegada hasta la primera vez en CPU.
+     */
+    public long getTiempoRespuesta(int indice) {
+        return primerasEjecuciones[indice] - llegadas[indice];
+    }
+    
+    // Totales
+    
+    public double getTiempoRetornoPromedio() {
+        long suma = 0;
+        for (int i = 0; i < pids.length; i++) {
+            suma += getTiempoRetorno(i);
+        }
+        return pids.length > 0 ? (double) suma / pids.length : 0;
+    }
+    
+    public double getTiempoEsperaPromedio() {
+        long suma = 0;
+        for (long espera : esperas) {
+            suma += espera;
+        }
+        return pids.length > 0 ? (double) suma / pids.length : 0;
+    }
+    
+    public double getTiempoRespuestaPromedio() {
+        long suma = 0;
+        for (int i = 0; i < pids.length; i++) {
+            suma += getTiempoRespuesta(i);
+        }
+        return pids.length > 0 ? (double) suma / pids.length : 0;
+    }
+    
+    /**
+     * Instante virtual en que termina el último proceso.
+     */
+    public long getTiempoTotal() {
+        return tiempoTotal;
+    }
+    
+    /**
+     * Fracción del tiempo total en que la CPU estuvo ocupada (0-1).
+     */
+    public double getUtilizacionCPU() {
+        return tiempoTotal > 0 ? (double) tiempoCPUOcupada / tiempoTotal : 0;
+    }
+    
+    public String getPolitica() {
+        return politica;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ResultadoSimulacion{politica=%s, procesos=%d, total=%d ms, "
+                           + "retorno=%.1f ms, espera=%.1f ms, respuesta=%.1f ms, cpu=%.1f%%}",
+                           politica, pids.length, tiempoTotal, getTiempoRetornoPromedio(),
+                           getTiempoEsperaPromedio(), getTiempoRespuestaPromedio(),
+                           getUtilizacionCPU() * 100);
+    }
+}
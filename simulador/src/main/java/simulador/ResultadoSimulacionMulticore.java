@@ -0,0 +1,154 @@
+package simulador;
+
+/**
+ * Resultado de Simulación Multinúcleo - Amplía el resultado de la simulación
+ * con la ocupación de cada núcleo y la actividad del balanceo de carga.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class ResultadoSimulacionMulticore extends ResultadoSimulacion {
+    private final String estrategia;
+    private final long[] ocupacionNucleos;
+    private final long[] despachosNucleos;
+    private long robos;
+    private long procesosRobados;
+    private long robosFallidos;
+    private long migraciones;
+    
+    /**
+     * Constructor usado por el simulador.
+     * @param numeroProcesos Número de procesos simulados
+     * @param politica Nombre de la política utilizada
+     * @param numeroNucleos Número de núcleos simulados
+     * @param estrategia Nombre de la estrategia de robo de trabajo
+     */
+    ResultadoSimulacionMulticore(int numeroProcesos, String politica, int numeroNucleos,
+                                 String estrategia) {
+        super(numeroProcesos, politica);
+        this.estrategia = estrategia;
+        this.ocupacionNucleos = new long[numeroNucleos];
+        this.despachosNucleos = new long[numeroNucleos];
+    }
+    
+    // Registro de eventos (uso exclusivo del simulador)
+    
+    void registrarRafaga(int nucleo, long duracion) {
+        ocupacionNucleos[nucleo] += duracion;
+        despachosNucleos[nucleo]++;
+    }
+    
+    void registrarRobo(int procesos) {
+        robos++;
+        procesosRobados += procesos;
+    }
+    
+    void registrarRoboFallido() {
+        robosFallidos++;
+    }
+    
+    void registrarMigracion() {
+        migraciones++;
+    }
+    
+    // Datos por núcleo
+    
+    public int getNumeroNucleos() {
+        return ocupacionNucleos.length;
+    }
+    
+    /**
+     * Tiempo virtual que el núcleo pasó ejecutando procesos, incluida la
+     * penalización por migración.
+     */
+    public long getTiempoOcupado(int nucleo) {
+        return ocupacionNucleos[nucleo];
+    }
+    
+    public long getDespachos(int nucleo) {
+        return despachosNucleos[nucleo];
+    }
+    
+    /**
+     * Fracción del tiempo total en que el núcleo estuvo ocupado (0-1).
+     */
+    public double getUtilizacionNucleo(int nucleo) {
+        long total = getTiempoTotal();
+        return total > 0 ? (double) ocupacionNucleos[nucleo] / total : 0;
+    }
+    
+    /**
+     * Utilización media de todos los núcleos (0-1).
+     */
+    @Override
+    public double getUtilizacionCPU() {
+        long total = getTiempoTotal();
+        return total > 0 ? (double) sumarOcupacion() / ((double) total * ocupacionNucleos.length) : 0;
+    }
+    
+    /**
+     * Desequilibrio de carga: cuánto supera el núcleo más ocupado a la media.
+     * 0 indica un reparto perfecto; 1 indica que el más ocupado trabajó el doble
+     * que la media.
+     */
+    public double getDesequilibrio() {
+        long suma = sumarOcupacion();
+        if (suma == 0) {
+            return 0;
+        }
+        long maximo = 0;
+        for (long ocupacion : ocupacionNucleos) {
+            maximo = Math.max(maximo, ocupacion);
+        }
+        return (double) maximo * ocupacionNucleos.length / suma - 1;
+    }
+    
+    private long sumarOcupacion() {
+        long suma = 0;
+        for (long ocupacion : ocupacionNucleos) {
+            suma += ocupacion;
+        }
+        return suma;
+    }
+    
+    // Balanceo de carga
+    
+    public String getEstrategia() {
+        return estrategia;
+    }
+    
+    /**
+     * Robos con éxito; cada uno se lleva la mitad de la cola de la víctima.
+     */
+    public long getRobos() {
+        return robos;
+    }
+    
+    public long getProcesosRobados() {
+        return procesosRobados;
+    }
+    
+    /**
+     * Intentos de robo en los que la víctima elegida no tenía procesos en cola.
+     */
+    public long getRobosFallidos() {
+        return robosFallidos;
+    }
+    
+    /**
+     * Ráfagas que se ejecutaron en un núcleo distinto del de la ráfaga anterior.
+     */
+    public long getMigraciones() {
+        return migraciones;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ResultadoSimulacionMulticore{politica=%s, nucleos=%d, estrategia=%s, "
+                           + "procesos=%d, total=%d ms, retorno=%.1f ms, espera=%.1f ms, "
+                           + "cpu=%.1f%%, desequilibrio=%.3f, robos=%d, migraciones=%d}",
+                           getPolitica(), ocupacionNucleos.length, estrategia, getNumeroProcesos(),
+                           getTiempoTotal(), getTiempoRetornoPromedio(), getTiempoEsperaPromedio(),
+                           getUtilizacionCPU() * 100, getDesequilibrio(), robos, migraciones);
+    }
+}
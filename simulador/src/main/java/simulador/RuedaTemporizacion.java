@@ -0,0 +1,186 @@
+package simulador;
+
+import java.util.List;
+
+/**
+ * Rueda de Temporización Jerárquica - Vencimientos en tiempo constante.
+ * Cuatro niveles de 64 ranuras: el primero cubre los próximos 64 ticks, y cada
+ * nivel siguiente cubre 64 veces más. Agregar o quitar una entrada cuesta O(1),
+ * y avanzar un tick solo toca la ranura que vence. Cuando el primer nivel da la
+ * vuelta, la ranura correspondiente del nivel superior se redistribuye hacia
+ * abajo (como los temporizadores del núcleo de Linux), de modo que cada
+ * entrada baja a lo sumo una vez por nivel.
+ * 
+ * Las entradas son nodos de lista doblemente enlazada dentro de su ranura, así
+ * que la rueda no crea objetos al programar ni al vencer. No es segura entre
+ * hilos: quien la use debe protegerla.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+final class RuedaTemporizacion {
+    private static final int BITS_NIVEL = 6;
+    private static final int RANURAS = 1 << BITS_NIVEL;
+    private static final int MASCARA_RANURA = RANURAS - 1;
+    private static final int NIVELES = 4;
+    private static final long ALCANCE = 1L << (BITS_NIVEL * NIVELES); // Ticks que cubre la rueda
+    
+    private final Entrada[][] ranuras = new Entrada[NIVELES][RANURAS];
+    private long siguienteTick; // Próximo tick por procesar
+    private int tamano;
+    
+    /**
+     * Nodo programable en la rueda.
+     */
+    static class Entrada {
+        private long vencimiento = -1; // Tick de vencimiento; -1 si no está en la rueda
+        private Entrada anterior;
+        private Entrada siguiente;
+        private int nivel;
+        private int ranura;
+        
+        boolean estaProgramada() {
+            return vencimiento >= 0;
+        }
+        
+        long getVencimiento() {
+            return vencimiento;
+        }
+    }
+    
+    /**
+     * Constructor.
+     * @param tickInicial Primer tick que procesará avanzar()
+     */
+    RuedaTemporizacion(long tickInicial) {
+        this.siguienteTick = tickInicial;
+    }
+    
+    /**
+     * Programa una entrada. Si el vencimiento ya pasó, vence en el próximo tick.
+     * @param entrada Entrada que no esté programada
+     * @param tick Tick de vencimiento
+     */
+    void programar(Entrada entrada, long tick) {
+        if (entrada.estaProgramada()) {
+            throw new IllegalStateException("La entrada ya está programada");
+        }
+        entrada.vencimiento = Math.max(tick, siguienteTick);
+        ubicar(entrada);
+        tamano++;
+    }
+    
+    /**
+     * Quita una entrada programada.
+     * @return true si estaba en la rueda
+     */
+    boolean cancelar(Entrada entrada) {
+        if (!entrada.estaProgramada()) {
+            return false;
+        }
+        desenlazar(entrada);
+        entrada.vencimiento = -1;
+        tamano--;
+        return true;
+    }
+    
+    /**
+     * Procesa todos los ticks hasta el indicado, inclusive.
+     * @param hastaTick Último tick por procesar
+     * @param vencidas Recibe las entradas vencidas, en orden de tick
+     */
+    void avanzar(long hastaTick, List<Entrada> vencidas) {
+        while (siguienteTick <= hastaTick) {
+            if (tamano == 0) {
+                siguienteTick = hastaTick + 1; // Nada que vencer: se salta el tramo
+                return;
+            }
+            int indice = (int) siguienteTick & MASCARA_RANURA;
+            // Al dar la vuelta un nivel, baja la ranura que corresponde del nivel superior
+            for (int nivel = 1; nivel < NIVELES; nivel++) {
+                if (((siguienteTick >>> (BITS_NIVEL * (nivel - 1))) & MASCARA_RANURA) != 0) {
+                    break;
+                }
+                redistribuir(nivel, (int) (siguienteTick >>> (BITS_NIVEL * nivel)) & MASCARA_RANURA);
+            }
+            long tick = siguienteTick++;
+            Entrada entrada = ranuras[0][indice];
+            ranuras[0][indice] = null;
+            while (entrada != null) {
+                Entrada siguiente = entrada.siguiente;
+                entrada.anterior = null;
+                entrada.siguiente = null;
+                if (entrada.vencimiento > tick) {
+                    ubicar(entrada); // Más allá del alcance de la rueda: sigue esperando
+                } else {
+                    entrada.vencimiento = -1;
+                    tamano--;
+                    vencidas.add(entrada);
+                }
+                entrada = siguiente;
+            }
+        }
+    }
+    
+    private void redistribuir(int nivel, int ranura) {
+        Entrada entrada = ranuras[nivel][ranura];
+        ranuras[nivel][ranura] = null;
+        while (entrada != null) {
+            Entrada siguiente = entrada.siguiente;
+            entrada.anterior = null;
+            entrada.siguiente = null;
+            ubicar(entrada);
+            entrada = siguiente;
+        }
+    }
+    
+    /**
+     * Enlaza la entrada en el nivel más bajo cuyo alcance cubre su vencimiento.
+     */
+    private void ubicar(Entrada entrada) {
+        long tick = entrada.vencimiento;
+        long distancia = tick - siguienteTick;
+        if (distancia >= ALCANCE) {
+            tick = siguienteTick + ALCANCE - 1; // Se reubica al llegar a esa ranura
+            distancia = ALCANCE - 1;
+        }
+        int nivel = 0;
+        while (nivel < NIVELES - 1 && distancia >= 1L << (BITS_NIVEL * (nivel + 1))) {
+            nivel++;
+        }
+        int ranura = (int) (tick >>> (BITS_NIVEL * nivel)) & MASCARA_RANURA;
+        Entrada cabeza = ranuras[nivel][ranura];
+        entrada.nivel = nivel;
+        entrada.ranura = ranura;
+        entrada.anterior = null;
+        entrada.siguiente = cabeza;
+        if (cabeza != null) {
+            cabeza.anterior = entrada;
+        }
+        ranuras[nivel][ranura] = entrada;
+    }
+    
+    private void desenlazar(Entrada entrada) {
+        if (entrada.anterior != null) {
+            entrada.anterior.siguiente = entrada.siguiente;
+        } else {
+            ranuras[entrada.nivel][entrada.ranura] = entrada.siguiente;
+        }
+        if (entrada.siguiente != null) {
+            entrada.siguiente.anterior = entrada.anterior;
+        }
+        entrada.anterior = null;
+        entrada.siguiente = null;
+    }
+    
+    /**
+     * Entradas programadas.
+     */
+    int getTamano() {
+        return tamano;
+    }
+    
+    long getSiguienteTick() {
+        return siguienteTick;
+    }
+}
@@ -0,0 +1,151 @@
+package simulador;
+
+import java.util.List;
+
+/**
+ * Simulador de Eventos Discretos - Ejecuta la cola sobre un reloj virtual.
+ * En lugar de dormir hilos, avanza el reloj de evento en evento usando los
+ * tiempos estimados de cada proceso (ráfagas de CPU y bloqueos de E/S).
+ * Modela una única CPU; los bloqueos de E/S transcurren en paralelo.
+ * 
+ * Los tiempos son exactos en milisegundos virtuales, por lo que el resultado
+ * es determinista y se pueden simular millones de procesos por segundo.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class SimuladorEventos {
+    // Tipos de evento, codificados en los dos bits bajos del valor del montículo
+    private static final int EVENTO_LLEGADA = 0;
+    private static final int EVENTO_FIN_CPU = 1;
+    private static final int EVENTO_FIN_ES = 2;
+    
+    private final PoliticaPlanificacion politica;
+    
+    /**
+     * Constructor completo.
+     * @param politica Política que decide qué proceso listo usa la CPU
+     */
+    public SimuladorEventos(PoliticaPlanificacion politica) {
+        this.politica = politica != null ? politica : new PoliticaFCFS();
+    }
+    
+    /**
+     * Simula la ejecución de los procesos, todos llegando en el instante 0.
+     * @param procesos Procesos a simular, en orden de llegada
+     * @return Tiempos de cada proceso y totales de la simulación
+     */
+    public ResultadoSimulacion simular(List<Proceso> procesos) {
+        return simular(procesos, new long[procesos.size()]);
+    }
+    
+    /**
+     * Simula la ejecución de los procesos con instantes de llegada explícitos.
+     * @param procesos Procesos a simular
+     * @param llegadas Instante de llegada (ms virtuales) de cada proceso
+     * @return Tiempos de cada proceso y totales de la simulación
+     */
+    public ResultadoSimulacion simular(List<Proceso> procesos, long[] llegadas) {
+        int n = procesos.size();
+        if (llegadas.length != n) {
+            throw new IllegalArgumentException("Se requiere un instante de llegada por proceso");
+        }
+        
+        ResultadoSimulacion resultado = new ResultadoSimulacion(n, politica.getNombre());
+        Proceso[] tabla = procesos.toArray(new Proceso[n]);
+        int[] unidadesRestantes = new int[n];
+        long[] cpuRestante = new long[n];
+        long[] enListosDesde = new long[n];
+        long[] ultimaRafaga = new long[n];
+        int quantum = politica.getQuantum();
+        
+        MonticuloIndices eventos = new MonticuloIndices(n);
+        MonticuloIndices listos = new MonticuloIndices();
+        long secuenciaListos = 0;
+        
+        for (int i = 0; i < n; i++) {
+            Proceso proceso = tabla[i];
+            resultado.registrarProceso(i, proceso.getPid(), llegadas[i]);
+            unidadesRestantes[i] = proceso.obtenerUnidadesTrabajo();
+            cpuRestante[i] = primeraRafaga(proceso);
+            eventos.insertar(llegadas[i], codificar(i, EVENTO_LLEGADA));
+        }
+        
+        int enCPU = -1;
+        long reloj = 0;
+        long tiempoCPUOcupada = 0;
+        
+        while (!eventos.estaVacio()) {
+            reloj = eventos.verClaveMinima();
+            int evento = eventos.extraerMinimo();
+            int i = evento >>> 2;
+            Proceso proceso = tabla[i];
+        
+            switch (evento & 3) {
+                case EVENTO_LLEGADA:
+                    enListosDesde[i] = reloj;
+                    listos.insertar(politica.calcularClave(proceso, secuenciaListos++), i);
+                    break;
+                case EVENTO_FIN_CPU:
+                    enCPU = -1;
+                    cpuRestante[i] -= ultimaRafaga[i];
+                    tiempoCPUOcupada += ultimaRafaga[i];
+                    if (cpuRestante[i] > 0) {
+                        // Quantum agotado: vuelve al final de la cola de listos
+                        enListosDesde[i] = reloj;
+                        listos.insertar(politica.calcularClave(proceso, secuenciaListos++), i);
+                    } else if (proceso.obtenerTiempoBloqueoPorUnidad() > 0) {
+                        eventos.insertar(reloj + proceso.obtenerTiempoBloqueoPorUnidad(),
+                                         codificar(i, EVENTO_FIN_ES));
+                    } else {
+                        resultado.registrarFin(i, reloj);
+                    }
+                    break;
+                case EVENTO_FIN_ES:
+                    if (--unidadesRestantes[i] == 0) {
+                        resultado.registrarFin(i, reloj);
+                    } else {
+                        cpuRestante[i] = proceso.obtenerTiempoCPUPorUnidad();
+                        enListosDesde[i] = reloj;
+                        listos.insertar(politica.calcularClave(proceso, secuenciaListos++), i);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Evento desconocido: " + evento);
+            }
+        
+            // Si la CPU quedó libre se despacha el siguiente proceso listo, una vez
+            // procesados todos los eventos del mismo instante
+            boolean instanteCompleto = eventos.estaVacio() || eventos.verClaveMinima() > reloj;
+            if (enCPU < 0 && instanteCompleto && !listos.estaVacio()) {
+                enCPU = listos.extraerMinimo();
+                resultado.registrarDespacho(enCPU, reloj, reloj - enListosDesde[enCPU]);
+                long rafaga = quantum > 0 ? Math.min(quantum, cpuRestante[enCPU]) : cpuRestante[enCPU];
+                ultimaRafaga[enCPU] = rafaga;
+                eventos.insertar(reloj + rafaga, codificar(enCPU, EVENTO_FIN_CPU));
+            }
+        }
+        
+        resultado.registrarTotales(reloj, tiempoCPUOcupada);
+        return resultado;
+    }
+    
+    /**
+     * Calcula la primera ráfaga de CPU de un proceso. Los procesos sin E/S
+     * encadenan todas sus unidades en una sola ráfaga.
+     */
+    private static long primeraRafaga(Proceso proceso) {
+        long porUnidad = proceso.obtenerTiempoCPUPorUnidad();
+        return proceso.obtenerTiempoBloqueoPorUnidad() > 0
+                ? porUnidad
+                : porUnidad * proceso.obtenerUnidadesTrabajo();
+    }
+    
+    private static int codificar(int indice, int tipoEvento) {
+        return (indice << 2) | tipoEvento;
+    }
+    
+    public PoliticaPlanificacion getPolitica() {
+        return politica;
+    }
+}
@@ -0,0 +1,363 @@
+package simulador;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Simulador Multinúcleo - Ejecuta la cola sobre un reloj virtual con varios
+ * núcleos, cada uno con su propia cola de listos ordenada por la política.
+ * No hay cola global: un núcleo solo toca su cola salvo cuando se queda
+ * ocioso y roba la mitad de la cola de otro núcleo.
+ * 
+ * Los procesos llegan al núcleo de su afinidad o, si no la tienen, se reparten
+ * por turnos. Tras un bloqueo de E/S vuelven a la cola del núcleo preferido o
+ * del último que los ejecutó. Ejecutar una ráfaga en un núcleo distinto del
+ * anterior cuenta como migración y puede costar una penalización fija.
+ * 
+ * Con un núcleo, sin robo y sin penalización los tiempos coinciden con los de
+ * SimuladorEventos.
+ * 
+ * Como en SimuladorEventos, las colas de cada núcleo son de tipo
+ * {@link MonticuloIndices} y no {@link ColaListos}: guardan el índice del
+ * proceso en la tabla de la simulación, que es lo que necesitan los arreglos
+ * de estado, y el mismo Proceso puede aparecer varias veces en la lista.
+ * Las claves las sigue calculando la política, igual que en ColaListos.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class SimuladorMulticore {
+    // Tipos de evento, codificados en los dos bits bajos del valor del montículo
+    private static final int EVENTO_LLEGADA = 0;
+    private static final int EVENTO_FIN_CPU = 1;
+    private static final int EVENTO_FIN_ES = 2;
+    private static final long SEMILLA = 0x5EED_C0DEL; // Resultados reproducibles
+    
+    /**
+     * Cómo elige un núcleo ocioso la cola a la que robar.
+     */
+    public enum EstrategiaRobo {
+        NINGUNO,        // Cada núcleo atiende solo su cola
+        ALEATORIO,      // Una víctima al azar
+        DOS_ELECCIONES, // La más cargada de dos víctimas al azar
+        MAS_CARGADO     // La cola más larga de todas
+    }
+    
+    private final PoliticaPlanificacion politica;
+    private final int numeroNucleos;
+    private final EstrategiaRobo estrategia;
+    private final long penalizacionMigracionMs;
+    
+    /**
+     * Constructor sin penalización por migración.
+     * @param politica Política que ordena la cola de cada núcleo
+     * @param numeroNucleos Número de núcleos simulados
+     * @param estrategia Estrategia de robo de trabajo
+     */
+    public SimuladorMulticore(PoliticaPlanificacion politica, int numeroNucleos,
+                              EstrategiaRobo estrategia) {
+        this(politica, numeroNucleos, estrategia, 0);
+    }
+    
+    /**
+     * Constructor completo.
+     * @param politica Política que ordena la cola de cada núcleo
+     * @param numeroNucleos Número de núcleos simulados
+     * @param estrategia Estrategia de robo de trabajo
+     * @param penalizacionMigracionMs Tiempo extra de una ráfaga que cambia de núcleo
+     */
+    public SimuladorMulticore(PoliticaPlanificacion politica, int numeroNucleos,
+                              EstrategiaRobo estrategia, long penalizacionMigracionMs) {
+        if (numeroNucleos < 1) {
+            throw new IllegalArgumentException("Se requiere al menos un núcleo");
+        }
+        this.politica = politica != null ? politica : new PoliticaFCFS();
+        this.numeroNucleos = numeroNucleos;
+        this.estrategia = estrategia != null ? estrategia : EstrategiaRobo.NINGUNO;
+        this.penalizacionMigracionMs = Math.max(0, penalizacionMigracionMs);
+    }
+    
+    /**
+     * Simula la ejecución de los procesos, todos llegando en el instante 0.
+     * @param procesos Procesos a simular, en orden de llegada
+     * @return Tiempos de cada proceso, ocupación de cada núcleo y totales
+     */
+    public ResultadoSimulacionMulticore simular(List<Proceso> procesos) {
+        return simular(procesos, new long[procesos.size()]);
+    }
+    
+    /**
+     * Simula la ejecución de los procesos con instantes de llegada explícitos.
+     * @param procesos Procesos a simular
+     * @param llegadas Instante de llegada (ms virtuales) de cada proceso
+     * @return Tiempos de cada proceso, ocupación de cada núcleo y totales
+     */
+    public ResultadoSimulacionMulticore simular(List<Proceso> procesos, long[] llegadas) {
+        if (llegadas.length != procesos.size()) {
+            throw new IllegalArgumentException("Se requiere un instante de llegada por proceso");
+        }
+        return new Simulacion(procesos.toArray(new Proceso[0]), llegadas).ejecutar();
+    }
+    
+    /**
+     * Estado de una simulación. Se crea uno por llamada para que el simulador
+     * pueda usarse desde varios hilos.
+     */
+    private final class Simulacion {
+        private final Proceso[] tabla;
+        private final long[] llegadas;
+        private final ResultadoSimulacionMulticore resultado;
+        private final int[] unidadesRestantes;
+        private final long[] cpuRestante;
+        private final long[] enListosDesde;
+        private final long[] ultimaRafaga;
+        private final int[] ultimoNucleo;
+        private final int quantum;
+        
+        private final MonticuloIndices eventos;
+        private final MonticuloIndices[] colas;
+        private final int[] ociosos;        // Conjunto de núcleos ociosos
+        private final int[] posicionOcioso; // Posición en ociosos, -1 si está ocupado
+        private int numeroOciosos;
+        private int enCola;                 // Procesos listos en todas las colas
+        private long secuenciaListos;
+        private final SplittableRandom aleatorio = new SplittableRandom(SEMILLA);
+        
+        Simulacion(Proceso[] tabla, long[] llegadas) {
+            int n = tabla.length;
+            this.tabla = tabla;
+            this.llegadas = llegadas;
+            this.resultado = new ResultadoSimulacionMulticore(n, politica.getNombre(), numeroNucleos,
+                                                              estrategia.name());
+            this.unidadesRestantes = new int[n];
+            this.cpuRestante = new long[n];
+            this.enListosDesde = new long[n];
+            this.ultimaRafaga = new long[n];
+            this.ultimoNucleo = new int[n];
+            this.quantum = politica.getQuantum();
+            this.eventos = new MonticuloIndices(n);
+            this.colas = new MonticuloIndices[numeroNucleos];
+            this.ociosos = new int[numeroNucleos];
+            this.posicionOcioso = new int[numeroNucleos];
+            for (int c = 0; c < numeroNucleos; c++) {
+                colas[c] = new MonticuloIndices();
+                ociosos[c] = c;
+                posicionOcioso[c] = c;
+            }
+            this.numeroOciosos = numeroNucleos;
+        }
+        
+        ResultadoSimulacionMulticore ejecutar() {
+            for (int i = 0; i < tabla.length; i++) {
+                Proceso proceso = tabla[i];
+                resultado.registrarProceso(i, proceso.getPid(), llegadas[i]);
+                unidadesRestantes[i] = proceso.obtenerUnidadesTrabajo();
+                cpuRestante[i] = primeraRafaga(proceso);
+                ultimoNucleo[i] = proceso.getAfinidad() != Proceso.SIN_AFINIDAD
+                        ? proceso.getAfinidad() % numeroNucleos
+                        : i % numeroNucleos;
+                eventos.insertar(llegadas[i], codificar(i, EVENTO_LLEGADA));
+            }
+        
+            long reloj = 0;
+            long tiempoCPUOcupada = 0;
+        
+            while (!eventos.estaVacio()) {
+                reloj = eventos.verClaveMinima();
+                int evento = eventos.extraerMinimo();
+                int i = evento >>> 2;
+                Proceso proceso = tabla[i];
+        
+                switch (evento & 3) {
+                    case EVENTO_LLEGADA:
+                        encolar(i, ultimoNucleo[i], reloj);
+                        break;
+                    case EVENTO_FIN_CPU:
+                        liberar(ultimoNucleo[i]);
+                        cpuRestante[i] -= ultimaRafaga[i];
+                        tiempoCPUOcupada += ultimaRafaga[i];
+                        if (cpuRestante[i] > 0) {
+                            // Quantum agotado: vuelve al final de la cola de su núcleo
+                            encolar(i, ultimoNucleo[i], reloj);
+                        } else if (proceso.obtenerTiempoBloqueoPorUnidad() > 0) {
+                            eventos.insertar(reloj + proceso.obtenerTiempoBloqueoPorUnidad(),
+                                             codificar(i, EVENTO_FIN_ES));
+                        } else {
+                            resultado.registrarFin(i, reloj);
+                        }
+                        break;
+                    case EVENTO_FIN_ES:
+                        if (--unidadesRestantes[i] == 0) {
+                            resultado.registrarFin(i, reloj);
+                        } else {
+                            cpuRestante[i] = proceso.obtenerTiempoCPUPorUnidad();
+                            encolar(i, nucleoPreferido(i), reloj);
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("Evento desconocido: " + evento);
+                }
+        
+                // Los núcleos libres despachan una vez procesados todos los eventos del instante
+                boolean instanteCompleto = eventos.estaVacio() || eventos.verClaveMinima() > reloj;
+                if (instanteCompleto && enCola > 0 && numeroOciosos > 0) {
+                    despacharOciosos(reloj);
+                }
+            }
+        
+            resultado.registrarTotales(reloj, tiempoCPUOcupada);
+            return resultado;
+        }
+        
+        /**
+         * Primero cada núcleo ocioso atiende su propia cola; después, si la
+         * estrategia lo permite, los que siguen ociosos roban a otros núcleos.
+         */
+        private void despacharOciosos(long reloj) {
+            for (int k = 0; k < numeroOciosos; ) {
+                int nucleo = ociosos[k];
+                if (colas[nucleo].estaVacio()) {
+                    k++;
+                } else {
+                    despachar(nucleo, reloj); // Saca al núcleo del conjunto; k pasa a otro
+                }
+            }
+            if (estrategia == EstrategiaRobo.NINGUNO || numeroNucleos == 1) {
+                return;
+            }
+            for (int k = 0; k < numeroOciosos && enCola > 0; ) {
+                int nucleo = ociosos[k];
+                if (robar(nucleo)) {
+                    despachar(nucleo, reloj);
+                } else {
+                    k++;
+                }
+            }
+        }
+        
+        private void despachar(int nucleo, long reloj) {
+            int i = colas[nucleo].extraerMinimo();
+            enCola--;
+            ocupar(nucleo);
+            resultado.registrarDespacho(i, reloj, reloj - enListosDesde[i]);
+            long rafaga = quantum > 0 ? Math.min(quantum, cpuRestante[i]) : cpuRestante[i];
+            long duracion = rafaga;
+            if (ultimoNucleo[i] != nucleo) {
+                resultado.registrarMigracion();
+                duracion += penalizacionMigracionMs;
+            }
+            ultimoNucleo[i] = nucleo;
+            ultimaRafaga[i] = rafaga;
+            resultado.registrarRafaga(nucleo, duracion);
+            eventos.insertar(reloj + duracion, codificar(i, EVENTO_FIN_CPU));
+        }
+        
+        /**
+         * Pasa la mitad (redondeada hacia arriba) de la cola de la víctima a la
+         * cola del ladrón. Se lleva los primeros según la política: el ladrón
+         * los despacha enseguida, mientras que en la víctima seguirían esperando.
+         * @return true si el ladrón tiene ahora procesos en su cola
+         */
+        private boolean robar(int ladron) {
+            int victima = elegirVictima(ladron);
+            if (victima < 0 || colas[victima].estaVacio()) {
+                resultado.registrarRoboFallido();
+                return false;
+            }
+            MonticuloIndices origen = colas[victima];
+            int cantidad = (origen.getTamano() + 1) / 2;
+            for (int j = 0; j < cantidad; j++) {
+                int i = origen.extraerMinimo();
+                colas[ladron].insertar(politica.calcularClave(tabla[i], secuenciaListos++), i);
+            }
+            resultado.registrarRobo(cantidad);
+            return true;
+        }
+        
+        private int elegirVictima(int ladron) {
+            switch (estrategia) {
+                case ALEATORIO:
+                    return otroNucleo(ladron);
+                case DOS_ELECCIONES: {
+                    int a = otroNucleo(ladron);
+                    int b = otroNucleo(ladron);
+                    return colas[a].getTamano() >= colas[b].getTamano() ? a : b;
+                }
+                case MAS_CARGADO: {
+                    int mejor = -1;
+                    int mayor = 0;
+                    for (int c = 0; c < numeroNucleos; c++) {
+                        if (colas[c].getTamano() > mayor) {
+                            mayor = colas[c].getTamano();
+                            mejor = c;
+                        }
+                    }
+                    return mejor;
+                }
+                default:
+                    return -1;
+            }
+        }
+        
+        // Núcleo al azar distinto del ladrón
+        private int otroNucleo(int ladron) {
+            int c = aleatorio.nextInt(numeroNucleos - 1);
+            return c >= ladron ? c + 1 : c;
+        }
+        
+        private int nucleoPreferido(int i) {
+            int afinidad = tabla[i].getAfinidad();
+            return afinidad != Proceso.SIN_AFINIDAD ? afinidad % numeroNucleos : ultimoNucleo[i];
+        }
+        
+        private void encolar(int i, int nucleo, long reloj) {
+            enListosDesde[i] = reloj;
+            colas[nucleo].insertar(politica.calcularClave(tabla[i], secuenciaListos++), i);
+            enCola++;
+        }
+        
+        private void ocupar(int nucleo) {
+            int posicion = posicionOcioso[nucleo];
+            int ultimo = ociosos[--numeroOciosos];
+            ociosos[posicion] = ultimo;
+            posicionOcioso[ultimo] = posicion;
+            posicionOcioso[nucleo] = -1;
+        }
+        
+        private void liberar(int nucleo) {
+            posicionOcioso[nucleo] = numeroOciosos;
+            ociosos[numeroOciosos++] = nucleo;
+        }
+    }
+    
+    /**
+     * Calcula la primera ráfaga de CPU de un proceso. Los procesos sin E/S
+     * encadenan todas sus unidades en una sola ráfaga.
+     */
+    private static long primeraRafaga(Proceso proceso) {
+        long porUnidad = proceso.obtenerTiempoCPUPorUnidad();
+        return proceso.obtenerTiempoBloqueoPorUnidad() > 0
+                ? porUnidad
+                : porUnidad * proceso.obtenerUnidadesTrabajo();
+    }
+    
+    private static int codificar(int indice, int tipoEvento) {
+        return (indice << 2) | tipoEvento;
+    }
+    
+    public PoliticaPlanificacion getPolitica() {
+        return politica;
+    }
+    
+    public int getNumeroNucleos() {
+        return numeroNucleos;
+    }
+    
+    public EstrategiaRobo getEstrategia() {
+        return estrategia;
+    }
+    
+    public long getPenalizacionMigracionMs() {
+        return penalizacionMigracionMs;
+    }
+}
@@ -0,0 +1,66 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Subsistema de E/S - Registro de dispositivos por nombre.
+ * Los procesos de E/S piden su dispositivo por el nombre que llevan; si nadie
+ * lo configuró antes, se crea con la configuración por defecto. Todos los
+ * procesos que nombran el mismo dispositivo comparten su cola.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class SubsistemaES {
+    private static final String DISPOSITIVO_SIN_NOMBRE = "desconocido";
+    
+    private final ConcurrentHashMap<String, DispositivoES> dispositivos = new ConcurrentHashMap<>();
+    
+    /**
+     * Devuelve el dispositivo con ese nombre, creándolo si no existe.
+     * @param nombre Nombre del dispositivo; se ignoran los espacios de los extremos
+     * @return Dispositivo compartido
+     */
+    public DispositivoES obtener(String nombre) {
+        return dispositivos.computeIfAbsent(normalizar(nombre), DispositivoES::new);
+    }
+    
+    /**
+     * Registra un dispositivo con una configuración propia. Si ya existía uno
+     * con el mismo nombre, se cierra; sus operaciones en cola se atienden.
+     * @param dispositivo Dispositivo configurado
+     */
+    public void configurar(DispositivoES dispositivo) {
+        DispositivoES anterior = dispositivos.put(normalizar(dispositivo.getNombre()), dispositivo);
+        if (anterior != null && anterior != dispositivo) {
+            anterior.cerrar();
+        }
+    }
+    
+    /**
+     * Dispositivos usados o configurados, ordenados por nombre.
+     */
+    public List<DispositivoES> getDispositivos() {
+        List<DispositivoES> lista = new ArrayList<>(dispositivos.values());
+        Collections.sort(lista, Comparator.comparing(DispositivoES::getNombre));
+        return lista;
+    }
+    
+    /**
+     * Cierra todos los dispositivos.
+     */
+    public void cerrar() {
+        for (DispositivoES dispositivo : dispositivos.values()) {
+            dispositivo.cerrar();
+        }
+    }
+    
+    private static String normalizar(String nombre) {
+        String limpio = nombre != null ? nombre.trim() : "";
+        return limpio.isEmpty() ? DISPOSITIVO_SIN_NOMBRE : limpio;
+    }
+}
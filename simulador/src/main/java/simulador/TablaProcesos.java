@@ -0,0 +1,357 @@
+package simulador;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Tabla de Procesos - Almacenamiento columnar de procesos en arreglos primitivos.
+ * Alternativa a una List&lt;Proceso&gt; para colas muy grandes: cada atributo se
+ * guarda en su propio arreglo (PID, tipo, parámetro, tiempo estimado...), de
+ * modo que los recorridos como el tiempo promedio son bucles sobre int[] sin
+ * acceder a objetos. Los textos descriptivos (tarea, dispositivo, servicio) se
+ * internan en {@link RegistroDescriptores} y cada fila solo guarda su identificador,
+ * el mismo que usan los procesos.
+ * 
+ * Para consultar una fila como proceso se usa una {@link VistaProceso}, que se
+ * reposiciona sin crear objetos, o {@link #materializar(int)} si se necesita
+ * un Proceso real.
+ * 
+ * Las filas creadas con {@link #agregarNuevo} son dueñas de su PID y
+ * {@link #limpiar()} lo devuelve al asignador; las copiadas de un proceso
+ * existente comparten el PID con él, que sigue siendo quien lo libera.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class TablaProcesos {
+    public static final byte TIPO_CPU = 0;
+    public static final byte TIPO_ES = 1;
+    public static final byte TIPO_DEMONIO = 2;
+    
+    private static final int CAPACIDAD_INICIAL = 16;
+    
+    private int[] pids;
+    private byte[] tipos;
+    private byte[] prioridades;
+    private int[] parametros; // Intensidad, operaciones o ciclos según el tipo
+    private int[] tiemposEstimados;
+    private int[] descriptores; // Identificador en RegistroDescriptores
+    private String[] nombres;
+    private boolean[] pidsPropios; // La fila pidió su PID al asignador y debe liberarlo
+    private int tamano;
+    
+    /**
+     * Constructor por defecto.
+     */
+    public TablaProcesos() {
+        this(CAPACIDAD_INICIAL);
+    }
+    
+    /**
+     * Constructor con capacidad inicial.
+     * @param capacidad Número de procesos esperados
+     */
+    public TablaProcesos(int capacidad) {
+        int inicial = Math.max(CAPACIDAD_INICIAL, capacidad);
+        this.pids = new int[inicial];
+        this.tipos = new byte[inicial];
+        this.prioridades = new byte[inicial];
+        this.parametros = new int[inicial];
+        this.tiemposEstimados = new int[inicial];
+        this.descriptores = new int[inicial];
+        this.nombres = new String[inicial];
+        this.pidsPropios = new boolean[inicial];
+    }
+    
+    /**
+     * Agrega un proceso existente copiando sus atributos a las columnas.
+     * @param proceso Proceso a agregar
+     * @return Índice de la fila, o -1 si el proceso es null o de tipo desconocido
+     */
+    public int agregar(Proceso proceso) {
+        if (proceso instanceof ProcesoCPU) {
+            ProcesoCPU cpu = (ProcesoCPU) proceso;
+            return agregarFila(TIPO_CPU, cpu.getPid(), cpu.getNombre(), cpu.getTipoTarea(),
+                               cpu.getIntensidad(), cpu.getPrioridad());
+        }
+        if (proceso instanceof ProcesoES) {
+            ProcesoES es = (ProcesoES) proceso;
+            return agregarFila(TIPO_ES, es.getPid(), es.getNombre(), es.getDeviceType(),
+                               es.getOperations(), es.getPrioridad());
+        }
+        if (proceso instanceof ProcesoDemonio) {
+            ProcesoDemonio demonio = (ProcesoDemonio) proceso;
+            return agregarFila(TIPO_DEMONIO, demonio.getPid(), demonio.getNombre(),
+                               demonio.getTipoServicio(), demonio.getCiclos(), demonio.getPrioridad());
+        }
+        return -1;
+    }
+    
+    /**
+     * Agrega todos los procesos de una colección.
+     * @param procesos Procesos a agregar
+     */
+    public void agregarTodos(Collection<? extends Proceso> procesos) {
+        asegurarCapacidad(tamano + procesos.size());
+        for (Proceso proceso : procesos) {
+            agregar(proceso);
+        }
+    }
+    
+    /**
+     * Agrega un proceso nuevo directamente a las columnas, sin crear el objeto.
+     * El PID se solicita al asignador igual que al construir un Proceso; para
+     * tablas que superan el rango por defecto (unos 4 millones de PID) hay que
+     * ampliarlo antes con {@link Proceso#reservarPIDs(long)}, como hace el cargador.
+     * @param tipo Tipo de proceso (TIPO_CPU, TIPO_ES o TIPO_DEMONIO)
+     * @param nombre Nombre del proceso
+     * @param descriptor Tarea, dispositivo o servicio según el tipo
+     * @param parametro Intensidad, operaciones o ciclos según el tipo
+     * @return Índice de la fila
+     * @throws IllegalArgumentException si el tipo es desconocido
+     */
+    public int agregarNuevo(byte tipo, String nombre, String descriptor, int parametro) {
+        int prioridad;
+        switch (tipo) {
+            case TIPO_CPU:
+                parametro = Math.max(1, Math.min(5, parametro));
+                prioridad = Proceso.PRIORIDAD_NORMAL;
+                break;
+            case TIPO_ES:
+                parametro = Math.max(1, parametro);
+                prioridad = ProcesoES.PRIORIDAD_POR_DEFECTO;
+                break;
+            case TIPO_DEMONIO:
+                parametro = Math.max(1, parametro);
+                prioridad = ProcesoDemonio.PRIORIDAD_POR_DEFECTO;
+                break;
+            default:
+                throw new IllegalArgumentException("Tipo de proceso desconocido: " + tipo);
+        }
+        int fila = agregarFila(tipo, Proceso.getAsignadorPID().asignar(), nombre, descriptor,
+                               parametro, prioridad);
+        pidsPropios[fila] = true;
+        return fila;
+    }
+    
+    private int agregarFila(byte tipo, int pid, String nombre, String descriptor,
+                            int parametro, int prioridad) {
+        asegurarCapacidad(tamano + 1);
+        int fila = tamano++;
+        pids[fila] = pid;
+        tipos[fila] = tipo;
+        prioridades[fila] = (byte) prioridad;
+        parametros[fila] = parametro;
+        tiemposEstimados[fila] = estimarTiempo(tipo, parametro);
+        descriptores[fila] = RegistroDescriptores.internar(descriptor);
+        nombres[fila] = nombre;
+        return fila;
+    }
+    
+    /**
+     * Tiempo estimado según el tipo, con la misma fórmula que cada subclase.
+     */
+    private static int estimarTiempo(byte tipo, int parametro) {
+        switch (tipo) {
+            case TIPO_CPU:
+                return ProcesoCPU.estimarTiempo(parametro);
+            case TIPO_ES:
+                return ProcesoES.estimarTiempo(parametro);
+            default:
+                return ProcesoDemonio.estimarTiempo(parametro);
+        }
+    }
+    
+    private void asegurarCapacidad(int minima) {
+        if (minima <= pids.length) {
+            return;
+        }
+        int nuevaCapacidad = Math.max(minima, pids.length + (pids.length >> 1) + 1);
+        pids = Arrays.copyOf(pids, nuevaCapacidad);
+        tipos = Arrays.copyOf(tipos, nuevaCapacidad);
+        prioridades = Arrays.copyOf(prioridades, nuevaCapacidad);
+        parametros = Arrays.copyOf(parametros, nuevaCapacidad);
+        tiemposEstimados = Arrays.copyOf(tiemposEstimados, nuevaCapacidad);
+        descriptores = Arrays.copyOf(descriptores, nuevaCapacidad);
+        nombres = Arrays.copyOf(nombres, nuevaCapacidad);
+        pidsPropios = Arrays.copyOf(pidsPropios, nuevaCapacidad);
+    }
+    
+    /**
+     * Obtiene el tiempo promedio estimado recorriendo solo la columna de tiempos.
+     * @return Tiempo promedio en milisegundos, o 0 si la tabla está vacía
+     */
+    public int obtenerTiempoPromedio() {
+        if (tamano == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < tamano; i++) {
+            total += tiemposEstimados[i];
+        }
+        return (int) (total / tamano);
+    }
+    
+    /**
+     * Cuenta los procesos de un tipo recorriendo solo la columna de tipos.
+     * @param tipo Tipo de proceso
+     * @return Número de filas de ese tipo
+     */
+    public int contarPorTipo(byte tipo) {
+        int total = 0;
+        for (int i = 0; i < tamano; i++) {
+            if (tipos[i] == tipo) {
+                total++;
+            }
+        }
+        return total;
+    }
+    
+    /**
+     * Crea una vista reutilizable sobre esta tabla.
+     * @return Vista posicionada en la primera fila
+     */
+    public VistaProceso crearVista() {
+        return new VistaProceso(this);
+    }
+    
+    /**
+     * Crea un Proceso real con los datos de una fila, conservando su PID.
+     * Desde ese momento el PID es del proceso: limpiar() ya no lo libera.
+     * @param fila Índice de la fila
+     * @return Proceso equivalente a la fila
+     */
+    public Proceso materializar(int fila) {
+        verificarFila(fila);
+        Proceso proceso = crearProceso(tipos[fila], pids[fila], nombres[fila], getDescriptor(fila), parametros[fila]);
+        proceso.setPrioridad(prioridades[fila]);
+        pidsPropios[fila] = false;
+        return proceso;
+    }
+    
+    // Conversión entre procesos y (tipo, descriptor, parámetro); la usan también
+    // los formatos binarios (punto de control, diario)
+    
+    /**
+     * Crea un proceso del tipo indicado conservando su PID.
+     * @throws IllegalArgumentException si el tipo es desconocido
+     */
+    static Proceso crearProceso(byte tipo, int pid, String nombre, String descriptor, int parametro) {
+        switch (tipo) {
+            case TIPO_CPU:
+                return new ProcesoCPU(pid, nombre, descriptor, parametro);
+            case TIPO_ES:
+                return new ProcesoES(pid, nombre, descriptor, parametro);
+            case TIPO_DEMONIO:
+                return new ProcesoDemonio(pid, nombre, descriptor, parametro);
+            default:
+                throw new IllegalArgumentException("Tipo de proceso desconocido: " + tipo);
+        }
+    }
+    
+    /**
+     * Tipo de un proceso.
+     * @throws IllegalArgumentException si no es CPU, E/S ni demonio
+     */
+    static byte tipoDe(Proceso proceso) {
+        if (proceso instanceof ProcesoCPU) {
+            return TIPO_CPU;
+        }
+        if (proceso instanceof ProcesoES) {
+            return TIPO_ES;
+        }
+        if (proceso instanceof ProcesoDemonio) {
+            return TIPO_DEMONIO;
+        }
+        throw new IllegalArgumentException("Tipo de proceso no soportado: " + proceso.obtenerTipoProceso());
+    }
+    
+    /**
+     * Tarea, dispositivo o servicio según el tipo del proceso.
+     */
+    static String descriptorDe(Proceso proceso) {
+        switch (tipoDe(proceso)) {
+            case TIPO_CPU:
+                return ((ProcesoCPU) proceso).getTipoTarea();
+            case TIPO_ES:
+                return ((ProcesoES) proceso).getDeviceType();
+            default:
+                return ((ProcesoDemonio) proceso).getTipoServicio();
+        }
+    }
+    
+    /**
+     * Intensidad, operaciones o ciclos según el tipo del proceso.
+     */
+    static int parametroDe(Proceso proceso) {
+        switch (tipoDe(proceso)) {
+            case TIPO_CPU:
+                return ((ProcesoCPU) proceso).getIntensidad();
+            case TIPO_ES:
+                return ((ProcesoES) proceso).getOperations();
+            default:
+                return ((ProcesoDemonio) proceso).getCiclos();
+        }
+    }
+    
+    /**
+     * Vacía la tabla conservando la capacidad reservada y devuelve al
+     * asignador los PID de las filas que son dueñas del suyo.
+     */
+    public void limpiar() {
+        AsignadorPID asignador = Proceso.getAsignadorPID();
+        for (int i = 0; i < tamano; i++) {
+            if (pidsPropios[i]) {
+                asignador.liberar(pids[i]);
+            }
+        }
+        Arrays.fill(pidsPropios, 0, tamano, false);
+        Arrays.fill(nombres, 0, tamano, null);
+        tamano = 0;
+    }
+    
+    void verificarFila(int fila) {
+        if (fila < 0 || fila >= tamano) {
+            throw new IndexOutOfBoundsException("Fila " + fila + " fuera de la tabla (" + tamano + ")");
+        }
+    }
+    
+    // Acceso por columnas
+    
+    public int getTamano() {
+        return tamano;
+    }
+    
+    public int getPid(int fila) {
+        return pids[fila];
+    }
+    
+    public byte getTipo(int fila) {
+        return tipos[fila];
+    }
+    
+    public int getPrioridad(int fila) {
+        return prioridades[fila];
+    }
+    
+    public int getParametro(int fila) {
+        return parametros[fila];
+    }
+    
+    public int getTiempoEstimado(int fila) {
+        return tiemposEstimados[fila];
+    }
+    
+    public String getNombre(int fila) {
+        return nombres[fila];
+    }
+    
+    public String getDescriptor(int fila) {
+        return RegistroDescriptores.texto(descriptores[fila]);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("TablaProcesos{procesos=%d}", tamano);
+    }
+}
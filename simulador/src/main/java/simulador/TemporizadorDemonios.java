@@ -0,0 +1,333 @@
+package simulador;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Temporizador de Demonios - Ejecuta procesos demonio como servicios periódicos.
+ * Cada demonio programado corre un ciclo por periodo, a ritmo fijo, hasta que
+ * se cancela. Los ciclos pendientes esperan en una {@link RuedaTemporizacion}:
+ * un demonio inactivo no ocupa ningún hilo, así que miles de demonios con
+ * periodos distintos se atienden con un solo hilo de temporización más los
+ * trabajadores que corren los ciclos que vencen.
+ * 
+ * Si un ciclo empieza tarde (trabajadores ocupados, pausas), la diferencia con
+ * su instante previsto se registra como deriva. Si termina después de que debía
+ * empezar el siguiente, los ciclos que ya no caben se saltan y se cuentan como
+ * ticks perdidos, en lugar de encadenarse para recuperar el retraso.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public class TemporizadorDemonios {
+    public static final long TICK_POR_DEFECTO_MS = 10;
+    
+    private final long tickNanos;
+    private final int numeroTrabajadores;
+    private final long origenNanos = System.nanoTime();
+    
+    private final ReentrantLock cerrojo = new ReentrantLock();
+    private final Condition cambio = cerrojo.newCondition();
+    private final RuedaTemporizacion rueda;
+    private final ConcurrentHashMap<Integer, Servicio> servicios = new ConcurrentHashMap<>();
+    private ExecutorService trabajadores;
+    private Thread hiloTemporizador;
+    private boolean cerrado;
+    
+    // Estadísticas
+    private final HistogramaLog derivasMicros = new HistogramaLog();
+    private final LongAdder ciclosEjecutados = new LongAdder();
+    private final LongAdder ticksPerdidos = new LongAdder();
+    private final LongAdder sumaDerivaMicros = new LongAdder();
+    private final LongAccumulator derivaMaximaMicros = new LongAccumulator(Math::max, 0);
+    
+    /**
+     * Demonio programado: su próximo ciclo está en la rueda o ejecutándose.
+     */
+    private final class Servicio extends RuedaTemporizacion.Entrada implements Runnable {
+        private final ProcesoDemonio demonio;
+        private final long periodoNanos;
+        private long previstoNanos; // Instante en que debe empezar el próximo ciclo
+        private int ciclo;
+        private volatile boolean cancelado;
+        
+        private Servicio(ProcesoDemonio demonio, long periodoNanos, long primeroNanos) {
+            this.demonio = demonio;
+            this.periodoNanos = periodoNanos;
+            this.previstoNanos = primeroNanos;
+        }
+        
+        @Override
+        public void run() {
+            long inicio = System.nanoTime();
+            registrarDeriva(inicio - previstoNanos);
+            boolean continuar = demonio.ejecutarUnidad(++ciclo);
+            ciclosEjecutados.increment();
+            if (!continuar || cancelado) {
+                servicios.remove(demonio.getPid(), this);
+                return;
+            }
+            // Ritmo fijo: el siguiente ciclo se cuenta desde el previsto, no desde el real
+            previstoNanos += periodoNanos;
+            long ahora = System.nanoTime();
+            if (ahora > previstoNanos) {
+                long perdidos = (ahora - previstoNanos) / periodoNanos + 1;
+                ticksPerdidos.add(perdidos);
+                previstoNanos += perdidos * periodoNanos;
+            }
+            reprogramar(this);
+        }
+    }
+    
+    /**
+     * Constructor con ticks de 10 ms y un trabajador por núcleo.
+     */
+    public TemporizadorDemonios() {
+        this(TICK_POR_DEFECTO_MS, Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Constructor completo.
+     * @param tickMs Resolución de la rueda; los ciclos empiezan como mucho un tick tarde
+     * @param numeroTrabajadores Hilos que ejecutan los ciclos vencidos
+     */
+    public TemporizadorDemonios(long tickMs, int numeroTrabajadores) {
+        if (tickMs < 1 || numeroTrabajadores < 1) {
+            throw new IllegalArgumentException("El tick y los trabajadores deben ser positivos");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.numeroTrabajadores = numeroTrabajadores;
+        this.rueda = new RuedaTemporizacion(0);
+    }
+    
+    /**
+     * Programa un demonio con una fase inicial aleatoria dentro del periodo,
+     * para que los demonios con el mismo periodo no venzan todos a la vez.
+     * @param demonio Demonio a ejecutar periódicamente
+     * @param periodoMs Tiempo entre el inicio de dos ciclos
+     * @return true si se programó; false si ese PID ya estaba programado
+     */
+    public boolean programar(ProcesoDemonio demonio, long periodoMs) {
+        return programar(demonio, periodoMs, ThreadLocalRandom.current().nextLong(Math.max(1, periodoMs)));
+    }
+    
+    /**
+     * Programa un demonio.
+     * @param demonio Demonio a ejecutar periódicamente
+     * @param periodoMs Tiempo entre el inicio de dos ciclos
+     * @param retardoInicialMs Espera hasta el primer ciclo
+     * @return true si se programó; false si ese PID ya estaba programado
+     * @throws IllegalStateException si el temporizador está cerrado
+     */
+    public boolean programar(ProcesoDemonio demonio, long periodoMs, long retardoInicialMs) {
+        if (periodoMs < 1) {
+            throw new IllegalArgumentException("El periodo debe ser positivo: " + periodoMs);
+        }
+        long primero = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, retardoInicialMs));
+        Servicio servicio = new Servicio(demonio, TimeUnit.MILLISECONDS.toNanos(periodoMs), primero);
+        cerrojo.lock();
+        try {
+            if (cerrado) {
+                throw new IllegalStateException("Temporizador cerrado");
+            }
+            if (servicios.putIfAbsent(demonio.getPid(), servicio) != null) {
+                return false;
+            }
+            if (hiloTemporizador == null) {
+                iniciar();
+            }
+            rueda.programar(servicio, tickDe(primero));
+            cambio.signal();
+            return true;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    /**
+     * Deja de ejecutar un demonio. Un ciclo en curso termina, pero no se programa otro.
+     * @param pid PID del demonio
+     * @return true si estaba programado
+     */
+    public boolean cancelar(int pid) {
+        Servicio servicio = servicios.remove(pid);
+        if (servicio == null) {
+            return false;
+        }
+        servicio.cancelado = true;
+        cerrojo.lock();
+        try {
+            rueda.cancelar(servicio);
+        } finally {
+            cerrojo.unlock();
+        }
+        return true;
+    }
+    
+    /**
+     * Cancela todos los demonios, interrumpe los ciclos en curso y detiene los hilos.
+     */
+    public void cerrar() {
+        ExecutorService ejecutor;
+        cerrojo.lock();
+        try {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            for (Servicio servicio : servicios.values()) {
+                servicio.cancelado = true;
+                rueda.cancelar(servicio);
+            }
+            servicios.clear();
+            ejecutor = trabajadores;
+            cambio.signalAll();
+        } finally {
+            cerrojo.unlock();
+        }
+        if (ejecutor != null) {
+            ejecutor.shutdownNow();
+        }
+    }
+    
+    private void iniciar() {
+        final AtomicInteger contador = new AtomicInteger(1);
+        trabajadores = Executors.newFixedThreadPool(numeroTrabajadores, tarea -> {
+            Thread hilo = new Thread(tarea, "demonio-trabajador-" + contador.getAndIncrement());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        hiloTemporizador = new Thread(this::temporizar, "demonio-temporizador");
+        hiloTemporizador.setDaemon(true);
+        hiloTemporizador.start();
+    }
+    
+    /**
+     * Bucle del hilo de temporización: avanza la rueda hasta el tick actual,
+     * entrega los ciclos vencidos a los trabajadores y duerme hasta el próximo
+     * tick, o indefinidamente si no hay nada programado.
+     */
+    private void temporizar() {
+        List<RuedaTemporizacion.Entrada> vencidas = new ArrayList<>();
+        while (true) {
+            ExecutorService ejecutor;
+            cerrojo.lock();
+            try {
+                while (!cerrado && rueda.getTamano() == 0) {
+                    cambio.awaitUninterruptibly();
+                }
+                if (cerrado) {
+                    return;
+                }
+                long tickActual = tickDe(System.nanoTime());
+                rueda.avanzar(tickActual, vencidas);
+                ejecutor = trabajadores;
+                if (vencidas.isEmpty()) {
+                    long esperaNanos = origenNanos + rueda.getSiguienteTick() * tickNanos - System.nanoTime();
+                    if (esperaNanos > 0) {
+                        cambio.awaitNanos(esperaNanos);
+                    }
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                cerrojo.unlock();
+            }
+            for (RuedaTemporizacion.Entrada entrada : vencidas) {
+                try {
+                    ejecutor.execute((Servicio) entrada);
+                } catch (RejectedExecutionException e) {
+                    return; // Cerrado mientras se entregaban los ciclos
+                }
+            }
+            vencidas.clear();
+        }
+    }
+    
+    private void reprogramar(Servicio servicio) {
+        cerrojo.lock();
+        try {
+            if (!cerrado && !servicio.cancelado) {
+                rueda.programar(servicio, tickDe(servicio.previstoNanos));
+                cambio.signal();
+            }
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+    
+    // Redondea hacia arriba: un ciclo nunca empieza antes de lo previsto
+    private long tickDe(long instanteNanos) {
+        return Math.max(0, (instanteNanos - origenNanos + tickNanos - 1) / tickNanos);
+    }
+    
+    private void registrarDeriva(long derivaNanos) {
+        long micros = Math.max(0, derivaNanos / 1000);
+        derivasMicros.registrar(micros);
+        sumaDerivaMicros.add(micros);
+        derivaMaximaMicros.accumulate(micros);
+    }
+    
+    // Estadísticas
+    
+    /**
+     * Demonios programados en este momento.
+     */
+    public int getDemoniosProgramados() {
+        return servicios.size();
+    }
+    
+    public long getCiclosEjecutados() {
+        return ciclosEjecutados.sum();
+    }
+    
+    /**
+     * Ciclos saltados porque el anterior terminó después de su inicio previsto.
+     */
+    public long getTicksPerdidos() {
+        return ticksPerdidos.sum();
+    }
+    
+    /**
+     * Retraso medio entre el instante previsto de un ciclo y su inicio real.
+     */
+    public double getDerivaPromedioMs() {
+        long ciclos = derivasMicros.getTotal();
+        return ciclos > 0 ? sumaDerivaMicros.sum() / 1000.0 / ciclos : 0;
+    }
+    
+    /**
+     * Percentil del retraso de inicio de los ciclos.
+     * @param fraccion Percentil entre 0 y 1
+     */
+    public double getDerivaPercentilMs(double fraccion) {
+        return derivasMicros.obtenerPercentil(fraccion) / 1000.0;
+    }
+    
+    public double getDerivaMaximaMs() {
+        return derivaMaximaMicros.get() / 1000.0;
+    }
+    
+    public long getTickMs() {
+        return TimeUnit.NANOSECONDS.toMillis(tickNanos);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("TemporizadorDemonios{tick=%d ms, demonios=%d, ciclos=%d, perdidos=%d, "
+                           + "deriva=%.1f ms, deriva.max=%.1f ms}", getTickMs(), getDemoniosProgramados(),
+                           getCiclosEjecutados(), getTicksPerdidos(), getDerivaPromedioMs(), getDerivaMaximaMs());
+    }
+}
@@ -0,0 +1,135 @@
+package simulador;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vigilante de Plazos - Hace cumplir presupuestos de tiempo y cancelaciones.
+ * Mientras un proceso se ejecuta queda registrado por PID junto al hilo que lo
+ * corre. Al vencer su plazo, o al cancelarlo, se interrumpe ese hilo; los
+ * procesos responden a la interrupción terminando su unidad de trabajo.
+ * 
+ * Una máquina de estados por ejecución evita que una interrupción tardía
+ * alcance al siguiente proceso que corra el mismo hilo trabajador.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+final class VigilantePlazos {
+    static final long SIN_LIMITE = Long.MAX_VALUE;
+    
+    private final ConcurrentHashMap<Integer, Vigilancia> enEjecucion = new ConcurrentHashMap<>();
+    private ScheduledThreadPoolExecutor temporizador;
+    
+    /**
+     * Ejecución en curso de un proceso.
+     */
+    static final class Vigilancia {
+        private static final int EN_CURSO = 0;
+        private static final int TERMINADA = 1;
+        private static final int DETENIENDO = 2;
+        private static final int DETENIDA = 3;
+        
+        private final Thread hilo;
+        private final AtomicInteger fase = new AtomicInteger(EN_CURSO);
+        private volatile ResultadoEjecucion.Estado motivo;
+        private volatile ScheduledFuture<?> alarma;
+        
+        private Vigilancia(Thread hilo) {
+            this.hilo = hilo;
+        }
+        
+        /**
+         * Detiene la ejecución interrumpiendo su hilo, si aún no terminó.
+         * @return true si esta llamada detuvo la ejecución
+         */
+        boolean detener(ResultadoEjecucion.Estado motivoDetencion) {
+            if (!fase.compareAndSet(EN_CURSO, DETENIENDO)) {
+                return false;
+            }
+            motivo = motivoDetencion;
+            hilo.interrupt();
+            fase.set(DETENIDA);
+            return true;
+        }
+    }
+    
+    /**
+     * Registra el inicio de la ejecución de un proceso en el hilo actual.
+     * @param proceso Proceso que empieza a ejecutarse
+     * @param limiteNanos Instante (System.nanoTime) en que vence su plazo, o SIN_LIMITE
+     * @return Vigilancia que debe pasarse a terminar()
+     */
+    Vigilancia iniciar(Proceso proceso, long limiteNanos) {
+        final Vigilancia vigilancia = new Vigilancia(Thread.currentThread());
+        enEjecucion.put(proceso.getPid(), vigilancia);
+        if (limiteNanos != SIN_LIMITE) {
+            vigilancia.alarma = temporizador().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    vigilancia.detener(ResultadoEjecucion.Estado.EXPIRADO);
+                }
+            }, limiteNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+        return vigilancia;
+    }
+    
+    /**
+     * Registra el final de la ejecución. Si fue detenida, espera a que la
+     * interrupción se haya entregado y la descarta del hilo actual.
+     * @return Motivo de la detención (EXPIRADO o CANCELADO), o null si terminó sola
+     */
+    ResultadoEjecucion.Estado terminar(Proceso proceso, Vigilancia vigilancia) {
+        enEjecucion.remove(proceso.getPid(), vigilancia);
+        ScheduledFuture<?> alarma = vigilancia.alarma;
+        if (alarma != null) {
+            alarma.cancel(false);
+        }
+        if (vigilancia.fase.compareAndSet(Vigilancia.EN_CURSO, Vigilancia.TERMINADA)) {
+            return null;
+        }
+        while (vigilancia.fase.get() == Vigilancia.DETENIENDO) {
+            Thread.yield();
+        }
+        Thread.interrupted(); // La interrupción era solo para este proceso
+        return vigilancia.motivo;
+    }
+    
+    /**
+     * Cancela el proceso con el PID dado si se está ejecutando.
+     * @return true si estaba en ejecución y se detuvo
+     */
+    boolean cancelar(int pid) {
+        Vigilancia vigilancia = enEjecucion.get(pid);
+        return vigilancia != null && vigilancia.detener(ResultadoEjecucion.Estado.CANCELADO);
+    }
+    
+    /**
+     * Detiene el hilo del temporizador.
+     */
+    synchronized void cerrar() {
+        if (temporizador != null) {
+            temporizador.shutdownNow();
+            temporizador = null;
+        }
+    }
+    
+    private synchronized ScheduledThreadPoolExecutor temporizador() {
+        if (temporizador == null) {
+            temporizador = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable tarea) {
+                    Thread hilo = new Thread(tarea, "planificador-temporizador");
+                    hilo.setDaemon(true);
+                    return hilo;
+                }
+            });
+            temporizador.setRemoveOnCancelPolicy(true);
+        }
+        return temporizador;
+    }
+}
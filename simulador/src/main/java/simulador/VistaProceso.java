@@ -0,0 +1,96 @@
+package simulador;
+
+/**
+ * Vista de Proceso - Peso ligero (Flyweight) sobre una fila de TablaProcesos.
+ * Ofrece las mismas consultas de solo lectura que un Proceso, pero leyendo de
+ * las columnas de la tabla. Una misma vista se reposiciona para recorrer la
+ * tabla completa sin crear un objeto por fila.
+ * 
+ * No extiende Proceso porque el PID de un Proceso es inmutable y se asigna al
+ * construirlo; para obtener un Proceso real se usa {@link #materializar()}.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+public final class VistaProceso {
+    private final TablaProcesos tabla;
+    private int fila;
+    
+    /**
+     * Constructor usado por la tabla.
+     * @param tabla Tabla sobre la que se posiciona la vista
+     */
+    VistaProceso(TablaProcesos tabla) {
+        this.tabla = tabla;
+        this.fila = 0;
+    }
+    
+    /**
+     * Posiciona la vista en otra fila de la tabla.
+     * @param fila Índice de la fila
+     * @return Esta misma vista, para encadenar llamadas
+     */
+    public VistaProceso posicionar(int fila) {
+        tabla.verificarFila(fila);
+        this.fila = fila;
+        return this;
+    }
+    
+    public int getFila() {
+        return fila;
+    }
+    
+    public int getPid() {
+        return tabla.getPid(fila);
+    }
+    
+    public String getNombre() {
+        return tabla.getNombre(fila);
+    }
+    
+    public int getPrioridad() {
+        return tabla.getPrioridad(fila);
+    }
+    
+    /**
+     * Tarea, dispositivo o servicio según el tipo de proceso.
+     */
+    public String getDescriptor() {
+        return tabla.getDescriptor(fila);
+    }
+    
+    /**
+     * Intensidad, operaciones o ciclos según el tipo de proceso.
+     */
+    public int getParametro() {
+        return tabla.getParametro(fila);
+    }
+    
+    public String obtenerTipoProceso() {
+        switch (tabla.getTipo(fila)) {
+            case TablaProcesos.TIPO_CPU:
+                return ProcesoCPU.TIPO;
+            case TablaProcesos.TIPO_ES:
+                return ProcesoES.TIPO;
+            default:
+                return ProcesoDemonio.TIPO;
+        }
+    }
+    
+    public int obtenerTiempoEjecucion() {
+        return tabla.getTiempoEstimado(fila);
+    }
+    
+    /**
+     * Crea un Proceso real equivalente a la fila actual.
+     * @return Proceso con el mismo PID y atributos
+     */
+    public Proceso materializar() {
+        return tabla.materializar(fila);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("[PID: %d] %s (%s)", getPid(), getNombre(), obtenerTipoProceso());
+    }
+}
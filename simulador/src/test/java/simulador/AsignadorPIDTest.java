@@ -0,0 +1,137 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas del asignador de PID: rango, vuelta del contador y reutilización.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class AsignadorPIDTest {
+    
+    @Test
+    void asignaPIDsConsecutivosDesdeElMinimo() {
+        AsignadorPID asignador = new AsignadorPID(100, 199);
+        assertEquals(100, asignador.asignar());
+        assertEquals(101, asignador.asignar());
+        assertEquals(102, asignador.getSiguientePID());
+        assertEquals(98, asignador.getPIDsDisponibles());
+    }
+    
+    @Test
+    void reutilizaLiberadosAlAgotarElRango() {
+        AsignadorPID asignador = new AsignadorPID(10, 13);
+        for (int pid = 10; pid <= 13; pid++) {
+            assertEquals(pid, asignador.asignar());
+        }
+        assertThrows(IllegalStateException.class, asignador::asignar);
+        
+        assertTrue(asignador.liberar(12));
+        assertEquals(1, asignador.getPIDsDisponibles());
+        assertEquals(12, asignador.asignar());
+        assertThrows(IllegalStateException.class, asignador::asignar);
+    }
+    
+    @Test
+    void noReutilizaAntesDeAgotarElRango() {
+        AsignadorPID asignador = new AsignadorPID(10, 20);
+        int primero = asignador.asignar();
+        assertTrue(asignador.liberar(primero));
+        assertEquals(11, asignador.asignar()); // El contador sigue avanzando
+    }
+    
+    @Test
+    void rechazaDobleLiberacionYPIDsNoAsignados() {
+        AsignadorPID asignador = new AsignadorPID(10, 20);
+        int pid = asignador.asignar();
+        assertTrue(asignador.liberar(pid));
+        assertFalse(asignador.liberar(pid));
+        assertFalse(asignador.liberar(15)); // Aún no asignado
+        assertFalse(asignador.liberar(9));
+        assertFalse(asignador.liberar(21));
+    }
+    
+    @Test
+    void elContadorNoDesbordaEnElExtremoDelRango() {
+        int maximo = Integer.MAX_VALUE - 1;
+        AsignadorPID asignador = new AsignadorPID(maximo - 1, maximo);
+        assertEquals(maximo - 1, asignador.asignar());
+        assertEquals(maximo, asignador.asignar());
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, asignador::asignar);
+        }
+        assertEquals(Integer.MAX_VALUE, asignador.getSiguientePID());
+        assertTrue(asignador.liberar(maximo));
+        assertEquals(maximo, asignador.asignar());
+    }
+    
+    @Test
+    void ampliarConservaContadorYLiberados() {
+        AsignadorPID asignador = new AsignadorPID(10, 12);
+        asignador.asignar();
+        asignador.asignar();
+        asignador.asignar();
+        asignador.liberar(11);
+        
+        AsignadorPID ampliado = asignador.ampliar(14);
+        assertEquals(13, ampliado.getSiguientePID());
+        assertEquals(3, ampliado.getPIDsDisponibles());
+        assertEquals(13, ampliado.asignar());
+        assertEquals(14, ampliado.asignar());
+        assertEquals(11, ampliado.asignar());
+        assertThrows(IllegalArgumentException.class, () -> ampliado.ampliar(13));
+    }
+    
+    @Test
+    void hilosConcurrentesNoRecibenPIDsRepetidos() throws InterruptedException {
+        final int hilos = 8;
+        final int porHilo = 5_000;
+        final AsignadorPID asignador = new AsignadorPID(1, hilos * porHilo / 2 + hilos);
+        final ConcurrentHashMap<Integer, Boolean> enUso = new ConcurrentHashMap<>();
+        final AtomicInteger repetidos = new AtomicInteger();
+        final CountDownLatch salida = new CountDownLatch(1);
+        List<Thread> trabajadores = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            Thread hilo = new Thread(() -> {
+                try {
+                    salida.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // Cada hilo libera la mitad de lo que asigna: el rango solo alcanza reutilizando.
+                // Sobra un PID por hilo para el que cada uno tiene en uso antes de liberarlo
+                for (int i = 0; i < porHilo; i++) {
+                    int pid = asignador.asignar();
+                    if (enUso.putIfAbsent(pid, Boolean.TRUE) != null) {
+                        repetidos.incrementAndGet();
+                    }
+                    if (i % 2 == 0) {
+                        enUso.remove(pid);
+                        asignador.liberar(pid);
+                    }
+                }
+            });
+            trabajadores.add(hilo);
+            hilo.start();
+        }
+        salida.countDown();
+        for (Thread hilo : trabajadores) {
+            hilo.join();
+        }
+        assertEquals(0, repetidos.get());
+        assertEquals(hilos * porHilo / 2, enUso.size());
+        assertEquals(hilos, asignador.getPIDsDisponibles());
+    }
+}
@@ -0,0 +1,58 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la cola acotada: capacidad, orden FIFO y vueltas del arreglo.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class ColaAcotadaTest {
+    
+    @Test
+    void redondeaLaCapacidadAPotenciaDeDos() {
+        assertEquals(1, new ColaAcotada<Integer>(1).getCapacidad());
+        assertEquals(8, new ColaAcotada<Integer>(5).getCapacidad());
+        assertEquals(8, new ColaAcotada<Integer>(8).getCapacidad());
+        assertThrows(IllegalArgumentException.class, () -> new ColaAcotada<Integer>(0));
+    }
+    
+    @Test
+    void rechazaAlLlenarseYConservaElOrden() {
+        ColaAcotada<Integer> cola = new ColaAcotada<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(cola.ofrecer(i));
+        }
+        assertFalse(cola.ofrecer(4));
+        assertEquals(4, cola.getTamanoAproximado());
+        assertEquals(Integer.valueOf(0), cola.extraer());
+        assertTrue(cola.ofrecer(4));
+        
+        List<Integer> destino = new ArrayList<>();
+        assertEquals(4, cola.drenar(destino, Integer.MAX_VALUE));
+        assertEquals(Arrays.asList(1, 2, 3, 4), destino);
+        assertNull(cola.extraer());
+        assertTrue(cola.estaVacia());
+    }
+    
+    @Test
+    void daVariasVueltasAlArreglo() {
+        ColaAcotada<Integer> cola = new ColaAcotada<>(2);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cola.ofrecer(i));
+            assertEquals(Integer.valueOf(i), cola.extraer());
+        }
+        assertTrue(cola.estaVacia());
+    }
+}
@@ -0,0 +1,123 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la cola de listos con cada política: orden de extracción,
+ * desempate por llegada, cambio de política y reubicación.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class ColaListosTest {
+    private Proceso corto;
+    private Proceso medio;
+    private Proceso largo;
+    
+    @BeforeEach
+    void prepararProcesos() {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+        Proceso.configurarPredictorTiempos(new PredictorTiempos()); // Estimaciones fijas
+        largo = new ProcesoES("largo", "Disco", 3);
+        corto = new ProcesoES("corto", "Disco", 1);
+        medio = new ProcesoES("medio", "Disco", 2);
+    }
+    
+    private static List<Proceso> extraerTodos(ColaListos cola) {
+        List<Proceso> orden = new ArrayList<>();
+        Proceso proceso;
+        while ((proceso = cola.extraerSiguiente()) != null) {
+            orden.add(proceso);
+        }
+        return orden;
+    }
+    
+    @Test
+    void fcfsRespetaElOrdenDeLlegada() {
+        ColaListos cola = new ColaListos(new PoliticaFCFS());
+        cola.insertar(largo);
+        cola.insertar(corto);
+        cola.insertar(medio);
+        assertSame(largo, cola.verSiguiente());
+        assertEquals(Arrays.asList(largo, corto, medio), extraerTodos(cola));
+        assertTrue(cola.estaVacia());
+        assertNull(cola.extraerSiguiente());
+    }
+    
+    @Test
+    void sjfExtraeElMasCortoPrimero() {
+        ColaListos cola = new ColaListos(new PoliticaSJF());
+        cola.insertarTodos(Arrays.asList(largo, corto, medio));
+        assertEquals(Arrays.asList(corto, medio, largo), cola.obtenerOrdenEjecucion());
+        assertEquals(3, cola.getTamano()); // obtenerOrdenEjecucion no consume la cola
+    }
+    
+    @Test
+    void prioridadDesempataPorLlegada() {
+        ColaListos cola = new ColaListos(new PoliticaPrioridad());
+        Proceso urgente = new ProcesoCPU("urgente", "Compilación");
+        urgente.setPrioridad(Proceso.PRIORIDAD_MAXIMA);
+        cola.insertarTodos(Arrays.asList(largo, corto, urgente, medio));
+        assertEquals(Arrays.asList(urgente, largo, corto, medio), extraerTodos(cola));
+    }
+    
+    @Test
+    void insertarTodosEnUnLoteGrandeMantieneElMonticulo() {
+        ColaListos cola = new ColaListos(new PoliticaSJF());
+        cola.insertar(medio);
+        List<Proceso> lote = new ArrayList<>();
+        for (int i = 10; i >= 1; i--) {
+            lote.add(new ProcesoES("es" + i, "Disco", i));
+        }
+        assertEquals(10, cola.insertarTodos(lote)); // Más que la cola actual: reconstruye en O(n)
+        int anterior = 0;
+        for (Proceso proceso : extraerTodos(cola)) {
+            assertTrue(proceso.obtenerTiempoEstimado() >= anterior);
+            anterior = proceso.obtenerTiempoEstimado();
+        }
+    }
+    
+    @Test
+    void cambiarLaPoliticaReordenaYConservaLaLlegada() {
+        ColaListos cola = new ColaListos(new PoliticaSJF());
+        cola.insertarTodos(Arrays.asList(largo, corto, medio));
+        cola.setPolitica(new PoliticaFCFS());
+        assertEquals(Arrays.asList(largo, corto, medio), cola.obtenerOrdenEjecucion());
+        cola.setPolitica(new PoliticaRoundRobin(50));
+        assertEquals(Arrays.asList(largo, corto, medio), cola.obtenerOrdenEjecucion());
+    }
+    
+    @Test
+    void reubicarAplicaUnaPrioridadNueva() {
+        ColaListos cola = new ColaListos(new PoliticaPrioridad());
+        cola.insertarTodos(Arrays.asList(largo, corto, medio));
+        medio.setPrioridad(Proceso.PRIORIDAD_MAXIMA);
+        assertTrue(cola.reubicar(medio));
+        assertEquals(Arrays.asList(medio, largo, corto), cola.obtenerOrdenEjecucion());
+        assertFalse(cola.reubicar(new ProcesoCPU("ajeno", "Compilación")));
+    }
+    
+    @Test
+    void retirarQuitaSoloLosIndicados() {
+        ColaListos cola = new ColaListos(new PoliticaSJF());
+        cola.insertarTodos(Arrays.asList(largo, corto, medio));
+        Set<Proceso> retirados = Collections.newSetFromMap(new IdentityHashMap<Proceso, Boolean>());
+        retirados.add(corto);
+        assertEquals(1, cola.retirar(retirados));
+        assertEquals(Arrays.asList(medio, largo), extraerTodos(cola));
+    }
+}
@@ -0,0 +1,175 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Pruebas del diario: lo anotado por un planificador se reconstruye en otro,
+ * y un final dañado se descarta sin perder las entradas anteriores.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class DiarioPlanificadorTest {
+    @TempDir
+    Path directorio;
+    
+    private Path archivo;
+    
+    @BeforeEach
+    void prepararAsignador() {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+        archivo = directorio.resolve("planificador.diario");
+    }
+    
+    @Test
+    void reproduceLosProcesosAgregados() throws IOException {
+        List<Proceso> originales = new ArrayList<>();
+        originales.add(new ProcesoCPU("calculo", "Compilación", 2));
+        originales.add(new ProcesoES("lectura", "Disco", 3));
+        originales.add(new ProcesoDemonio("vigia", "Monitor", 4));
+        originales.get(0).setAfinidad(1);
+        originales.get(1).setPresupuestoMs(800);
+        
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        DiarioPlanificador diario = new DiarioPlanificador(archivo);
+        planificador.setDiario(diario);
+        planificador.agregarProceso(originales.get(0));
+        planificador.agregarProcesos(originales.subList(1, 3));
+        diario.cerrar();
+        
+        PlanificadorProcesos restaurado = reiniciar();
+        List<Proceso> cola = restaurado.getColaProcesos();
+        assertEquals(3, cola.size());
+        for (int i = 0; i < originales.size(); i++) {
+            Proceso original = originales.get(i);
+            Proceso copia = cola.get(i);
+            assertEquals(original.getPid(), copia.getPid());
+            assertEquals(original.getNombre(), copia.getNombre());
+            assertEquals(original.obtenerTipoProceso(), copia.obtenerTipoProceso());
+            assertEquals(original.getPresupuestoMs(), copia.getPresupuestoMs());
+            assertEquals(original.getAfinidad(), copia.getAfinidad());
+        }
+        // Los PID reproducidos no vuelven a asignarse
+        assertTrue(new ProcesoCPU("nuevo", "Compilación").getPid() > originales.get(2).getPid());
+    }
+    
+    @Test
+    void reproduceRetiradosYLimpiezas() throws IOException {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        DiarioPlanificador diario = new DiarioPlanificador(archivo, DiarioPlanificador.Durabilidad.AGRUPADA, 1);
+        planificador.setDiario(diario);
+        planificador.agregarProceso(new ProcesoCPU("descartado", "Compilación"));
+        planificador.limpiarCola();
+        Proceso retirado = new ProcesoCPU("retirado", "Compilación");
+        Proceso queda = new ProcesoES("queda", "Disco");
+        planificador.agregarProceso(retirado);
+        planificador.agregarProceso(queda);
+        planificador.retirarProcesos(Collections.singletonList(retirado));
+        diario.cerrar();
+        
+        PlanificadorProcesos restaurado = reiniciar();
+        assertEquals(1, restaurado.getTamanoCola());
+        assertEquals(queda.getPid(), restaurado.getColaProcesos().get(0).getPid());
+        assertEquals("queda", restaurado.getColaProcesos().get(0).getNombre());
+    }
+    
+    @Test
+    void reproduceLosCambiosDePrioridad() throws IOException {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        Proceso previo = new ProcesoCPU("previo", "Compilación");
+        planificador.agregarProceso(previo);
+        Path punto = directorio.resolve("cola.pctl");
+        PuntoControl.guardar(planificador, punto);
+        
+        // Tras el punto de control: un proceso nuevo y cambios de los dos
+        DiarioPlanificador diario = new DiarioPlanificador(archivo);
+        planificador.setDiario(diario);
+        Proceso nuevo = new ProcesoES("nuevo", "Disco");
+        planificador.agregarProceso(nuevo);
+        assertTrue(planificador.cambiarPrioridad(nuevo.getPid(), Proceso.PRIORIDAD_MINIMA));
+        assertTrue(planificador.cambiarPrioridad(previo.getPid(), 0)); // Se acota a PRIORIDAD_MAXIMA
+        diario.cerrar();
+        
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+        PlanificadorProcesos restaurado = new PlanificadorProcesos();
+        new PuntoControl().restaurar(punto, restaurado);
+        DiarioPlanificador reabierto = new DiarioPlanificador(archivo);
+        try {
+            assertEquals(3, reabierto.reproducir(restaurado));
+        } finally {
+            reabierto.cerrar();
+        }
+        List<Proceso> cola = restaurado.getColaProcesos();
+        assertEquals(2, cola.size());
+        assertEquals(previo.getPid(), cola.get(0).getPid());
+        assertEquals(Proceso.PRIORIDAD_MAXIMA, cola.get(0).getPrioridad());
+        assertEquals(nuevo.getPid(), cola.get(1).getPid());
+        assertEquals(Proceso.PRIORIDAD_MINIMA, cola.get(1).getPrioridad());
+    }
+    
+    @Test
+    void descartaElFinalDanado() throws IOException {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        DiarioPlanificador diario = new DiarioPlanificador(archivo);
+        planificador.setDiario(diario);
+        planificador.agregarProceso(new ProcesoCPU("uno", "Compilación"));
+        planificador.agregarProceso(new ProcesoCPU("dos", "Compilación"));
+        diario.cerrar();
+        // Entrada a medio escribir, como tras un corte de luz
+        Files.write(archivo, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+        
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+        PlanificadorProcesos restaurado = new PlanificadorProcesos();
+        DiarioPlanificador reabierto = new DiarioPlanificador(archivo);
+        assertEquals(2, reabierto.reproducir(restaurado));
+        assertEquals(7, reabierto.getBytesDescartados());
+        assertEquals(2, restaurado.getTamanoCola());
+        
+        // Se sigue escribiendo a continuación de la última entrada válida
+        restaurado.setDiario(reabierto);
+        restaurado.agregarProceso(new ProcesoCPU("tres", "Compilación"));
+        reabierto.cerrar();
+        assertEquals(3, reiniciar().getTamanoCola());
+    }
+    
+    @Test
+    void rechazaReproducirUnDiarioYaAsociado() throws IOException {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        DiarioPlanificador diario = new DiarioPlanificador(archivo);
+        planificador.setDiario(diario);
+        try {
+            assertThrows(IllegalStateException.class, () -> diario.reproducir(planificador));
+        } finally {
+            diario.cerrar();
+        }
+    }
+    
+    /**
+     * Simula un reinicio: asignador nuevo y un planificador reconstruido desde el diario.
+     */
+    private PlanificadorProcesos reiniciar() throws IOException {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        DiarioPlanificador diario = new DiarioPlanificador(archivo);
+        try {
+            diario.reproducir(planificador);
+        } finally {
+            diario.cerrar();
+        }
+        return planificador;
+    }
+}
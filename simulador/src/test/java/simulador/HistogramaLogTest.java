@@ -0,0 +1,87 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas del histograma logarítmico: reparto en cubetas, límites de cada
+ * cubeta y cálculo de percentiles.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class HistogramaLogTest {
+    
+    @Test
+    void losValoresPequenosTienenCubetaPropia() {
+        for (int valor = 0; valor < 16; valor++) {
+            assertEquals(valor, HistogramaLog.indiceCubeta(valor));
+        }
+        assertEquals(16, HistogramaLog.indiceCubeta(16));
+        assertEquals(31, HistogramaLog.indiceCubeta(31));
+    }
+    
+    @Test
+    void cadaPotenciaDeDosSeDivideEnDieciseis() {
+        // De 32 a 63 cada cubeta abarca dos valores
+        assertEquals(32, HistogramaLog.indiceCubeta(32));
+        assertEquals(32, HistogramaLog.indiceCubeta(33));
+        assertEquals(33, HistogramaLog.indiceCubeta(34));
+        assertEquals(47, HistogramaLog.indiceCubeta(63));
+        assertEquals(48, HistogramaLog.indiceCubeta(64));
+        assertTrue(HistogramaLog.indiceCubeta(Long.MAX_VALUE) < HistogramaLog.TOTAL_CUBETAS);
+    }
+    
+    @Test
+    void elPercentilAcotaElValorConErrorMenorAlSietePorCiento() {
+        HistogramaLog histograma = new HistogramaLog();
+        for (long valor = 1; valor < 1_000_000_000L; valor = valor * 3 + 1) {
+            histograma.reiniciar();
+            histograma.registrar(valor);
+            long limite = histograma.obtenerPercentil(0.5);
+            assertTrue(limite >= valor, "límite " + limite + " para " + valor);
+            assertTrue(limite - valor < valor * 0.07 + 1, "límite " + limite + " para " + valor);
+        }
+    }
+    
+    @Test
+    void percentilesSobreUnaDistribucionUniforme() {
+        HistogramaLog histograma = new HistogramaLog();
+        for (int valor = 1; valor <= 1000; valor++) {
+            histograma.registrar(valor);
+        }
+        assertEquals(1000, histograma.getTotal());
+        assertEquals(1, histograma.obtenerPercentil(0));
+        assertEquals(511, histograma.obtenerPercentil(0.5));  // Cubeta 480-511
+        assertEquals(1023, histograma.obtenerPercentil(1));   // Cubeta 992-1023
+    }
+    
+    @Test
+    void sinDatosYValoresNegativos() {
+        HistogramaLog histograma = new HistogramaLog();
+        assertEquals(0, histograma.obtenerPercentil(0.99));
+        histograma.registrar(-5);
+        assertEquals(1, histograma.getTotal());
+        assertEquals(0, histograma.obtenerPercentil(0.5));
+        histograma.reiniciar();
+        assertEquals(0, histograma.getTotal());
+    }
+    
+    @Test
+    void registrarConteosEquivaleARegistrarUnoAUno() {
+        HistogramaLog unoAUno = new HistogramaLog();
+        long[] conteos = new long[HistogramaLog.TOTAL_CUBETAS];
+        for (long valor = 0; valor < 5000; valor += 7) {
+            unoAUno.registrar(valor);
+            conteos[HistogramaLog.indiceCubeta(valor)]++;
+        }
+        HistogramaLog porConteos = new HistogramaLog();
+        porConteos.registrarConteos(conteos);
+        assertEquals(unoAUno.getTotal(), porConteos.getTotal());
+        for (double fraccion : new double[] {0.1, 0.5, 0.9, 0.99}) {
+            assertEquals(unoAUno.obtenerPercentil(fraccion), porConteos.obtenerPercentil(fraccion));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la lista versionada: las instantáneas no ven cambios posteriores,
+ * tampoco cuando se piden mientras el escritor modifica la lista.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class ListaVersionadaTest {
+    
+    private static ListaVersionada<Integer> listaDe(int n) {
+        ListaVersionada<Integer> lista = new ListaVersionada<>();
+        for (int i = 0; i < n; i++) {
+            lista.add(i);
+        }
+        return lista;
+    }
+    
+    @Test
+    void laInstantaneaNoVeModificacionesPosteriores() {
+        ListaVersionada<Integer> lista = listaDe(5);
+        Instantanea<Integer> instantanea = lista.instantanea();
+        
+        lista.set(0, 100);
+        lista.remove(1);
+        lista.add(200);
+        for (int i = 0; i < 40; i++) {
+            lista.add(i); // Obliga a crecer el arreglo
+        }
+        lista.clear();
+        
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), instantanea);
+        assertEquals(0, lista.size());
+    }
+    
+    @Test
+    void cadaInstantaneaConservaSuVersion() {
+        ListaVersionada<Integer> lista = listaDe(3);
+        Instantanea<Integer> primera = lista.instantanea();
+        lista.set(2, 20);
+        Instantanea<Integer> segunda = lista.instantanea();
+        lista.set(2, 30);
+        
+        assertEquals(Arrays.asList(0, 1, 2), primera);
+        assertEquals(Arrays.asList(0, 1, 20), segunda);
+        assertEquals(Arrays.asList(0, 1, 30), lista);
+        assertEquals(1, segunda.getVersion() - primera.getVersion());
+    }
+    
+    @Test
+    void laInstantaneaEsInmutable() {
+        Instantanea<Integer> instantanea = listaDe(2).instantanea();
+        assertThrows(UnsupportedOperationException.class, () -> instantanea.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> instantanea.add(1));
+    }
+    
+    @Test
+    void instantaneasConcurrentesConSetNoCambian() throws InterruptedException {
+        final int tamano = 8;
+        final ListaVersionada<Integer> lista = listaDe(tamano);
+        final AtomicBoolean terminar = new AtomicBoolean();
+        final AtomicReference<String> fallo = new AtomicReference<>();
+        Runnable lectura = () -> {
+            Integer[] leidos = new Integer[tamano];
+            while (!terminar.get()) {
+                Instantanea<Integer> instantanea = lista.instantanea();
+                for (int i = 0; i < tamano; i++) {
+                    leidos[i] = instantanea.get(i);
+                }
+                Thread.yield(); // Deja avanzar al escritor antes de volver a leer
+                for (int i = 0; i < tamano; i++) {
+                    if (!leidos[i].equals(instantanea.get(i))) {
+                        fallo.compareAndSet(null, "La instantánea " + instantanea.getVersion() + " cambió en " + i);
+                    }
+                }
+            }
+        };
+        Thread[] lectores = new Thread[Math.max(2, Runtime.getRuntime().availableProcessors() - 1)];
+        for (int l = 0; l < lectores.length; l++) {
+            lectores[l] = new Thread(lectura);
+            lectores[l].start();
+        }
+        // Un único escritor, como exige la lista
+        for (int ronda = 0; ronda < 2_000_000 && fallo.get() == null; ronda++) {
+            lista.set(ronda % tamano, ronda);
+        }
+        terminar.set(true);
+        for (Thread lector : lectores) {
+            lector.join();
+        }
+        assertNull(fallo.get(), fallo.get());
+    }
+}
@@ -0,0 +1,126 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la cola multinivel, solo y ejecutada por el planificador, con
+ * procesos de unidades cortas para que cada prueba dure milisegundos.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class PlanificadorMLFQTest {
+    
+    /**
+     * Proceso cuyas unidades duermen unos milisegundos.
+     */
+    private static final class ProcesoPasos extends Proceso {
+        private final int unidades;
+        private final int msPorUnidad;
+        
+        ProcesoPasos(String nombre, int unidades, int msPorUnidad) {
+            super(nombre);
+            this.unidades = unidades;
+            this.msPorUnidad = msPorUnidad;
+        }
+        
+        @Override
+        public void ejecutar() {
+            ejecutarPaso(0);
+        }
+        
+        @Override
+        protected boolean ejecutarUnidad(int unidad) {
+            try {
+                Thread.sleep(msPorUnidad);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        
+        @Override
+        public String obtenerTipoProceso() {
+            return "Pasos";
+        }
+        
+        @Override
+        public int obtenerTiempoEjecucion() {
+            return unidades * msPorUnidad;
+        }
+        
+        @Override
+        public int obtenerUnidadesTrabajo() {
+            return unidades;
+        }
+        
+        @Override
+        public int obtenerTiempoCPUPorUnidad() {
+            return msPorUnidad;
+        }
+    }
+    
+    @BeforeEach
+    void prepararAsignador() {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+    }
+    
+    @Test
+    void completaTodosEnElOrdenEnQueSeAgregaron() {
+        PlanificadorMLFQ mlfq = new PlanificadorMLFQ(new int[] {5, 20}, 10_000);
+        List<Proceso> procesos = new ArrayList<>();
+        procesos.add(new ProcesoPasos("largo", 4, 5));
+        procesos.add(new ProcesoPasos("corto", 1, 2));
+        procesos.add(new ProcesoPasos("medio", 2, 3));
+        for (Proceso proceso : procesos) {
+            mlfq.agregar(proceso);
+        }
+        assertEquals(3, mlfq.getTamanoNivel(0));
+        
+        List<ResultadoEjecucion> resultados = mlfq.ejecutar(2);
+        assertEquals(3, resultados.size());
+        for (int i = 0; i < procesos.size(); i++) {
+            assertEquals(procesos.get(i).getPid(), resultados.get(i).getPid());
+            assertTrue(resultados.get(i).isCompletado());
+        }
+        assertTrue(mlfq.getDegradaciones() >= 1); // El largo agota el quantum del nivel 0
+        assertEquals(0, mlfq.getTamano());
+    }
+    
+    @Test
+    void laBajaPrioridadEntraEnElUltimoNivel() {
+        PlanificadorMLFQ mlfq = new PlanificadorMLFQ();
+        Proceso fondo = new ProcesoPasos("fondo", 1, 1);
+        fondo.setPrioridad(Proceso.PRIORIDAD_MINIMA);
+        mlfq.agregar(fondo);
+        mlfq.agregar(new ProcesoPasos("normal", 1, 1));
+        assertEquals(1, mlfq.getTamanoNivel(0));
+        assertEquals(1, mlfq.getTamanoNivel(mlfq.getNumeroNiveles() - 1));
+    }
+    
+    @Test
+    void elPlanificadorCuentaLosProcesosEnVuelo() {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        for (int i = 0; i < 3; i++) {
+            planificador.agregarProceso(new ProcesoPasos("paso" + i, 3, 10));
+        }
+        planificador.ejecutarTodosProcesosPorTurnos(10, 3);
+        assertTrue(planificador.getMaximoProcesosEnVuelo() > 1);
+        
+        // Un solo trabajador: el máximo del lote anterior no debe arrastrarse
+        List<ResultadoEjecucion> resultados = planificador.ejecutarTodosProcesosMLFQ(
+                new PlanificadorMLFQ(new int[] {10, 20}, 10_000), 1);
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.get(2).isCompletado());
+        assertEquals(1, planificador.getMaximoProcesosEnVuelo());
+        assertEquals(0, planificador.getProcesosEnVuelo());
+    }
+}
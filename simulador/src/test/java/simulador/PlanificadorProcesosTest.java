@@ -0,0 +1,103 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas del planificador que no necesitan ejecutar procesos reales.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class PlanificadorProcesosTest {
+    
+    @BeforeEach
+    void prepararAsignador() {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+        Proceso.configurarPredictorTiempos(new PredictorTiempos());
+    }
+    
+    @Test
+    void retirarProcesosActualizaEstadisticasYLiberaPIDs() {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        Proceso corto = new ProcesoCPU("corto", "Compilación", 1);
+        Proceso largo = new ProcesoCPU("largo", "Compilación", 8);
+        Proceso es = new ProcesoES("lectura", "Disco", 2);
+        planificador.agregarProcesos(Arrays.asList(corto, largo, es));
+        AsignadorPID asignador = Proceso.getAsignadorPID();
+        int disponibles = asignador.getPIDsDisponibles();
+        
+        planificador.retirarProcesos(Collections.singletonList(largo));
+        
+        assertEquals(2, planificador.getTamanoCola());
+        assertFalse(planificador.getColaProcesos().contains(largo));
+        assertEquals(disponibles + 1, asignador.getPIDsDisponibles());
+        EstadisticasCola estadisticas = planificador.getEstadisticas();
+        assertEquals(2, estadisticas.getEstimados().getCantidad());
+        assertEquals(2, estadisticas.getHistogramaEstimados().getTotal());
+        long suma = corto.obtenerTiempoEstimado() + es.obtenerTiempoEstimado();
+        assertEquals(suma, estadisticas.getEstimados().getSuma());
+        assertEquals((int) (suma / 2), planificador.obtenerTiempoPromedioCola());
+        assertEquals(1, estadisticas.getEstimadosPorTipo().get(corto.obtenerTipoProceso()).getCantidad());
+    }
+    
+    @Test
+    void retirarTodosDejaLaColaVacia() {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        List<Proceso> procesos = Arrays.<Proceso>asList(new ProcesoCPU("a", "Compilación"),
+                                                        new ProcesoES("b", "Disco"));
+        planificador.agregarProcesos(procesos);
+        planificador.retirarProcesos(procesos);
+        assertEquals(0, planificador.getTamanoCola());
+        assertTrue(planificador.obtenerOrdenEjecucion().isEmpty());
+        assertEquals(0, planificador.getEstadisticas().getEstimados().getCantidad());
+        assertEquals(0, planificador.obtenerTiempoPromedioCola());
+    }
+    
+    @Test
+    void losEstimadosDeLaColaSiguenAlPredictor() {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        Proceso proceso = new ProcesoCPU("a", "Compilación", 1);
+        planificador.agregarProceso(proceso);
+        assertEquals(proceso.obtenerTiempoEjecucion(), planificador.obtenerTiempoPromedioCola());
+        
+        // Lo aprendido después de agregar el proceso se refleja en la cola
+        int aprendido = proceso.obtenerTiempoEjecucion() * 3;
+        Proceso.getPredictorTiempos().registrar(proceso, aprendido);
+        assertEquals(aprendido, planificador.obtenerTiempoPromedioCola());
+        EstadisticasCola estadisticas = planificador.getEstadisticas();
+        assertEquals(1, estadisticas.getEstimados().getCantidad());
+        assertEquals(aprendido, estadisticas.getEstimados().getMaximo());
+        assertEquals(aprendido, estadisticas.getEstimadosPorTipo().get(proceso.obtenerTipoProceso()).getSuma());
+    }
+    
+    @Test
+    void losDemoniosProgramadosSalenDeLosLotes() {
+        PlanificadorProcesos planificador = new PlanificadorProcesos();
+        ProcesoDemonio demonio = new ProcesoDemonio("vigia", "Monitor", 1000);
+        Proceso calculo = new ProcesoCPU("a", "Compilación");
+        planificador.agregarProcesos(Arrays.asList(demonio, calculo));
+        TemporizadorDemonios temporizador = new TemporizadorDemonios();
+        try {
+            assertEquals(1, planificador.programarDemonios(temporizador, 60_000));
+            assertEquals(Collections.singletonList(calculo), planificador.obtenerOrdenEjecucion());
+            assertEquals(1, planificador.getEstadisticas().getEstimados().getCantidad());
+            assertEquals(1, temporizador.getDemoniosProgramados());
+            
+            // La cancelación alcanza al demonio en el temporizador
+            assertTrue(planificador.cancelarProceso(demonio.getPid()));
+            assertEquals(0, temporizador.getDemoniosProgramados());
+            assertFalse(planificador.cancelarProceso(demonio.getPid()));
+        } finally {
+            temporizador.cerrar();
+        }
+    }
+}
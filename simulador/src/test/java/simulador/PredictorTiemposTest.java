@@ -0,0 +1,70 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas del predictor de tiempos: promedio exponencial por tipo y
+ * descriptor, escalado por unidades de trabajo.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class PredictorTiemposTest {
+    
+    @BeforeEach
+    void prepararAsignador() {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+    }
+    
+    @Test
+    void sinMedicionesUsaLaEstimacionFija() {
+        PredictorTiempos predictor = new PredictorTiempos();
+        Proceso proceso = new ProcesoCPU("a", "Compilación", 3);
+        assertEquals(proceso.obtenerTiempoEjecucion(), predictor.predecir(proceso));
+        assertEquals(0, predictor.getMuestras());
+    }
+    
+    @Test
+    void aprendeConPromedioExponencial() {
+        PredictorTiempos predictor = new PredictorTiempos(64, 0.5);
+        Proceso proceso = new ProcesoCPU("a", "Compilación", 1);
+        predictor.registrar(proceso, 100);
+        assertEquals(100, predictor.predecir(proceso));
+        predictor.registrar(proceso, 300);
+        assertEquals(200, predictor.predecir(proceso));
+        assertEquals(2, predictor.getMuestras());
+    }
+    
+    @Test
+    void escalaPorUnidadesYSeparaDescriptores() {
+        PredictorTiempos predictor = new PredictorTiempos(64, 1.0);
+        Proceso corto = new ProcesoCPU("corto", "Compilación", 1);
+        Proceso largo = new ProcesoCPU("largo", "Compilación", 4);
+        Proceso otro = new ProcesoCPU("otro", "Render", 1);
+        predictor.registrar(corto, 50 * corto.obtenerUnidadesTrabajo());
+        
+        assertEquals(50 * largo.obtenerUnidadesTrabajo(), predictor.predecir(largo));
+        assertEquals(otro.obtenerTiempoEjecucion(), predictor.predecir(otro));
+    }
+    
+    @Test
+    void reiniciarOlvidaLoAprendido() {
+        PredictorTiempos predictor = new PredictorTiempos();
+        Proceso proceso = new ProcesoCPU("a", "Compilación", 1);
+        predictor.registrar(proceso, 12_345);
+        predictor.reiniciar();
+        assertEquals(proceso.obtenerTiempoEjecucion(), predictor.predecir(proceso));
+        assertEquals(0, predictor.getMuestras());
+    }
+    
+    @Test
+    void rechazaParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new PredictorTiempos(0, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new PredictorTiempos(16, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PredictorTiempos(16, 1.5));
+    }
+}
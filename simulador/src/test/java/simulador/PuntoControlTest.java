@@ -0,0 +1,111 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Pruebas del punto de control: guardar y restaurar conserva cada campo y el
+ * contador de PID, también leyendo por ventanas pequeñas, y un archivo
+ * dañado no toca la cola actual.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class PuntoControlTest {
+    @TempDir
+    Path directorio;
+    
+    private Path archivo;
+    private PlanificadorProcesos planificador;
+    private List<Proceso> originales;
+    
+    @BeforeEach
+    void prepararCola() {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+        archivo = directorio.resolve("cola.pctl");
+        originales = new ArrayList<>();
+        originales.add(new ProcesoCPU("cálculo", "Compilación", 3));
+        originales.add(new ProcesoES("lectura", "Disco", 4));
+        originales.add(new ProcesoDemonio("vigía", "Monitor", 7));
+        originales.add(new ProcesoCPU("enlazado", "Compilación", 1));
+        originales.get(1).setPrioridad(Proceso.PRIORIDAD_MAXIMA);
+        originales.get(2).setPresupuestoMs(1500);
+        originales.get(3).setAfinidad(2);
+        planificador = new PlanificadorProcesos();
+        planificador.agregarProcesos(originales);
+    }
+    
+    private void comprobarCola(List<Proceso> cola) {
+        assertEquals(originales.size(), cola.size());
+        for (int i = 0; i < originales.size(); i++) {
+            Proceso original = originales.get(i);
+            Proceso copia = cola.get(i);
+            assertEquals(original.getPid(), copia.getPid());
+            assertEquals(original.getNombre(), copia.getNombre());
+            assertEquals(original.obtenerTipoProceso(), copia.obtenerTipoProceso());
+            assertEquals(TablaProcesos.descriptorDe(original), TablaProcesos.descriptorDe(copia));
+            assertEquals(TablaProcesos.parametroDe(original), TablaProcesos.parametroDe(copia));
+            assertEquals(original.getPrioridad(), copia.getPrioridad());
+            assertEquals(original.getPresupuestoMs(), copia.getPresupuestoMs());
+            assertEquals(original.getAfinidad(), copia.getAfinidad());
+        }
+    }
+    
+    @Test
+    void guardarYRestaurarConservaLaCola() throws IOException {
+        assertEquals(4, PuntoControl.guardar(planificador, archivo));
+        int siguiente = Proceso.getAsignadorPID().getSiguientePID();
+        
+        Proceso.configurarAsignadorPID(new AsignadorPID()); // Como tras reiniciar la JVM
+        PlanificadorProcesos restaurado = new PlanificadorProcesos();
+        assertEquals(4, new PuntoControl().restaurar(archivo, restaurado));
+        comprobarCola(restaurado.getColaProcesos());
+        assertEquals(siguiente, Proceso.getAsignadorPID().getSiguientePID());
+        assertTrue(new ProcesoCPU("nuevo", "Compilación").getPid() > originales.get(3).getPid());
+    }
+    
+    @Test
+    void restaurarPorVentanasPequenas() throws IOException {
+        PuntoControl.guardar(planificador, archivo);
+        PlanificadorProcesos restaurado = new PlanificadorProcesos();
+        // Cada ventana admite uno o dos registros: obliga a releer los cortados
+        assertEquals(4, new PuntoControl(40).restaurar(archivo, restaurado));
+        comprobarCola(restaurado.getColaProcesos());
+    }
+    
+    @Test
+    void unArchivoTruncadoNoTocaLaCola() throws IOException {
+        PuntoControl.guardar(planificador, archivo);
+        byte[] bytes = Files.readAllBytes(archivo);
+        Files.write(archivo, Arrays.copyOf(bytes, bytes.length - 3));
+        
+        PlanificadorProcesos actual = new PlanificadorProcesos();
+        Proceso existente = new ProcesoCPU("existente", "Compilación");
+        actual.agregarProceso(existente);
+        AsignadorPID asignador = Proceso.getAsignadorPID();
+        assertThrows(IOException.class, () -> new PuntoControl().restaurar(archivo, actual));
+        assertEquals(1, actual.getTamanoCola());
+        assertSame(existente, actual.getColaProcesos().get(0));
+        assertSame(asignador, Proceso.getAsignadorPID());
+    }
+    
+    @Test
+    void rechazaUnArchivoAjeno() throws IOException {
+        Files.write(archivo, new byte[64]);
+        assertThrows(IOException.class, () -> new PuntoControl().restaurar(archivo, planificador));
+        assertEquals(originales.size(), planificador.getTamanoCola());
+    }
+}
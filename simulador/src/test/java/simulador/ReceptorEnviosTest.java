@@ -0,0 +1,163 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de admisión del receptor de envíos cuando se agota la capacidad.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class ReceptorEnviosTest {
+    private final List<Proceso> ejecutadosEnLlamador = new ArrayList<>();
+    
+    @BeforeEach
+    void prepararAsignador() {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+    }
+    
+    private ReceptorEnvios crear(int capacidad, ReceptorEnvios.Admision admision) {
+        return new ReceptorEnvios(capacidad, admision, ejecutadosEnLlamador::add);
+    }
+    
+    @Test
+    void rechazaAlAgotarLaCapacidad() {
+        ReceptorEnvios receptor = crear(2, ReceptorEnvios.Admision.RECHAZAR);
+        assertTrue(receptor.enviar(new ProcesoCPU("a", "Compilación")));
+        assertTrue(receptor.enviar(new ProcesoCPU("b", "Compilación")));
+        assertFalse(receptor.enviar(new ProcesoCPU("c", "Compilación")));
+        assertEquals(1, receptor.getRechazados());
+        assertEquals(2, receptor.getPendientes());
+        
+        List<Proceso> drenados = new ArrayList<>();
+        assertEquals(2, receptor.drenar(drenados));
+        assertEquals(0, receptor.getPendientes());
+        assertTrue(receptor.enviar(new ProcesoCPU("d", "Compilación")));
+    }
+    
+    @Test
+    void descartaElDemonioMasAntiguo() {
+        ReceptorEnvios receptor = crear(2, ReceptorEnvios.Admision.DESCARTAR_DEMONIO);
+        ProcesoDemonio demonio = new ProcesoDemonio("vigia", "Monitor");
+        Proceso primero = new ProcesoCPU("a", "Compilación");
+        Proceso segundo = new ProcesoCPU("b", "Compilación");
+        assertTrue(receptor.enviar(demonio));
+        assertTrue(receptor.enviar(primero));
+        assertTrue(receptor.enviar(segundo));
+        assertEquals(1, receptor.getDescartados());
+        // Sin demonios que descartar, el envío se rechaza
+        assertFalse(receptor.enviar(new ProcesoCPU("c", "Compilación")));
+        
+        List<Proceso> drenados = new ArrayList<>();
+        receptor.drenar(drenados);
+        assertEquals(2, drenados.size());
+        assertSame(primero, drenados.get(0));
+        assertSame(segundo, drenados.get(1));
+    }
+    
+    @Test
+    void ejecutaEnElLlamadorSinOcuparLugar() {
+        ReceptorEnvios receptor = crear(1, ReceptorEnvios.Admision.EJECUTAR_EN_LLAMADOR);
+        Proceso encolado = new ProcesoCPU("a", "Compilación");
+        Proceso desbordado = new ProcesoCPU("b", "Compilación");
+        assertTrue(receptor.enviar(encolado));
+        assertTrue(receptor.enviar(desbordado));
+        assertEquals(1, receptor.getEjecutadosEnLlamador());
+        assertEquals(1, ejecutadosEnLlamador.size());
+        assertSame(desbordado, ejecutadosEnLlamador.get(0));
+        assertEquals(1, receptor.getPendientes());
+    }
+    
+    @Test
+    void bloqueaHastaQueSeDrena() throws InterruptedException {
+        final ReceptorEnvios receptor = crear(1, ReceptorEnvios.Admision.BLOQUEAR);
+        assertTrue(receptor.enviar(new ProcesoCPU("a", "Compilación")));
+        final AtomicBoolean admitido = new AtomicBoolean();
+        Thread productor = new Thread(() -> admitido.set(receptor.enviar(new ProcesoCPU("b", "Compilación"))));
+        productor.start();
+        esperarBloqueo(receptor);
+        assertTrue(productor.isAlive());
+        
+        List<Proceso> drenados = new ArrayList<>();
+        receptor.drenar(drenados);
+        productor.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(productor.isAlive());
+        assertTrue(admitido.get());
+        assertEquals(1, receptor.getPendientes());
+    }
+    
+    @Test
+    void unReceptorRetiradoReenviaAlSucesor() throws InterruptedException {
+        final ReceptorEnvios anterior = crear(1, ReceptorEnvios.Admision.BLOQUEAR);
+        ReceptorEnvios sucesor = crear(4, ReceptorEnvios.Admision.RECHAZAR);
+        assertTrue(anterior.enviar(new ProcesoCPU("a", "Compilación")));
+        final AtomicBoolean admitido = new AtomicBoolean();
+        Thread productor = new Thread(() -> admitido.set(anterior.enviar(new ProcesoCPU("b", "Compilación"))));
+        productor.start();
+        esperarBloqueo(anterior);
+        
+        anterior.retirar(sucesor);
+        productor.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(productor.isAlive());
+        assertTrue(admitido.get());
+        assertTrue(anterior.enviar(new ProcesoCPU("c", "Compilación")));
+        assertEquals(1, anterior.getPendientes()); // Lo que ya esperaba se queda para drenarlo
+        assertEquals(2, sucesor.getPendientes());
+    }
+    
+    @Test
+    void cambiarLaConfiguracionNoPierdeEnvios() throws InterruptedException {
+        final PlanificadorProcesos planificador = new PlanificadorProcesos();
+        planificador.configurarEnvios(2, ReceptorEnvios.Admision.BLOQUEAR);
+        final int porProductor = 200;
+        List<Thread> productores = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            Thread productor = new Thread(() -> {
+                for (int i = 0; i < porProductor; i++) {
+                    planificador.enviarProceso(new ProcesoCPU("p", "Compilación"));
+                }
+            });
+            productores.add(productor);
+            productor.start();
+        }
+        // Solo el hilo dueño drena y reconfigura, como exige el planificador
+        for (int cambio = 0; hayVivos(productores); cambio++) {
+            planificador.drenarEnvios();
+            if (cambio % 50 == 0) {
+                planificador.configurarEnvios(1 + cambio % 3, ReceptorEnvios.Admision.BLOQUEAR);
+            }
+            Thread.yield();
+        }
+        planificador.drenarEnvios();
+        assertEquals(4 * porProductor, planificador.getTamanoCola());
+    }
+    
+    private static boolean hayVivos(List<Thread> hilos) {
+        for (Thread hilo : hilos) {
+            if (hilo.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static void esperarBloqueo(ReceptorEnvios receptor) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (receptor.getBloqueos() == 0 && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, receptor.getBloqueos());
+        Thread.sleep(20); // Da tiempo a que el productor quede esperando
+    }
+}
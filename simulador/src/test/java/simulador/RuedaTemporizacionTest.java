@@ -0,0 +1,106 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la rueda de temporización: vencimientos exactos en todos los
+ * niveles, bajada de entradas entre niveles y cancelación.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class RuedaTemporizacionTest {
+    
+    /**
+     * Avanza tick a tick y anota en qué tick vence cada entrada.
+     */
+    private static List<long[]> avanzarHasta(RuedaTemporizacion rueda, long hasta) {
+        List<long[]> vencimientos = new ArrayList<>();
+        List<RuedaTemporizacion.Entrada> vencidas = new ArrayList<>();
+        for (long tick = rueda.getSiguienteTick(); tick <= hasta; tick++) {
+            rueda.avanzar(tick, vencidas);
+            for (RuedaTemporizacion.Entrada entrada : vencidas) {
+                vencimientos.add(new long[] {((Marcada) entrada).previsto, tick});
+            }
+            vencidas.clear();
+        }
+        return vencimientos;
+    }
+    
+    private static final class Marcada extends RuedaTemporizacion.Entrada {
+        private final long previsto;
+        
+        Marcada(long previsto) {
+            this.previsto = previsto;
+        }
+    }
+    
+    @Test
+    void venceEnElTickExactoEnTodosLosNiveles() {
+        RuedaTemporizacion rueda = new RuedaTemporizacion(0);
+        // Un vencimiento en cada nivel y justo en los bordes entre niveles
+        long[] ticks = {0, 1, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 300_000};
+        for (long tick : ticks) {
+            rueda.programar(new Marcada(tick), tick);
+        }
+        assertEquals(ticks.length, rueda.getTamano());
+        
+        List<long[]> vencimientos = avanzarHasta(rueda, 300_000);
+        assertEquals(ticks.length, vencimientos.size());
+        for (int i = 0; i < ticks.length; i++) {
+            assertEquals(ticks[i], vencimientos.get(i)[0]);
+            assertEquals(ticks[i], vencimientos.get(i)[1]);
+        }
+        assertEquals(0, rueda.getTamano());
+    }
+    
+    @Test
+    void respetaElTickInicialYLosVencimientosPasados() {
+        RuedaTemporizacion rueda = new RuedaTemporizacion(1000);
+        Marcada pasada = new Marcada(1000);
+        rueda.programar(pasada, 10); // Ya pasó: vence en el próximo tick
+        rueda.programar(new Marcada(1100), 1100);
+        List<long[]> vencimientos = avanzarHasta(rueda, 1200);
+        assertEquals(2, vencimientos.size());
+        assertEquals(1000, vencimientos.get(0)[1]);
+        assertEquals(1100, vencimientos.get(1)[1]);
+    }
+    
+    @Test
+    void mantieneVencimientosMasAllaDelAlcance() {
+        RuedaTemporizacion rueda = new RuedaTemporizacion(0);
+        long lejano = (1L << 24) + 5; // Más allá de los cuatro niveles
+        rueda.programar(new Marcada(lejano), lejano);
+        List<RuedaTemporizacion.Entrada> vencidas = new ArrayList<>();
+        rueda.avanzar(lejano - 1, vencidas);
+        assertTrue(vencidas.isEmpty());
+        rueda.avanzar(lejano, vencidas);
+        assertEquals(1, vencidas.size());
+    }
+    
+    @Test
+    void cancelarQuitaLaEntrada() {
+        RuedaTemporizacion rueda = new RuedaTemporizacion(0);
+        Marcada cancelada = new Marcada(5000);
+        Marcada queda = new Marcada(5000);
+        rueda.programar(cancelada, 5000);
+        rueda.programar(queda, 5000);
+        assertTrue(rueda.cancelar(cancelada));
+        assertFalse(rueda.cancelar(cancelada));
+        assertFalse(cancelada.estaProgramada());
+        
+        List<long[]> vencimientos = avanzarHasta(rueda, 5000);
+        assertEquals(1, vencimientos.size());
+        // Una entrada cancelada puede volver a programarse; una programada no
+        rueda.programar(cancelada, 6000);
+        assertThrows(IllegalStateException.class, () -> rueda.programar(cancelada, 7000));
+    }
+}
@@ -0,0 +1,95 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas del simulador de eventos discretos. Los tiempos virtuales son
+ * exactos, así que cada prueba comprueba los instantes calculados a mano:
+ * un ProcesoCPU de intensidad i ocupa la CPU i * (200 + 50 i) ms y un
+ * ProcesoES se bloquea 400 ms por operación sin usar la CPU.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class SimuladorEventosTest {
+    private Proceso ligero;  // 250 ms de CPU
+    private Proceso pesado;  // 600 ms de CPU
+    
+    @BeforeEach
+    void prepararProcesos() {
+        Proceso.configurarAsignadorPID(new AsignadorPID());
+        Proceso.configurarPredictorTiempos(new PredictorTiempos());
+        ligero = new ProcesoCPU("ligero", "Compilación", 1);
+        pesado = new ProcesoCPU("pesado", "Compilación", 2);
+    }
+    
+    @Test
+    void fcfsAtiendePorOrdenDeLlegada() {
+        ResultadoSimulacion resultado = new SimuladorEventos(new PoliticaFCFS())
+                .simular(Arrays.asList(pesado, ligero));
+        assertEquals(2, resultado.getNumeroProcesos());
+        assertEquals(pesado.getPid(), resultado.getPid(0));
+        assertEquals(600, resultado.getTiempoRetorno(0));
+        assertEquals(850, resultado.getTiempoRetorno(1));
+        assertEquals(600, resultado.getTiempoEspera(1));
+        assertEquals(850, resultado.getTiempoTotal());
+        assertEquals(1.0, resultado.getUtilizacionCPU(), 1e-9);
+        assertEquals("FCFS", resultado.getPolitica());
+    }
+    
+    @Test
+    void sjfAdelantaElProcesoMasCorto() {
+        ResultadoSimulacion resultado = new SimuladorEventos(new PoliticaSJF())
+                .simular(Arrays.asList(pesado, ligero));
+        assertEquals(850, resultado.getTiempoRetorno(0));
+        assertEquals(250, resultado.getTiempoRetorno(1));
+        assertEquals((850 + 250) / 2.0, resultado.getTiempoRetornoPromedio(), 1e-9);
+    }
+    
+    @Test
+    void roundRobinAlternaLosQuantums() {
+        ResultadoSimulacion resultado = new SimuladorEventos(new PoliticaRoundRobin(100))
+                .simular(Arrays.asList(pesado, ligero));
+        // pesado 0-100, ligero 100-200, pesado 200-300, ligero 300-400,
+        // pesado 400-500, ligero 500-550 y pesado hasta 850
+        assertEquals(100, resultado.getTiempoRespuesta(1));
+        assertEquals(550, resultado.getTiempoRetorno(1));
+        assertEquals(850, resultado.getTiempoRetorno(0));
+        assertEquals(850, resultado.getTiempoTotal());
+    }
+    
+    @Test
+    void laEntradaSalidaSolapaConLaCPU() {
+        Proceso disco = new ProcesoES("disco", "Disco", 1);
+        List<Proceso> procesos = Arrays.asList(disco, ligero, pesado);
+        ResultadoSimulacion resultado = new SimuladorEventos(new PoliticaFCFS()).simular(procesos);
+        assertEquals(400, resultado.getTiempoRetorno(0));
+        assertEquals(250, resultado.getTiempoRetorno(1));
+        assertEquals(850, resultado.getTiempoRetorno(2));
+        assertEquals(1.0, resultado.getUtilizacionCPU(), 1e-9);
+    }
+    
+    @Test
+    void llegadasTardiasDejanLaCPUOciosa() {
+        ResultadoSimulacion resultado = new SimuladorEventos(new PoliticaFCFS())
+                .simular(Arrays.asList(pesado, ligero), new long[] {0, 1000});
+        assertEquals(250, resultado.getTiempoRetorno(1));
+        assertEquals(0, resultado.getTiempoEspera(1));
+        assertEquals(1250, resultado.getTiempoTotal());
+        assertEquals(850.0 / 1250, resultado.getUtilizacionCPU(), 1e-9);
+    }
+    
+    @Test
+    void rechazaLlegadasQueNoCuadran() {
+        SimuladorEventos simulador = new SimuladorEventos(null);
+        assertThrows(IllegalArgumentException.class,
+                () -> simulador.simular(Arrays.asList(pesado, ligero), new long[1]));
+    }
+}
@@ -0,0 +1,60 @@
+package simulador;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la tabla columnar: filas nuevas y copiadas, materialización y
+ * devolución de los PID al limpiar.
+ * 
+ * @author Raquel Vega
+ * @version 1.0
+ */
+class TablaProcesosTest {
+    private AsignadorPID asignador;
+    
+    @BeforeEach
+    void prepararAsignador() {
+        asignador = new AsignadorPID();
+        Proceso.configurarAsignadorPID(asignador);
+    }
+    
+    @Test
+    void lasFilasCopianLosAtributos() {
+        TablaProcesos tabla = new TablaProcesos();
+        Proceso original = new ProcesoES("lectura", "Disco", 3);
+        int fila = tabla.agregar(original);
+        int nueva = tabla.agregarNuevo(TablaProcesos.TIPO_CPU, "calculo", "Compilación", 9);
+        
+        assertEquals(2, tabla.getTamano());
+        assertEquals(original.getPid(), tabla.getPid(fila));
+        assertEquals(TablaProcesos.TIPO_ES, tabla.getTipo(fila));
+        assertEquals((ProcesoES.estimarTiempo(3) + ProcesoCPU.estimarTiempo(5)) / 2,
+                     tabla.obtenerTiempoPromedio());
+        Proceso materializado = tabla.materializar(nueva);
+        assertEquals(tabla.getPid(nueva), materializado.getPid());
+        assertEquals(5, ((ProcesoCPU) materializado).getIntensidad()); // Intensidad acotada
+        assertEquals(1, tabla.contarPorTipo(TablaProcesos.TIPO_CPU));
+    }
+    
+    @Test
+    void limpiarLiberaSoloLosPIDPropios() {
+        TablaProcesos tabla = new TablaProcesos();
+        Proceso copiado = new ProcesoCPU("copiado", "Compilación");
+        tabla.agregar(copiado);
+        int propio = tabla.getPid(tabla.agregarNuevo(TablaProcesos.TIPO_ES, "propio", "Disco", 2));
+        int cedido = tabla.getPid(tabla.agregarNuevo(TablaProcesos.TIPO_DEMONIO, "cedido", "Monitor", 4));
+        Proceso materializado = tabla.materializar(2);
+        
+        tabla.limpiar();
+        assertEquals(0, tabla.getTamano());
+        assertFalse(asignador.liberar(propio)); // Ya lo liberó la tabla
+        assertTrue(asignador.liberar(copiado.getPid())); // Seguía siendo del proceso
+        assertTrue(asignador.liberar(cedido)); // Pasó al proceso materializado
+        assertEquals(cedido, materializado.getPid());
+    }
+}